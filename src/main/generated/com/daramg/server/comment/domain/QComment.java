@@ -24,8 +24,12 @@ public class QComment extends EntityPathBase<Comment> {
 
     public final com.daramg.server.common.domain.QBaseEntity _super = new com.daramg.server.common.domain.QBaseEntity(this);
 
+    public final NumberPath<Byte> aiReplyCount = createNumber("aiReplyCount", Byte.class);
+
     public final ListPath<Comment, QComment> childComments = this.<Comment, QComment>createList("childComments", Comment.class, QComment.class, PathInits.DIRECT2);
 
+    public final com.daramg.server.composer.domain.QComposer composer;
+
     public final StringPath content = createString("content");
 
     //inherited
@@ -34,16 +38,22 @@ public class QComment extends EntityPathBase<Comment> {
     //inherited
     public final NumberPath<Long> id = _super.id;
 
+    public final BooleanPath isAi = createBoolean("isAi");
+
     public final BooleanPath isBlocked = createBoolean("isBlocked");
 
     public final BooleanPath isDeleted = createBoolean("isDeleted");
 
+    public final NumberPath<Long> lastReplyId = createNumber("lastReplyId", Long.class);
+
     public final NumberPath<Integer> likeCount = createNumber("likeCount", Integer.class);
 
     public final QComment parentComment;
 
     public final com.daramg.server.post.domain.QPost post;
 
+    public final NumberPath<Integer> replyCount = createNumber("replyCount", Integer.class);
+
     //inherited
     public final DateTimePath<java.time.Instant> updatedAt = _super.updatedAt;
 
@@ -67,6 +77,7 @@ public class QComment extends EntityPathBase<Comment> {
 
     public QComment(Class<? extends Comment> type, PathMetadata metadata, PathInits inits) {
         super(type, metadata, inits);
+        this.composer = inits.isInitialized("composer") ? new com.daramg.server.composer.domain.QComposer(forProperty("composer")) : null;
         this.parentComment = inits.isInitialized("parentComment") ? new QComment(forProperty("parentComment"), inits.get("parentComment")) : null;
         this.post = inits.isInitialized("post") ? new com.daramg.server.post.domain.QPost(forProperty("post"), inits.get("post")) : null;
         this.user = inits.isInitialized("user") ? new com.daramg.server.user.domain.QUser(forProperty("user")) : null;
@@ -34,6 +34,8 @@ public class QComposerPost extends EntityPathBase<ComposerPost> {
 
     public final com.daramg.server.post.domain.QPost post;
 
+    public final DateTimePath<java.time.Instant> postCreatedAt = createDateTime("postCreatedAt", java.time.Instant.class);
+
     //inherited
     public final DateTimePath<java.time.Instant> updatedAt = _super.updatedAt;
 
@@ -26,6 +26,8 @@ public class QPost extends EntityPathBase<Post> {
 
     public final NumberPath<Integer> commentCount = createNumber("commentCount", Integer.class);
 
+    public final ListPath<com.daramg.server.composer.domain.ComposerPost, com.daramg.server.composer.domain.QComposerPost> composerPosts = this.<com.daramg.server.composer.domain.ComposerPost, com.daramg.server.composer.domain.QComposerPost>createList("composerPosts", com.daramg.server.composer.domain.ComposerPost.class, com.daramg.server.composer.domain.QComposerPost.class, PathInits.DIRECT2);
+
     public final StringPath content = createString("content");
 
     //inherited
@@ -48,8 +50,12 @@ public class QPost extends EntityPathBase<Post> {
 
     public final EnumPath<PostStatus> postStatus = createEnum("postStatus", PostStatus.class);
 
+    public final NumberPath<Long> primaryComposerId = createNumber("primaryComposerId", Long.class);
+
     public final StringPath title = createString("title");
 
+    public final EnumPath<PostType> type = createEnum("type", PostType.class);
+
     //inherited
     public final DateTimePath<java.time.Instant> updatedAt = _super.updatedAt;
 
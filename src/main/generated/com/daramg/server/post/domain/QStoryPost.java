@@ -27,6 +27,9 @@ public class QStoryPost extends EntityPathBase<StoryPost> {
     //inherited
     public final NumberPath<Integer> commentCount;
 
+    //inherited
+    public final ListPath<com.daramg.server.composer.domain.ComposerPost, com.daramg.server.composer.domain.QComposerPost> composerPosts;
+
     //inherited
     public final StringPath content;
 
@@ -57,11 +60,17 @@ public class QStoryPost extends EntityPathBase<StoryPost> {
     //inherited
     public final EnumPath<PostStatus> postStatus;
 
+    //inherited
+    public final NumberPath<Long> primaryComposerId;
+
     public final com.daramg.server.composer.domain.QComposer primaryComposer;
 
     //inherited
     public final StringPath title;
 
+    //inherited
+    public final EnumPath<PostType> type;
+
     //inherited
     public final DateTimePath<java.time.Instant> updatedAt;
 
@@ -94,6 +103,7 @@ public class QStoryPost extends EntityPathBase<StoryPost> {
         super(type, metadata, inits);
         this._super = new QPost(type, metadata, inits);
         this.commentCount = _super.commentCount;
+        this.composerPosts = _super.composerPosts;
         this.content = _super.content;
         this.createdAt = _super.createdAt;
         this.deletedAt = _super.deletedAt;
@@ -104,8 +114,10 @@ public class QStoryPost extends EntityPathBase<StoryPost> {
         this.isDeleted = _super.isDeleted;
         this.likeCount = _super.likeCount;
         this.postStatus = _super.postStatus;
+        this.primaryComposerId = _super.primaryComposerId;
         this.primaryComposer = inits.isInitialized("primaryComposer") ? new com.daramg.server.composer.domain.QComposer(forProperty("primaryComposer")) : null;
         this.title = _super.title;
+        this.type = _super.type;
         this.updatedAt = _super.updatedAt;
         this.user = _super.user;
         this.videoUrl = _super.videoUrl;
@@ -18,6 +18,7 @@ import com.daramg.server.post.domain.Post;
 import com.daramg.server.post.domain.PostStatus;
 import com.daramg.server.post.domain.StoryPost;
 import com.daramg.server.post.domain.CurationPost;
+import com.daramg.server.post.event.PostDetailChangedEvent;
 import com.daramg.server.post.repository.PostRepository;
 import com.daramg.server.user.domain.User;
 import com.daramg.server.user.repository.UserRepository;
@@ -25,6 +26,7 @@ import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -55,6 +57,7 @@ public class AiCommentService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final GeminiClient geminiClient;
+    private final ApplicationEventPublisher eventPublisher;
 
     private User botUser;
 
@@ -197,7 +200,11 @@ public class AiCommentService {
             Comment parentComment = managedJob.getParentComment();
             Comment comment = Comment.ofAi(managedJob.getPost(), getBotUser(), generatedText.strip(), parentComment, managedJob.getComposer());
             commentRepository.save(comment);
-            managedJob.getPost().incrementCommentCount();
+            if (parentComment != null) {
+                commentRepository.recordReply(parentComment.getId(), comment.getId());
+            }
+            postRepository.increaseCommentCount(managedJob.getPost().getId());
+            eventPublisher.publishEvent(new PostDetailChangedEvent(managedJob.getPost().getId()));
 
             managedJob.markDone();
             log.info("AI 댓글 생성 완료 - jobId={}", managedJob.getId());
@@ -280,6 +287,19 @@ public class AiCommentService {
         );
     }
 
+    /**
+     * 보통은 유저 답글이 마지막 대댓글이므로 lastReplyId 로 바로 찾고,
+     * 그 사이 AI 답글이 달린 경우에만 대댓글 인덱스로 최근 유저 답글 1건을 조회한다.
+     */
+    private Optional<Comment> findLastUserReply(Comment parent) {
+        if (parent.getLastReplyId() == null) {
+            return Optional.empty();
+        }
+        return commentRepository.findById(parent.getLastReplyId())
+                .filter(lastReply -> !lastReply.isAi() && !lastReply.isDeleted())
+                .or(() -> commentRepository.findLastUserReply(parent.getId()));
+    }
+
     private String buildUserPrompt(AiCommentJob job) {
         String base = String.format(
                 "게시물 제목: %s\n게시물 내용: %s",
@@ -289,9 +309,7 @@ public class AiCommentService {
 
         if (job.getTriggerType() == AiCommentJobTriggerType.USER_REPLY && job.getParentComment() != null) {
             Comment parent = job.getParentComment();
-            String lastUserReply = parent.getChildComments().stream()
-                    .filter(c -> !c.isAi() && !c.isDeleted())
-                    .reduce((first, second) -> second)
+            String lastUserReply = findLastUserReply(parent)
                     .map(Comment::getContent)
                     .orElse("");
 
@@ -3,6 +3,7 @@ package com.daramg.server.auth.application;
 import com.daramg.server.auth.dto.TokenResponseDto;
 import com.daramg.server.auth.exception.AuthErrorStatus;
 import com.daramg.server.auth.util.JwtUtil;
+import com.daramg.server.auth.util.VerifiedTokenCache;
 import com.daramg.server.common.application.S3ImageService;
 import com.daramg.server.common.exception.BusinessException;
 import com.daramg.server.user.domain.User;
@@ -11,22 +12,26 @@ import com.daramg.server.auth.dto.LoginRequestDto;
 import com.daramg.server.auth.dto.PasswordRequestDto;
 import com.daramg.server.auth.dto.SignupRequestDto;
 import com.daramg.server.user.domain.UserStatus;
+import com.daramg.server.user.event.UserStateChangedEvent;
 import com.daramg.server.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 비밀번호 해싱/검증은 전용 스레드 풀을 기다릴 수 있으므로 트랜잭션 밖에서 수행하고,
+ * 쓰기가 필요한 경우에만 해싱이 끝난 뒤 짧은 트랜잭션을 연다.
+ */
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class AuthService {
 
@@ -38,6 +43,9 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final RedisTemplate<String, String> redisTemplate;
     private final S3ImageService s3ImageService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     public void signup(SignupRequestDto dto, MultipartFile image){
         if (userRepository.existsByEmail(dto.getEmail())) {
@@ -94,11 +102,7 @@ public class AuthService {
     }
 
     public TokenResponseDto refreshAccessToken(String refreshToken) {
-        if (!jwtTokenProvider.validateRefreshToken(refreshToken)) {
-            throw new BusinessException(AuthErrorStatus.INVALID_TOKEN_EXCEPTION);
-        }
-
-        String userEmail = jwtTokenProvider.getUserEmail(refreshToken);
+        String userEmail = jwtTokenProvider.getRefreshTokenSubject(refreshToken);
         String originRefreshToken = redisTemplate.opsForValue().get(userEmail);
 
         if (originRefreshToken == null || !originRefreshToken.equals(refreshToken)) {
@@ -114,6 +118,7 @@ public class AuthService {
 
     public void logout(User user){
         redisTemplate.delete(user.getEmail());
+        verifiedTokenCache.invalidateUser(user.getId());
     }
 
     public void signOut(User user, com.daramg.server.user.dto.PasswordRequestDto request){
@@ -121,7 +126,14 @@ public class AuthService {
             throw new BusinessException(AuthErrorStatus.INVALID_PASSWORD);
         }
         redisTemplate.delete(user.getEmail());
-        user.withdraw();
+        verifiedTokenCache.invalidateUser(user.getId());
+        transactionTemplate.executeWithoutResult(status -> {
+            // 인자로 받은 유저는 캐시에서 공유되는 준영속 엔티티일 수 있으므로 영속 엔티티를 변경한다
+            User managedUser = userRepository.findById(user.getId())
+                    .orElseThrow(() -> new BusinessException(AuthErrorStatus.USER_NOT_FOUND_EXCEPTION));
+            managedUser.withdraw();
+            eventPublisher.publishEvent(new UserStateChangedEvent(user.getId()));
+        });
     }
 
     public void resetPassword(PasswordRequestDto dto){
@@ -129,12 +141,12 @@ public class AuthService {
                 .orElseThrow(() -> new BusinessException(AuthErrorStatus.USER_NOT_FOUND_EXCEPTION));
 
         String encodedPassword = passwordEncoder.encode(dto.getPassword());
-        user.changePassword(encodedPassword);
+        transactionTemplate.executeWithoutResult(status -> {
+            User managedUser = userRepository.findById(user.getId())
+                    .orElseThrow(() -> new BusinessException(AuthErrorStatus.USER_NOT_FOUND_EXCEPTION));
+            managedUser.changePassword(encodedPassword);
+            eventPublisher.publishEvent(new UserStateChangedEvent(user.getId()));
+        });
         logout(user);
     }
-
-    public User loadUserByEmail(String email) throws UsernameNotFoundException {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException("(email: " + email + ")", AuthErrorStatus.USER_NOT_FOUND_EXCEPTION));
-    }
 }
@@ -52,6 +52,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.PUT, "/auth/password-reset").permitAll()
                         .requestMatchers(HttpMethod.GET, "/composers").permitAll()
                         .requestMatchers(HttpMethod.GET, "/posts/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/comments/{commentId}/replies").permitAll()
                         .requestMatchers("/users/check-nickname").permitAll()
                         .requestMatchers("/composers/{composerId}/posts").permitAll()
 
@@ -0,0 +1,26 @@
+package com.daramg.server.auth.domain;
+
+import com.daramg.server.user.domain.UserIdentity;
+import com.daramg.server.user.domain.UserRole;
+
+/**
+ * 액세스 토큰 클레임만으로 만든 인증 주체. SecurityContext 의 principal 로 등록된다.
+ * <p>
+ * User 엔티티가 필요한 API 는 {@link com.daramg.server.auth.resolver.AuthUserResolver} 가
+ * 이 ID 로 그때 유저를 조회한다.
+ */
+public record AuthUser(
+        Long id,
+        String email,
+        UserRole role
+) implements UserIdentity {
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    public String authority() {
+        return "ROLE_" + role.name();
+    }
+}
@@ -1,10 +1,11 @@
 package com.daramg.server.auth.filter;
 
-import com.daramg.server.auth.application.AuthService;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.daramg.server.auth.domain.AuthUser;
 import com.daramg.server.auth.util.CookieUtil;
 import com.daramg.server.auth.util.JwtUtil;
+import com.daramg.server.auth.util.VerifiedTokenCache;
 import com.daramg.server.common.exception.BusinessException;
-import com.daramg.server.user.domain.User;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -32,8 +33,8 @@ import java.util.List;
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final AuthenticationEntryPoint authEntryPoint;
-    private final AuthService authService;
 
     @Value("${cookie.access-name}")
     public String ACCESS_COOKIE_NAME;
@@ -70,13 +71,24 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         }
     }
 
+    /**
+     * 토큰 클레임만으로 인증 주체를 만든다. 유저 엔티티는 필요한 API 에서만 AuthUserResolver 가 조회한다.
+     * 토큰은 처음 한 번만 검증해 {@link VerifiedTokenCache} 에 만료 시각까지 보관하고,
+     * 검증된 DecodedJWT 는 details 로 넘겨 이후 다시 디코딩하지 않도록 한다.
+     */
     private Authentication authenticate(String accessToken) {
-        jwtTokenProvider.validateAccessToken(accessToken);
-        String email = jwtTokenProvider.getUserEmail(accessToken);
+        VerifiedTokenCache.Entry verified = verifiedTokenCache.get(accessToken, this::verify);
+        AuthUser authUser = verified.authUser();
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                authUser, null, List.of(new SimpleGrantedAuthority(authUser.authority())));
+        authentication.setDetails(verified.decodedJWT());
+        return authentication;
+    }
 
-        User user = authService.loadUserByEmail(email);
-        String role = "ROLE_" + user.getRole().name();
-        return new UsernamePasswordAuthenticationToken(user, null, List.of(new SimpleGrantedAuthority(role)));
+    private VerifiedTokenCache.Entry verify(String accessToken) {
+        DecodedJWT decodedJWT = jwtTokenProvider.verify(accessToken);
+        AuthUser authUser = jwtTokenProvider.getAuthUser(decodedJWT);
+        return new VerifiedTokenCache.Entry(authUser, decodedJWT, decodedJWT.getExpiresAtAsInstant());
     }
 
 }
@@ -1,8 +1,11 @@
 package com.daramg.server.auth.resolver;
 
+import com.daramg.server.auth.domain.AuthUser;
 import com.daramg.server.auth.exception.AuthErrorStatus;
 import com.daramg.server.common.exception.BusinessException;
+import com.daramg.server.user.application.UserStateCache;
 import com.daramg.server.user.domain.User;
+import com.daramg.server.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.core.MethodParameter;
@@ -20,6 +23,9 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 @RequiredArgsConstructor
 public class AuthUserResolver implements HandlerMethodArgumentResolver {
 
+    private final UserRepository userRepository;
+    private final UserStateCache userStateCache;
+
     @Override
     public boolean supportsParameter(@NotNull MethodParameter parameter) {
         // @AuthenticationPrincipal 어노테이션이 있으면 Spring Security 기본 resolver 사용
@@ -40,12 +46,15 @@ public class AuthUserResolver implements HandlerMethodArgumentResolver {
         }
 
         Object principal = auth.getPrincipal();
-        if (principal instanceof User user) {
+        if (principal instanceof AuthUser authUser) {
+            // 토큰 클레임만 담긴 principal 이므로 User 를 받는 API 에서만 유저를 조회한다 (짧은 시간 캐시됨)
+            User user = userStateCache.get(authUser.id(), userRepository::findById)
+                    .orElseThrow(() -> new BusinessException(AuthErrorStatus.USER_NOT_FOUND_EXCEPTION));
             if (!user.isActive()) {
                 throw new BusinessException(AuthErrorStatus.USER_NOT_ACTIVE);
             }
             return user;
         }
-        return null; // principal이 User가 아닌 경우 null 반환 (비로그인 사용자)
+        return null; // principal이 AuthUser가 아닌 경우 null 반환 (비로그인 사용자)
     }
 }
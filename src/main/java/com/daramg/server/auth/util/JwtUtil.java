@@ -7,10 +7,13 @@ import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.JWTVerifier;
+import com.daramg.server.auth.domain.AuthUser;
 import com.daramg.server.auth.dto.TokenResponseDto;
 import com.daramg.server.auth.exception.AuthErrorStatus;
 import com.daramg.server.common.exception.BusinessException;
 import com.daramg.server.user.domain.User;
+import com.daramg.server.user.domain.UserRole;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -31,13 +34,24 @@ public class JwtUtil {
     private long refreshTokenLifetimeInMillis;
 
     /**
-     * DB 조회 안 해도 되도록 SecurityContext 에 클레임 등록,
-     * 유저 role은 추후 등록
+     * DB 조회 안 해도 되도록 SecurityContext 에 클레임 등록
      */
     private static final String CLAIM_ID = "id";
     private static final String CLAIM_EMAIL = "email";
     private static final String CLAIM_ROLE = "role";
 
+    /**
+     * 서명 키와 검증기는 스레드 안전하므로 한 번만 만들어 재사용한다.
+     */
+    private Algorithm algorithm;
+    private JWTVerifier verifier;
+
+    @PostConstruct
+    void init() {
+        algorithm = Algorithm.HMAC512(secretKey);
+        verifier = JWT.require(algorithm).build();
+    }
+
     public TokenResponseDto generateTokens(User user) {
         String accessToken = createAccessToken(user);
 
@@ -45,7 +59,7 @@ public class JwtUtil {
         String refreshToken = JWT.create()
                 .withSubject(user.getEmail())
                 .withExpiresAt(new Date(now.getTime() + refreshTokenLifetimeInMillis))
-                .sign(Algorithm.HMAC512(secretKey));
+                .sign(algorithm);
 
         return new TokenResponseDto(user.getId(), accessToken, refreshToken);
     }
@@ -58,13 +72,15 @@ public class JwtUtil {
                 .withClaim(CLAIM_ID, user.getId())
                 .withClaim(CLAIM_EMAIL, user.getEmail())
                 .withClaim(CLAIM_ROLE, user.getRole().name())
-                .sign(Algorithm.HMAC512(secretKey));
+                .sign(algorithm);
     }
 
-    public void validateAccessToken(final String token) {
+    /**
+     * 서명과 만료를 한 번 검증한다. 이후 클레임이 필요하면 다시 검증하지 말고 반환된 DecodedJWT 를 넘겨 쓴다.
+     */
+    public DecodedJWT verify(final String token) {
         try {
-            DecodedJWT decodedJWT = getDecodedJWT(token);
-            validateClaims(decodedJWT);
+            return verifier.verify(token);
         } catch (TokenExpiredException e) {
             throw new BusinessException(AuthErrorStatus.TOKEN_EXPIRED_EXCEPTION);
         } catch (JWTVerificationException e) {
@@ -72,43 +88,28 @@ public class JwtUtil {
         }
     }
 
-    public boolean validateRefreshToken(final String token) {
+    /**
+     * {@link #verify} 로 검증된 액세스 토큰의 클레임으로 인증 주체를 만든다. (유저 조회 없음)
+     */
+    public AuthUser getAuthUser(final DecodedJWT decodedJWT) {
+        validateClaims(decodedJWT);
         try {
-            JWT.require(Algorithm.HMAC512(secretKey)).build().verify(token);
-            return true;
-        } catch (JWTVerificationException e) {
-            return false;
-        }
-    }
-
-    private DecodedJWT getDecodedJWT(final String token) {
-        Algorithm algorithm = Algorithm.HMAC512(secretKey);
-        JWTVerifier verifier = JWT.require(algorithm).build();
-        return verifier.verify(token);
-    }
-
-    private void validateClaims(final DecodedJWT decodedJWT) {
-        Claim idClaim = decodedJWT.getClaim(CLAIM_ID);
-        Claim emailClaim = decodedJWT.getClaim(CLAIM_EMAIL);
-        // role 검증
-
-        if (idClaim.isNull() || emailClaim.isNull()) {
-            throw new BusinessException(AuthErrorStatus.INVALID_TOKEN_EXCEPTION);
-        }
-
-        Long id = idClaim.asLong();
-        String email = emailClaim.asString();
-
-        if (id == null || email == null) {
+            return new AuthUser(
+                    decodedJWT.getClaim(CLAIM_ID).asLong(),
+                    decodedJWT.getClaim(CLAIM_EMAIL).asString(),
+                    UserRole.valueOf(decodedJWT.getClaim(CLAIM_ROLE).asString())
+            );
+        } catch (IllegalArgumentException e) {
             throw new BusinessException(AuthErrorStatus.INVALID_TOKEN_EXCEPTION);
         }
     }
 
-    public String getUserEmail(final String token) {
+    /**
+     * 리프레시 토큰을 한 번만 검증하고 subject(이메일)를 반환한다. 만료를 포함한 모든 실패는 유효하지 않은 토큰으로 처리한다.
+     */
+    public String getRefreshTokenSubject(final String token) {
         try {
-            DecodedJWT decodedJWT = getDecodedJWT(token);
-            String subject = decodedJWT.getSubject();
-
+            String subject = verifier.verify(token).getSubject();
             if (subject == null) {
                 throw new BusinessException(AuthErrorStatus.INVALID_TOKEN_EXCEPTION);
             }
@@ -118,15 +119,20 @@ public class JwtUtil {
         }
     }
 
-
-    public String getRole(String token) {
-        DecodedJWT decodedJWT = getDecodedJWT(token);
+    private void validateClaims(final DecodedJWT decodedJWT) {
+        Claim idClaim = decodedJWT.getClaim(CLAIM_ID);
+        Claim emailClaim = decodedJWT.getClaim(CLAIM_EMAIL);
         Claim roleClaim = decodedJWT.getClaim(CLAIM_ROLE);
 
-        if (roleClaim.isNull()) {
+        if (idClaim.isNull() || emailClaim.isNull() || roleClaim.isNull()) {
             throw new BusinessException(AuthErrorStatus.INVALID_TOKEN_EXCEPTION);
         }
-        return roleClaim.asString();
-    }
 
+        Long id = idClaim.asLong();
+        String email = emailClaim.asString();
+
+        if (id == null || email == null) {
+            throw new BusinessException(AuthErrorStatus.INVALID_TOKEN_EXCEPTION);
+        }
+    }
 }
@@ -0,0 +1,58 @@
+package com.daramg.server.auth.util;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.daramg.server.auth.domain.AuthUser;
+import com.daramg.server.common.util.BoundedTtlCache;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+/**
+ * 서명 검증을 마친 액세스 토큰의 인증 주체를 토큰 만료 시각까지 메모리에 보관한다.
+ * 같은 토큰으로 반복되는 요청은 HMAC 검증과 클레임 파싱 없이 인증된다.
+ * <p>
+ * 토큰 원문 대신 SHA-256 해시를 키로 쓰고, 로그아웃/탈퇴 시 해당 유저의 항목만 지운다.
+ * 액세스 토큰은 수명이 길어 만료 전에 가득 차므로, 가득 차면 가장 오래 사용되지 않은 토큰을 내보낸다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final BoundedTtlCache<String, Entry> cache = new BoundedTtlCache<>(
+            MAX_ENTRIES, Entry::expiresAt, entry -> entry.authUser().id()
+    );
+
+    public record Entry(AuthUser authUser, DecodedJWT decodedJWT, Instant expiresAt) {
+    }
+
+    /**
+     * 캐시된 인증 주체를 반환하고, 없으면 verifier 로 검증해 저장한다.
+     * 검증 실패 예외는 그대로 전파되며 저장되지 않는다.
+     */
+    public Entry get(String token, Function<String, Entry> verifier) {
+        return cache.get(hash(token), key -> verifier.apply(token));
+    }
+
+    public void invalidateUser(Long userId) {
+        cache.invalidateGroup(userId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
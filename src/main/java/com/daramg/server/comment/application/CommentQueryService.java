@@ -0,0 +1,135 @@
+package com.daramg.server.comment.application;
+
+import com.daramg.server.comment.domain.Comment;
+import com.daramg.server.comment.dto.CommentResponseDto;
+import com.daramg.server.comment.dto.CommentResponseDto.ChildCommentResponseDto;
+import com.daramg.server.comment.dto.CommentRowDto;
+import com.daramg.server.comment.repository.CommentQueryRepository;
+import com.daramg.server.comment.repository.CommentRepository;
+import com.daramg.server.common.application.EntityUtils;
+import com.daramg.server.common.application.ViewerInteractionResolver;
+import com.daramg.server.common.dto.PageRequestDto;
+import com.daramg.server.common.dto.PageResponseDto;
+import com.daramg.server.common.util.PagingUtils;
+import com.daramg.server.post.domain.Post;
+import com.daramg.server.user.domain.UserIdentity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CommentQueryService {
+
+    /**
+     * 부모 댓글마다 함께 내려주는 대댓글 수. 나머지는 대댓글 목록 API 로 이어서 조회한다.
+     */
+    static final int REPLY_PREVIEW_SIZE = 3;
+
+    private final CommentRepository commentRepository;
+    private final CommentQueryRepository commentQueryRepository;
+    private final ViewerInteractionResolver viewerInteractionResolver;
+    private final PagingUtils pagingUtils;
+    private final EntityUtils entityUtils;
+
+    /**
+     * 게시물의 부모 댓글을 오래된 순으로 페이징하고, 각 부모 댓글에 앞쪽 대댓글과 전체 대댓글 수를 붙인다.
+     * 엔티티 없이 평탄화된 행만 조회해 한 번의 순회로 트리를 조립한다.
+     */
+    public PageResponseDto<CommentResponseDto> getComments(Long postId, PageRequestDto pageRequest, UserIdentity user) {
+        entityUtils.getEntity(postId, Post.class);
+        int size = pageRequest.getValidatedSize();
+        List<CommentRowDto> parents = commentQueryRepository.getParentCommentsWithPaging(postId, pageRequest);
+        List<CommentRowDto> pageParents = parents.size() > size ? parents.subList(0, size) : parents;
+
+        List<Long> parentIds = new ArrayList<>(pageParents.size());
+        for (CommentRowDto parent : pageParents) {
+            parentIds.add(parent.id());
+        }
+        List<CommentRowDto> replies = findReplyPreviews(parentIds);
+
+        List<Long> shownCommentIds = new ArrayList<>(parentIds.size() + replies.size());
+        shownCommentIds.addAll(parentIds);
+        Map<Long, List<CommentRowDto>> repliesByParentId = new HashMap<>(parentIds.size() * 2);
+        for (CommentRowDto reply : replies) {
+            shownCommentIds.add(reply.id());
+            repliesByParentId.computeIfAbsent(reply.parentId(), id -> new ArrayList<>(REPLY_PREVIEW_SIZE + 1)).add(reply);
+        }
+        Set<Long> likedCommentIds = viewerInteractionResolver.findLikedCommentIds(shownCommentIds, user);
+
+        return pagingUtils.createPageResponse(
+                parents,
+                size,
+                parent -> toCommentResponse(
+                        parent,
+                        repliesByParentId.getOrDefault(parent.id(), List.of()),
+                        likedCommentIds,
+                        user
+                ),
+                CommentRowDto::createdAt,
+                CommentRowDto::id
+        );
+    }
+
+    /**
+     * 부모 댓글의 대댓글을 오래된 순으로 페이징한다. 부모 댓글 응답의 nextReplyCursor 로 이어서 조회할 수 있다.
+     */
+    public PageResponseDto<ChildCommentResponseDto> getReplies(Long parentCommentId, PageRequestDto pageRequest, UserIdentity user) {
+        entityUtils.getEntity(parentCommentId, Comment.class);
+        List<CommentRowDto> replies = commentQueryRepository.getRepliesWithPaging(parentCommentId, pageRequest);
+        Set<Long> likedCommentIds =
+                viewerInteractionResolver.findLikedCommentIds(replies.stream().map(CommentRowDto::id).toList(), user);
+
+        return pagingUtils.createPageResponse(
+                replies,
+                pageRequest.getValidatedSize(),
+                reply -> ChildCommentResponseDto.from(reply, user != null && likedCommentIds.contains(reply.id())),
+                CommentRowDto::createdAt,
+                CommentRowDto::id
+        );
+    }
+
+    /**
+     * 부모 댓글별 앞쪽 대댓글을 REPLY_PREVIEW_SIZE + 1 개까지 (created_at, id) 순으로 조회한다.
+     * (마지막 1개는 다음 대댓글 존재 여부 확인용)
+     */
+    private List<CommentRowDto> findReplyPreviews(List<Long> parentIds) {
+        if (parentIds.isEmpty()) {
+            return List.of();
+        }
+        List<Long> replyIds = commentRepository.findFirstReplyIdsByParentIds(parentIds, REPLY_PREVIEW_SIZE + 1);
+        return commentQueryRepository.findRowsByIds(replyIds);
+    }
+
+    private CommentResponseDto toCommentResponse(CommentRowDto parent, List<CommentRowDto> replies,
+                                                 Set<Long> likedCommentIds, UserIdentity user) {
+        List<CommentRowDto> previewReplies = replies.size() > REPLY_PREVIEW_SIZE
+                ? replies.subList(0, REPLY_PREVIEW_SIZE)
+                : replies;
+        String nextReplyCursor = replies.size() > REPLY_PREVIEW_SIZE
+                ? pagingUtils.encodeCursor(previewReplies.getLast().createdAt(), previewReplies.getLast().id())
+                : null;
+
+        List<ChildCommentResponseDto> childDtos = new ArrayList<>(previewReplies.size());
+        for (CommentRowDto reply : previewReplies) {
+            childDtos.add(ChildCommentResponseDto.from(reply, user != null && likedCommentIds.contains(reply.id())));
+        }
+
+        Boolean isParentLiked = user != null ? likedCommentIds.contains(parent.id()) : null;
+
+        return CommentResponseDto.from(
+                parent,
+                isParentLiked,
+                childDtos,
+                parent.replyCount(),
+                nextReplyCursor
+        );
+    }
+}
@@ -2,25 +2,42 @@ package com.daramg.server.comment.application;
 
 import com.daramg.server.aicomment.event.AiReplyScheduleEvent;
 import com.daramg.server.comment.domain.Comment;
-import com.daramg.server.comment.domain.CommentLike;
+import com.daramg.server.comment.dto.CommentBulkDeleteResponseDto;
+import com.daramg.server.comment.dto.CommentDeletionTargetDto;
 import com.daramg.server.comment.dto.CommentLikeResponseDto;
+import com.daramg.server.comment.dto.ReplyStatsDto;
 import com.daramg.server.comment.repository.CommentLikeRepository;
 import com.daramg.server.comment.repository.CommentRepository;
 import com.daramg.server.common.application.EntityUtils;
+import com.daramg.server.common.application.LikeToggler;
+import com.daramg.server.common.application.LockConflictRetrier;
 import com.daramg.server.comment.exception.CommentErrorStatus;
 import com.daramg.server.common.exception.BusinessException;
+import com.daramg.server.common.exception.CommonErrorStatus;
 import com.daramg.server.post.domain.Post;
 import com.daramg.server.notification.domain.NotificationType;
 import com.daramg.server.notification.event.NotificationEvent;
 import com.daramg.server.post.dto.CommentCreateDto;
 import com.daramg.server.post.dto.CommentReplyCreateDto;
+import com.daramg.server.post.event.PostDetailChangedEvent;
+import com.daramg.server.post.repository.PostRepository;
+import com.daramg.server.post.repository.ReportRepository;
 import com.daramg.server.user.domain.User;
 import com.daramg.server.user.domain.UserRole;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -29,6 +46,10 @@ public class CommentService {
     private final EntityUtils entityUtils;
     private final CommentRepository commentRepository;
     private final CommentLikeRepository commentLikeRepository;
+    private final LikeToggler likeToggler;
+    private final LockConflictRetrier lockConflictRetrier;
+    private final PostRepository postRepository;
+    private final ReportRepository reportRepository;
     private final ApplicationEventPublisher eventPublisher;
 
     public void createComment(Long postId, CommentCreateDto request, User user){
@@ -45,7 +66,8 @@ public class CommentService {
         );
 
         commentRepository.save(comment);
-        post.incrementCommentCount();
+        postRepository.increaseCommentCount(post.getId());
+        eventPublisher.publishEvent(new PostDetailChangedEvent(post.getId()));
         if (!post.getUser().getId().equals(user.getId())) {
             eventPublisher.publishEvent(new NotificationEvent(
                     post.getUser(), user, post, NotificationType.COMMENT
@@ -71,7 +93,9 @@ public class CommentService {
         );
 
         commentRepository.save(reply);
-        post.incrementCommentCount();
+        commentRepository.recordReply(parentComment.getId(), reply.getId());
+        postRepository.increaseCommentCount(post.getId());
+        eventPublisher.publishEvent(new PostDetailChangedEvent(post.getId()));
         if (!parentComment.getUser().getId().equals(user.getId())) {
             eventPublisher.publishEvent(new NotificationEvent(
                     parentComment.getUser(), user, post, NotificationType.REPLY
@@ -83,29 +107,36 @@ public class CommentService {
         }
     }
 
+    /**
+     * 다른 유저의 좋아요와 락이 충돌해 롤백되면 새 트랜잭션에서 다시 시도하므로,
+     * 클래스의 트랜잭션을 열지 않고 {@link LockConflictRetrier} 가 시도마다 트랜잭션을 연다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public CommentLikeResponseDto toggleCommentLike(Long commentId, User user){
-        Comment comment = entityUtils.getEntity(commentId, Comment.class);
-        if (comment.isDeleted() || comment.isBlocked()){
-            throw new BusinessException(CommentErrorStatus.BLOCKED_OR_DELETED_COMMENT_LIKE);
-        }
-
-        boolean alreadyLiked = commentLikeRepository
-                .existsByCommentIdAndUserId(commentId, user.getId());
-
-        if (alreadyLiked) {
-            commentLikeRepository.deleteByCommentIdAndUserId(commentId, user.getId());
-            comment.decrementLikeCount();
-            return new CommentLikeResponseDto(false, comment.getLikeCount());
-        }
-
-        commentLikeRepository.save(CommentLike.of(comment, user));
-        comment.incrementLikeCount();
-        if (!comment.getUser().getId().equals(user.getId())) {
-            eventPublisher.publishEvent(new NotificationEvent(
-                    comment.getUser(), user, comment.getPost(), NotificationType.COMMENT_LIKE
-            ));
-        }
-        return new CommentLikeResponseDto(true, comment.getLikeCount());
+        return lockConflictRetrier.execute(() -> {
+            Comment comment = entityUtils.getEntity(commentId, Comment.class);
+            if (comment.isDeleted() || comment.isBlocked()){
+                throw new BusinessException(CommentErrorStatus.BLOCKED_OR_DELETED_COMMENT_LIKE);
+            }
+
+            LikeToggler.Result result = likeToggler.toggle(LikeToggler.Target.COMMENT_LIKE, commentId, user.getId());
+            if (result.changed()) {
+                if (result.active()) {
+                    commentRepository.increaseLikeCount(commentId);
+                } else {
+                    commentRepository.decreaseLikeCount(commentId);
+                }
+                eventPublisher.publishEvent(new PostDetailChangedEvent(comment.getPost().getId()));
+            }
+            entityUtils.refresh(comment);
+
+            if (result.active() && result.changed() && !comment.getUser().getId().equals(user.getId())) {
+                eventPublisher.publishEvent(new NotificationEvent(
+                        comment.getUser(), user, comment.getPost(), NotificationType.COMMENT_LIKE
+                ));
+            }
+            return new CommentLikeResponseDto(result.active(), comment.getLikeCount());
+        });
     }
 
     public void deleteComment(Long commentId, User user){
@@ -121,8 +152,86 @@ public class CommentService {
         }
 
         comment.softDelete();
-        comment.getPost().decrementCommentCount();
-        commentLikeRepository.deleteAllByCommentId(commentId);
+        if (comment.getParentComment() != null) {
+            Long parentCommentId = comment.getParentComment().getId();
+            // 삭제된 대댓글도 목록에 "삭제된 댓글" 로 남으므로 대댓글 수는 그대로 두고 마지막 대댓글만 갱신
+            commentRepository.updateLastReplyId(parentCommentId, commentRepository.findLastReplyId(parentCommentId));
+        }
+        postRepository.decreaseCommentCount(comment.getPost().getId());
+        eventPublisher.publishEvent(new PostDetailChangedEvent(comment.getPost().getId()));
+        cascadeDeletion(List.of(commentId));
         comment.resetLikeCount();
     }
+
+    /**
+     * 관리자 일괄 삭제
+     */
+    public CommentBulkDeleteResponseDto deleteComments(List<Long> commentIds, User user) {
+        if (user.getRole() != UserRole.ADMIN) {
+            throw new BusinessException(CommonErrorStatus.FORBIDDEN);
+        }
+        return new CommentBulkDeleteResponseDto(softDeleteAll(commentIds));
+    }
+
+    /**
+     * 댓글 수와 무관하게 soft delete, 좋아요 삭제, 신고 처리를 각각 한 문장으로 끝내고,
+     * 댓글 수/마지막 대댓글은 게시물과 부모 댓글마다 한 번씩만 보정한다. 이미 삭제된 댓글은 건너뛴다.
+     *
+     * @return 실제로 삭제된 댓글 수
+     */
+    public int softDeleteAll(Collection<Long> commentIds) {
+        List<CommentDeletionTargetDto> targets = commentRepository.findDeletionTargets(commentIds);
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> targetIds = new ArrayList<>(targets.size());
+        Map<Long, Integer> deletedCountByPostId = new HashMap<>();
+        Set<Long> parentCommentIds = new HashSet<>();
+        for (CommentDeletionTargetDto target : targets) {
+            targetIds.add(target.id());
+            deletedCountByPostId.merge(target.postId(), 1, Integer::sum);
+            if (target.parentId() != null) {
+                parentCommentIds.add(target.parentId());
+            }
+        }
+
+        commentRepository.softDeleteAll(targetIds);
+        cascadeDeletion(targetIds);
+        deletedCountByPostId.forEach((postId, deletedCount) -> {
+            postRepository.decreaseCommentCountBy(postId, deletedCount);
+            eventPublisher.publishEvent(new PostDetailChangedEvent(postId));
+        });
+        syncReplyStats(parentCommentIds);
+        return targetIds.size();
+    }
+
+    /**
+     * 삭제된 댓글에 딸린 좋아요는 지우고, 걸려 있던 신고는 처리 완료로 바꾼다.
+     */
+    private void cascadeDeletion(Collection<Long> commentIds) {
+        commentLikeRepository.deleteAllByCommentIds(commentIds);
+        reportRepository.markProcessedByCommentIds(commentIds);
+    }
+
+    /**
+     * 여러 대댓글이 한꺼번에 지워지면 부모 댓글마다 대댓글 수와 마지막 대댓글을 다시 계산한다.
+     */
+    private void syncReplyStats(Set<Long> parentCommentIds) {
+        if (parentCommentIds.isEmpty()) {
+            return;
+        }
+        Map<Long, ReplyStatsDto> statsByParentId = new HashMap<>(parentCommentIds.size() * 2);
+        for (ReplyStatsDto stats : commentRepository.findReplyStatsByParentIds(parentCommentIds)) {
+            statsByParentId.put(stats.parentId(), stats);
+        }
+        for (Long parentCommentId : parentCommentIds) {
+            ReplyStatsDto stats = statsByParentId.get(parentCommentId);
+            commentRepository.syncReplyStats(
+                    parentCommentId,
+                    stats != null ? stats.replyCount().intValue() : 0,
+                    stats != null ? stats.lastReplyId() : null
+            );
+        }
+    }
 }
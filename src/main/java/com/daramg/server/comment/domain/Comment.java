@@ -8,14 +8,20 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.lang.NonNull;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
 @Getter
-@Table(name = "comments")
+@Table(name = "comments",
+        indexes = {
+                @Index(name = "idx_comments_post_thread", columnList = "post_id, is_blocked, created_at, id"),
+                @Index(name = "idx_comments_reply_thread", columnList = "parent_comment_id, is_blocked, created_at, id")
+        })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseEntity<Comment> {
 
@@ -43,6 +49,18 @@ public class Comment extends BaseEntity<Comment> {
     @Column(name = "like_count", nullable = false)
     private int likeCount = 0;
 
+    /**
+     * 차단되지 않은 대댓글 수. 대댓글 목록과 같은 행을 세므로 삭제된 대댓글도 포함한다 (CommentRepository 벌크 UPDATE 로만 변경)
+     */
+    @Column(name = "reply_count", nullable = false)
+    private int replyCount = 0;
+
+    /**
+     * 가장 최근에 달린, 삭제되지 않은 대댓글 ID
+     */
+    @Column(name = "last_reply_id")
+    private Long lastReplyId;
+
     @Column(name = "is_blocked", nullable = false)
     private boolean isBlocked = false;
 
@@ -85,16 +103,6 @@ public class Comment extends BaseEntity<Comment> {
         this.aiReplyCount++;
     }
 
-    public void incrementLikeCount() {
-        likeCount++;
-    }
-
-    public void decrementLikeCount() {
-        if(likeCount > 0){
-            likeCount--;
-        }
-    }
-
     public void softDelete() {
         this.isDeleted = true;
     }
@@ -0,0 +1,10 @@
+package com.daramg.server.comment.dto
+
+import jakarta.validation.constraints.NotEmpty
+import jakarta.validation.constraints.Size
+
+data class CommentBulkDeleteRequestDto(
+    @field:NotEmpty(message = "삭제할 댓글 ID 목록은 비어있을 수 없습니다.")
+    @field:Size(max = 100, message = "한 번에 최대 100개의 댓글만 삭제할 수 있습니다.")
+    val commentIds: List<Long>
+)
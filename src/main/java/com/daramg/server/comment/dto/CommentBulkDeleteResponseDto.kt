@@ -0,0 +1,5 @@
+package com.daramg.server.comment.dto
+
+data class CommentBulkDeleteResponseDto(
+    val deletedCount: Int
+)
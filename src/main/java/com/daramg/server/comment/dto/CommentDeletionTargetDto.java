@@ -0,0 +1,8 @@
+package com.daramg.server.comment.dto;
+
+/**
+ * 일괄 삭제 전에 카운터 보정을 위해 미리 읽어 두는 댓글의 소속 정보.
+ * 부모 댓글이면 parentId 는 null 이다.
+ */
+public record CommentDeletionTargetDto(Long id, Long postId, Long parentId) {
+}
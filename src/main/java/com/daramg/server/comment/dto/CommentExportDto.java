@@ -0,0 +1,15 @@
+package com.daramg.server.comment.dto;
+
+import java.time.Instant;
+
+/**
+ * 활동 내보내기에 쓰이는 본인 댓글 한 건. 부모 댓글이면 parentCommentId 는 null 이다.
+ */
+public record CommentExportDto(
+        Long id,
+        Long postId,
+        Long parentCommentId,
+        String content,
+        Instant createdAt
+) {
+}
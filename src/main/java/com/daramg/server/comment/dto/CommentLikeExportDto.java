@@ -0,0 +1,15 @@
+package com.daramg.server.comment.dto;
+
+import java.time.Instant;
+
+/**
+ * 활동 내보내기에 쓰이는 댓글 좋아요 한 건
+ *
+ * @param id 좋아요 ID (키셋 페이징 기준)
+ */
+public record CommentLikeExportDto(
+        Long id,
+        Long commentId,
+        Instant createdAt
+) {
+}
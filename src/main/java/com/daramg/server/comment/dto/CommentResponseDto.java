@@ -1,9 +1,9 @@
 package com.daramg.server.comment.dto;
 
-import com.daramg.server.comment.domain.Comment;
-
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 public record CommentResponseDto(
         Long id,
@@ -17,33 +17,48 @@ public record CommentResponseDto(
         Boolean isLiked,
         boolean isAi,
         String composerName,
-        List<ChildCommentResponseDto> childComments
+        List<ChildCommentResponseDto> childComments,
+        boolean hasMoreReplies,
+        String nextReplyCursor
 ) {
 
-    public static CommentResponseDto from(Comment comment, Boolean isLiked, List<ChildCommentResponseDto> childComments) {
-        int childCommentCount = childComments != null
-                ? (int) childComments.stream().filter(c -> !c.isDeleted()).count()
-                : 0;
-
-        String writerNickname = comment.isAi() ? null : comment.getUser().getNickname();
-        String writerProfileImage = comment.isAi() ? null : comment.getUser().getProfileImage();
-        String composerName = comment.isAi() && comment.getComposer() != null
-                ? comment.getComposer().getKoreanName()
-                : null;
-
+    /**
+     * @param childComments     미리보기로 내려주는 앞쪽 대댓글
+     * @param childCommentCount 대댓글 목록과 같은 기준의 전체 대댓글 수 (삭제된 대댓글 포함, 차단된 대댓글 제외)
+     * @param nextReplyCursor   나머지 대댓글 조회용 커서 (더 없으면 null)
+     */
+    public static CommentResponseDto from(CommentRowDto comment, Boolean isLiked, List<ChildCommentResponseDto> childComments,
+                                          int childCommentCount, String nextReplyCursor) {
         return new CommentResponseDto(
-                comment.getId(),
-                comment.getContent(),
+                comment.id(),
+                comment.content(),
                 comment.isDeleted(),
-                comment.getLikeCount(),
+                comment.likeCount(),
                 childCommentCount,
-                comment.getCreatedAt(),
-                writerNickname,
-                writerProfileImage,
+                comment.createdAt(),
+                comment.isAi() ? null : comment.writerNickname(),
+                comment.isAi() ? null : comment.writerProfileImage(),
                 isLiked,
                 comment.isAi(),
-                composerName,
-                childComments
+                comment.isAi() ? comment.composerName() : null,
+                childComments,
+                nextReplyCursor != null,
+                nextReplyCursor
+        );
+    }
+
+    /**
+     * 비로그인 기준으로 만든 응답에 조회자의 댓글/대댓글 좋아요 여부를 덧씌운다.
+     */
+    public CommentResponseDto withViewerLikes(Set<Long> likedCommentIds) {
+        List<ChildCommentResponseDto> likedChildComments = new ArrayList<>(childComments.size());
+        for (ChildCommentResponseDto childComment : childComments) {
+            likedChildComments.add(childComment.withLiked(likedCommentIds.contains(childComment.id())));
+        }
+        return new CommentResponseDto(
+                id, content, isDeleted, likeCount, childCommentCount, createdAt,
+                writerNickname, writerProfileImage, likedCommentIds.contains(id), isAi, composerName,
+                likedChildComments, hasMoreReplies, nextReplyCursor
         );
     }
 
@@ -60,24 +75,25 @@ public record CommentResponseDto(
             String composerName
     ) {
 
-        public static ChildCommentResponseDto from(Comment comment, Boolean isLiked) {
-            String writerNickname = comment.isAi() ? null : comment.getUser().getNickname();
-            String writerProfileImage = comment.isAi() ? null : comment.getUser().getProfileImage();
-            String composerName = comment.isAi() && comment.getComposer() != null
-                    ? comment.getComposer().getKoreanName()
-                    : null;
-
+        public static ChildCommentResponseDto from(CommentRowDto comment, Boolean isLiked) {
             return new ChildCommentResponseDto(
-                    comment.getId(),
-                    comment.getContent(),
+                    comment.id(),
+                    comment.content(),
                     comment.isDeleted(),
-                    comment.getLikeCount(),
-                    comment.getCreatedAt(),
-                    writerNickname,
-                    writerProfileImage,
+                    comment.likeCount(),
+                    comment.createdAt(),
+                    comment.isAi() ? null : comment.writerNickname(),
+                    comment.isAi() ? null : comment.writerProfileImage(),
                     isLiked,
                     comment.isAi(),
-                    composerName
+                    comment.isAi() ? comment.composerName() : null
+            );
+        }
+
+        public ChildCommentResponseDto withLiked(Boolean isLiked) {
+            return new ChildCommentResponseDto(
+                    id, content, isDeleted, likeCount, createdAt,
+                    writerNickname, writerProfileImage, isLiked, isAi, composerName
             );
         }
     }
@@ -0,0 +1,22 @@
+package com.daramg.server.comment.dto;
+
+import java.time.Instant;
+
+/**
+ * 댓글 목록 조회용 평탄화 프로젝션.
+ * Comment 엔티티를 영속성 컨텍스트에 올리지 않고 응답에 필요한 컬럼만 (created_at, id) 순서로 조회한다.
+ */
+public record CommentRowDto(
+        Long id,
+        Long parentId,
+        String content,
+        boolean isDeleted,
+        int likeCount,
+        int replyCount,
+        Instant createdAt,
+        String writerNickname,
+        String writerProfileImage,
+        boolean isAi,
+        String composerName
+) {
+}
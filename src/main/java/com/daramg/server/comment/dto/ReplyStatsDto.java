@@ -0,0 +1,7 @@
+package com.daramg.server.comment.dto;
+
+/**
+ * 부모 댓글별 차단되지 않은 대댓글 수(삭제된 대댓글 포함)와 삭제되지 않은 마지막 대댓글 ID.
+ */
+public record ReplyStatsDto(Long parentId, Long replyCount, Long lastReplyId) {
+}
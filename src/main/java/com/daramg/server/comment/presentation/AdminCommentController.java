@@ -0,0 +1,28 @@
+package com.daramg.server.comment.presentation;
+
+import com.daramg.server.comment.application.CommentService;
+import com.daramg.server.comment.dto.CommentBulkDeleteRequestDto;
+import com.daramg.server.comment.dto.CommentBulkDeleteResponseDto;
+import com.daramg.server.user.domain.User;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/comments")
+public class AdminCommentController {
+
+    private final CommentService commentService;
+
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<CommentBulkDeleteResponseDto> deleteComments(
+            @Valid @RequestBody CommentBulkDeleteRequestDto request, User user) {
+        CommentBulkDeleteResponseDto responseDto = commentService.deleteComments(request.getCommentIds(), user);
+        return ResponseEntity.ok(responseDto);
+    }
+}
@@ -0,0 +1,39 @@
+package com.daramg.server.comment.presentation;
+
+import com.daramg.server.comment.application.CommentQueryService;
+import com.daramg.server.comment.dto.CommentResponseDto;
+import com.daramg.server.common.dto.PageRequestDto;
+import com.daramg.server.common.dto.PageResponseDto;
+import com.daramg.server.auth.domain.AuthUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping
+public class CommentQueryController {
+
+    private final CommentQueryService commentQueryService;
+
+    @GetMapping("/posts/{postId}/comments")
+    @ResponseStatus(HttpStatus.OK)
+    public PageResponseDto<CommentResponseDto> getComments(
+            @AuthenticationPrincipal AuthUser user, // 로그인 or 비로그인 유저
+            @PathVariable Long postId,
+            PageRequestDto request
+    ) {
+        return commentQueryService.getComments(postId, request, user);
+    }
+
+    @GetMapping("/comments/{commentId}/replies")
+    @ResponseStatus(HttpStatus.OK)
+    public PageResponseDto<CommentResponseDto.ChildCommentResponseDto> getReplies(
+            @AuthenticationPrincipal AuthUser user, // 로그인 or 비로그인 유저
+            @PathVariable Long commentId,
+            PageRequestDto request
+    ) {
+        return commentQueryService.getReplies(commentId, request, user);
+    }
+}
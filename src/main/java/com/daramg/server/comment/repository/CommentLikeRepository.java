@@ -1,13 +1,44 @@
 package com.daramg.server.comment.repository;
 
 import com.daramg.server.comment.domain.CommentLike;
+import com.daramg.server.comment.dto.CommentLikeExportDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
     boolean existsByCommentIdAndUserId(Long commentId, Long userId);
-    void deleteByCommentIdAndUserId(Long commentId, Long userId);
-    void deleteAllByCommentId(Long commentId);
-    List<CommentLike> findByCommentIdInAndUserId(Iterable<Long> commentIds, Long userId);
+
+    @Query("select cl.comment.id from CommentLike cl where cl.comment.id in :commentIds and cl.user.id = :userId")
+    Set<Long> findLikedCommentIds(@Param("commentIds") Collection<Long> commentIds, @Param("userId") Long userId);
+
+    /**
+     * 엔티티를 하나씩 로드해 지우지 않고 한 문장으로 삭제한다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from CommentLike cl where cl.comment.id in :commentIds")
+    int deleteAllByCommentIds(@Param("commentIds") Collection<Long> commentIds);
+
+    @Query("select cl.comment.id from CommentLike cl where cl.user.id = :userId order by cl.id")
+    List<Long> findCommentIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("""
+        select new com.daramg.server.comment.dto.CommentLikeExportDto(cl.id, cl.comment.id, cl.createdAt)
+        from CommentLike cl
+        where cl.user.id = :userId
+          and cl.id > :afterId
+        order by cl.id
+        """)
+    List<CommentLikeExportDto> findForExport(@Param("userId") Long userId, @Param("afterId") Long afterId,
+                                             Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from CommentLike cl where cl.user.id = :userId and cl.comment.id in :commentIds")
+    int deleteByUserIdAndCommentIds(@Param("userId") Long userId, @Param("commentIds") Collection<Long> commentIds);
 }
@@ -0,0 +1,15 @@
+package com.daramg.server.comment.repository;
+
+import com.daramg.server.comment.dto.CommentExportDto;
+import com.daramg.server.comment.dto.CommentRowDto;
+import com.daramg.server.common.dto.PageRequestDto;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CommentQueryRepository {
+    List<CommentRowDto> getParentCommentsWithPaging(Long postId, PageRequestDto pageRequest);
+    List<CommentRowDto> getRepliesWithPaging(Long parentCommentId, PageRequestDto pageRequest);
+    List<CommentRowDto> findRowsByIds(Collection<Long> commentIds);
+    List<CommentExportDto> findCommentsForExport(Long userId, Long afterId, int limit);
+}
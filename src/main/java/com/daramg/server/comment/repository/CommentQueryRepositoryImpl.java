@@ -0,0 +1,118 @@
+package com.daramg.server.comment.repository;
+
+import com.daramg.server.comment.domain.QComment;
+import com.daramg.server.comment.dto.CommentExportDto;
+import com.daramg.server.comment.dto.CommentRowDto;
+import com.daramg.server.common.dto.PageRequestDto;
+import com.daramg.server.common.util.PagingUtils;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.daramg.server.comment.domain.QComment.comment;
+import static com.daramg.server.composer.domain.QComposer.composer;
+import static com.daramg.server.user.domain.QUser.user;
+
+@Repository
+@RequiredArgsConstructor
+public class CommentQueryRepositoryImpl implements CommentQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private final PagingUtils pagingUtils;
+
+    @Override
+    public List<CommentRowDto> getParentCommentsWithPaging(Long postId, PageRequestDto pageRequest) {
+        // comments(post_id, is_blocked, created_at, id) 인덱스 순서대로 size + 1개만 조회
+        JPAQuery<CommentRowDto> query = selectCommentRows()
+                .where(
+                        comment.post.id.eq(postId)
+                                .and(comment.isBlocked.isFalse())
+                                .and(comment.parentComment.isNull())
+                );
+
+        return pagingUtils.applyAscendingCursorPagination(
+                query,
+                pageRequest,
+                comment.createdAt,
+                comment.id
+        );
+    }
+
+    @Override
+    public List<CommentRowDto> getRepliesWithPaging(Long parentCommentId, PageRequestDto pageRequest) {
+        JPAQuery<CommentRowDto> query = selectCommentRows()
+                .where(
+                        comment.parentComment.id.eq(parentCommentId)
+                                .and(comment.isBlocked.isFalse())
+                );
+
+        return pagingUtils.applyAscendingCursorPagination(
+                query,
+                pageRequest,
+                comment.createdAt,
+                comment.id
+        );
+    }
+
+    @Override
+    public List<CommentRowDto> findRowsByIds(Collection<Long> commentIds) {
+        if (commentIds.isEmpty()) {
+            return List.of();
+        }
+        return selectCommentRows()
+                .where(comment.id.in(commentIds))
+                .orderBy(comment.createdAt.asc(), comment.id.asc())
+                .fetch();
+    }
+
+    private JPAQuery<CommentRowDto> selectCommentRows() {
+        return queryFactory
+                .select(Projections.constructor(CommentRowDto.class,
+                        comment.id,
+                        comment.parentComment.id,
+                        comment.content,
+                        comment.isDeleted,
+                        comment.likeCount,
+                        comment.replyCount,
+                        comment.createdAt,
+                        user.nickname,
+                        user.profileImage,
+                        comment.isAi,
+                        composer.koreanName
+                ))
+                .from(comment)
+                .join(comment.user, user)
+                .leftJoin(comment.composer, composer);
+    }
+
+    /**
+     * 삭제되지 않은 본인 댓글을 id 오름차순으로 afterId 다음부터 limit 개 조회한다. (키셋 페이징)
+     */
+    @Override
+    public List<CommentExportDto> findCommentsForExport(Long userId, Long afterId, int limit) {
+        QComment parent = new QComment("parent");
+        return queryFactory
+                .select(Projections.constructor(CommentExportDto.class,
+                        comment.id,
+                        comment.post.id,
+                        parent.id,
+                        comment.content,
+                        comment.createdAt
+                ))
+                .from(comment)
+                .leftJoin(comment.parentComment, parent)
+                .where(
+                        comment.user.id.eq(userId)
+                                .and(comment.isDeleted.isFalse())
+                                .and(comment.id.gt(afterId))
+                )
+                .orderBy(comment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+}
@@ -1,13 +1,144 @@
 package com.daramg.server.comment.repository;
 
 import com.daramg.server.comment.domain.Comment;
-import org.springframework.data.jpa.repository.EntityGraph;
+import com.daramg.server.comment.dto.CommentDeletionTargetDto;
+import com.daramg.server.comment.dto.ReplyStatsDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @EntityGraph(attributePaths = {"user", "childComments", "childComments.user"})
-    List<Comment> findByPostIdAndIsBlockedFalseOrderByCreatedAtAsc(Long postId);
+    /**
+     * 부모 댓글마다 오래된 순으로 최대 limit 개의 대댓글 ID 를 조회한다.
+     */
+    @Query(value = """
+        SELECT ranked.id
+        FROM (
+            SELECT c.id,
+                   ROW_NUMBER() OVER (PARTITION BY c.parent_comment_id ORDER BY c.created_at, c.id) AS rn
+            FROM comments c
+            WHERE c.parent_comment_id IN (:parentCommentIds)
+              AND c.is_blocked = false
+        ) ranked
+        WHERE ranked.rn <= :limit
+        """, nativeQuery = true)
+    List<Long> findFirstReplyIdsByParentIds(@Param("parentCommentIds") Collection<Long> parentCommentIds,
+                                            @Param("limit") int limit);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Comment c
+        set c.replyCount = c.replyCount + 1,
+            c.lastReplyId = case
+                when c.lastReplyId is null or c.lastReplyId < :replyId then :replyId
+                else c.lastReplyId
+            end
+        where c.id = :parentCommentId
+        """)
+    int recordReply(@Param("parentCommentId") Long parentCommentId, @Param("replyId") Long replyId);
+
+    /**
+     * MySQL 은 UPDATE 대상 테이블을 같은 문장의 서브쿼리에서 읽을 수 없으므로,
+     * 새 lastReplyId 는 {@link #findLastReplyId(Long)} 로 먼저 구해서 넘긴다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Comment c
+        set c.lastReplyId = :lastReplyId
+        where c.id = :parentCommentId
+        """)
+    int updateLastReplyId(@Param("parentCommentId") Long parentCommentId, @Param("lastReplyId") Long lastReplyId);
+
+    @Query("""
+        select new com.daramg.server.comment.dto.ReplyStatsDto(
+            r.parentComment.id,
+            count(r),
+            max(case when r.isDeleted = false then r.id end)
+        )
+        from Comment r
+        where r.parentComment.id in :parentCommentIds
+          and r.isBlocked = false
+        group by r.parentComment.id
+        """)
+    List<ReplyStatsDto> findReplyStatsByParentIds(@Param("parentCommentIds") Collection<Long> parentCommentIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Comment c
+        set c.replyCount = :replyCount,
+            c.lastReplyId = :lastReplyId
+        where c.id = :parentCommentId
+        """)
+    int syncReplyStats(@Param("parentCommentId") Long parentCommentId,
+                       @Param("replyCount") int replyCount,
+                       @Param("lastReplyId") Long lastReplyId);
+
+    @Query("""
+        select new com.daramg.server.comment.dto.CommentDeletionTargetDto(c.id, c.post.id, parent.id)
+        from Comment c
+        left join c.parentComment parent
+        where c.id in :commentIds
+          and c.isDeleted = false
+        """)
+    List<CommentDeletionTargetDto> findDeletionTargets(@Param("commentIds") Collection<Long> commentIds);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        update Comment c
+        set c.isDeleted = true,
+            c.likeCount = 0
+        where c.id in :commentIds
+          and c.isDeleted = false
+        """)
+    int softDeleteAll(@Param("commentIds") Collection<Long> commentIds);
+
+    @Query("""
+        select max(r.id)
+        from Comment r
+        where r.parentComment.id = :parentCommentId
+          and r.isDeleted = false
+          and r.isBlocked = false
+        """)
+    Long findLastReplyId(@Param("parentCommentId") Long parentCommentId);
+
+    @Query("""
+        select r
+        from Comment r
+        where r.parentComment.id = :parentCommentId
+          and r.isAi = false
+          and r.isDeleted = false
+          and r.isBlocked = false
+        order by r.createdAt desc, r.id desc
+        limit 1
+        """)
+    Optional<Comment> findLastUserReply(@Param("parentCommentId") Long parentCommentId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Comment c
+        set c.likeCount = (select count(cl) from CommentLike cl where cl.comment.id = c.id)
+        where c.id in :commentIds
+        """)
+    int recomputeLikeCounts(@Param("commentIds") Collection<Long> commentIds);
+
+    @Query("select distinct c.post.id from Comment c where c.id in :commentIds")
+    List<Long> findPostIdsByIds(@Param("commentIds") Collection<Long> commentIds);
+
+    @Query("select c.id from Comment c where c.user.id = :userId and c.isDeleted = false order by c.id")
+    List<Long> findLiveCommentIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Comment c set c.likeCount = c.likeCount + 1 where c.id = :commentId")
+    int increaseLikeCount(@Param("commentId") Long commentId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Comment c set c.likeCount = c.likeCount - 1 where c.id = :commentId and c.likeCount > 0")
+    int decreaseLikeCount(@Param("commentId") Long commentId);
 }
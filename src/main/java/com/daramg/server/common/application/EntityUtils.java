@@ -19,4 +19,12 @@ public class EntityUtils {
                         String.format("존재하지 않는 %s입니다. (target ID: %d)", entityType.getSimpleName(), id)
                 ));
     }
+
+    /**
+     * 벌크 UPDATE 로 변경된 카운터 등을 영속성 컨텍스트의 엔티티에 다시 읽어 온다.
+     * 호출 전에 flush 되어 있어야 하며, 변경 감지로 덮어쓰지 않도록 엔티티 필드는 직접 수정하지 않는다.
+     */
+    public void refresh(Object entity) {
+        entityManager.refresh(entity);
+    }
 }
@@ -0,0 +1,78 @@
+package com.daramg.server.common.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * (대상 ID, user_id) 유니크 제약이 걸린 좋아요/스크랩 테이블의 토글을 처리한다.
+ * <p>
+ * 먼저 DELETE 를 시도하고 지운 행이 없을 때만 INSERT 하므로 exists 조회가 필요 없다.
+ * 같은 요청이 동시에 들어와 INSERT 가 유니크 제약에 걸리면 이미 다른 요청이 추가한 것이므로 추가된 상태로 본다.
+ * <br>
+ * MySQL(InnoDB, REPEATABLE READ)에서는 지울 행이 없는 DELETE 도 유니크 인덱스에 갭 락을 잡으므로,
+ * 같은 대상에 동시에 좋아요한 두 유저가 서로의 갭 락 때문에 INSERT 하지 못해 한쪽이 데드락으로 롤백될 수 있다.
+ * 롤백된 쪽의 행은 남지 않으므로 락 충돌 예외는 그대로 전파하고,
+ * 호출하는 서비스가 {@link LockConflictRetrier} 로 토글 전체를 새 트랜잭션에서 다시 실행한다.
+ * <br>
+ * 제약 위반이 JPA 트랜잭션을 rollback-only 로 만들지 않도록 JPA 가 아닌 JDBC 로 실행하며,
+ * 호출하는 서비스의 트랜잭션에 참여한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LikeToggler {
+
+    private static final Calendar UTC = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public enum Target {
+        POST_LIKE("post_likes", "post_id"),
+        POST_SCRAP("post_scraps", "post_id"),
+        COMMENT_LIKE("comment_likes", "comment_id"),
+        COMPOSER_LIKE("composer_likes", "composer_id");
+
+        private final String deleteSql;
+        private final String insertSql;
+
+        Target(String table, String targetColumn) {
+            this.deleteSql = "DELETE FROM " + table + " WHERE " + targetColumn + " = ? AND user_id = ?";
+            this.insertSql = "INSERT INTO " + table + " (" + targetColumn + ", user_id, created_at, updated_at)"
+                    + " VALUES (?, ?, ?, ?)";
+        }
+    }
+
+    /**
+     * @param active  토글 후 상태 (추가되었으면 {@code true}, 취소되었으면 {@code false})
+     * @param changed 이 요청이 실제로 행을 추가/삭제했는지 여부 (카운터 갱신 여부 판단용)
+     */
+    public record Result(boolean active, boolean changed) {
+    }
+
+    public Result toggle(Target target, Long targetId, Long userId) {
+        int deleted = jdbcTemplate.update(target.deleteSql, targetId, userId);
+        if (deleted > 0) {
+            return new Result(false, true);
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        try {
+            jdbcTemplate.update(target.insertSql, ps -> {
+                ps.setLong(1, targetId);
+                ps.setLong(2, userId);
+                ps.setTimestamp(3, now, (Calendar) UTC.clone());
+                ps.setTimestamp(4, now, (Calendar) UTC.clone());
+            });
+        } catch (DuplicateKeyException e) {
+            // 동시에 들어온 같은 요청이 먼저 추가함
+            return new Result(true, false);
+        }
+        return new Result(true, true);
+    }
+}
@@ -0,0 +1,42 @@
+package com.daramg.server.common.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 락 충돌(데드락, 락 대기 시간 초과)로 롤백된 작업을 새 트랜잭션에서 정해진 횟수만큼 다시 실행한다.
+ * <p>
+ * DB 는 데드락 희생자의 트랜잭션 전체를 롤백하므로 같은 트랜잭션에서 이어서 실행할 수 없다.
+ * 따라서 작업마다 트랜잭션을 새로 열며, 이미 열린 트랜잭션 안에서 호출되면 그 트랜잭션에 참여하고 재시도하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LockConflictRetrier {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public <T> T execute(Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.info("락 충돌로 롤백되어 다시 시도: attempt={}, cause={}", attempt, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.daramg.server.common.application;
+
+import com.daramg.server.comment.repository.CommentLikeRepository;
+import com.daramg.server.composer.repository.ComposerLikeRepository;
+import com.daramg.server.post.dto.PostViewerStateDto;
+import com.daramg.server.post.repository.PostQueryRepository;
+import com.daramg.server.user.domain.UserIdentity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 조회자의 게시물 좋아요/스크랩, 댓글 좋아요, 작곡가 좋아요 여부를 ID 만 조회해 페이지 단위로 한 번에 확인한다.
+ * <p>
+ * 결과는 HTTP 요청 속성에 캐시되어 같은 요청 안에서 이미 확인한 ID 는 다시 조회하지 않으므로,
+ * 하나의 응답을 만드는 동안 상호작용 종류마다 쿼리는 최대 한 번이다.
+ * 요청 밖(스케줄러, 테스트 등)에서는 캐시 없이 호출마다 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ViewerInteractionResolver {
+
+    private static final String CACHE_ATTRIBUTE = ViewerInteractionResolver.class.getName() + ".CACHE";
+
+    private final PostQueryRepository postQueryRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final ComposerLikeRepository composerLikeRepository;
+
+    public PostViewerStateDto resolvePosts(Collection<Long> postIds, UserIdentity viewer) {
+        if (viewer == null) {
+            return PostViewerStateDto.anonymousViewer();
+        }
+        InteractionCache cache = getCache(viewer);
+        Set<Long> missingPostIds = cache.missing(cache.postLikes, postIds);
+        if (!missingPostIds.isEmpty()) {
+            // 좋아요/스크랩은 한 쿼리로 함께 조회하므로 같이 채운다
+            PostViewerStateDto found = postQueryRepository.findViewerState(missingPostIds, viewer.getId());
+            cache.fill(cache.postLikes, missingPostIds, found.likedPostIds());
+            cache.fill(cache.postScraps, missingPostIds, found.scrappedPostIds());
+        }
+        return PostViewerStateDto.of(
+                cache.hits(cache.postLikes, postIds),
+                cache.hits(cache.postScraps, postIds)
+        );
+    }
+
+    /**
+     * @return 조회자가 좋아요한 댓글 ID (비로그인 시 빈 Set)
+     */
+    public Set<Long> findLikedCommentIds(Collection<Long> commentIds, UserIdentity viewer) {
+        if (viewer == null) {
+            return Set.of();
+        }
+        InteractionCache cache = getCache(viewer);
+        return cache.resolve(cache.commentLikes, commentIds,
+                missing -> commentLikeRepository.findLikedCommentIds(missing, viewer.getId()));
+    }
+
+    /**
+     * @return 조회자가 좋아요한 작곡가 ID (비로그인 시 빈 Set)
+     */
+    public Set<Long> findLikedComposerIds(Collection<Long> composerIds, UserIdentity viewer) {
+        if (viewer == null) {
+            return Set.of();
+        }
+        InteractionCache cache = getCache(viewer);
+        return cache.resolve(cache.composerLikes, composerIds,
+                missing -> composerLikeRepository.findLikedComposerIds(missing, viewer.getId()));
+    }
+
+    private InteractionCache getCache(UserIdentity viewer) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new InteractionCache(viewer.getId());
+        }
+        Object cached = attributes.getAttribute(CACHE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached instanceof InteractionCache cache && cache.viewerId.equals(viewer.getId())) {
+            return cache;
+        }
+        InteractionCache cache = new InteractionCache(viewer.getId());
+        attributes.setAttribute(CACHE_ATTRIBUTE, cache, RequestAttributes.SCOPE_REQUEST);
+        return cache;
+    }
+
+    /**
+     * 대상 ID -> 상호작용 여부. 조회한 적 없는 ID 는 키가 없다.
+     */
+    private static final class InteractionCache {
+
+        private final Long viewerId;
+        private final Map<Long, Boolean> postLikes = new HashMap<>();
+        private final Map<Long, Boolean> postScraps = new HashMap<>();
+        private final Map<Long, Boolean> commentLikes = new HashMap<>();
+        private final Map<Long, Boolean> composerLikes = new HashMap<>();
+
+        private InteractionCache(Long viewerId) {
+            this.viewerId = viewerId;
+        }
+
+        private Set<Long> resolve(Map<Long, Boolean> states, Collection<Long> ids,
+                                  Function<Collection<Long>, Set<Long>> loader) {
+            Set<Long> missingIds = missing(states, ids);
+            if (!missingIds.isEmpty()) {
+                fill(states, missingIds, loader.apply(missingIds));
+            }
+            return hits(states, ids);
+        }
+
+        private Set<Long> missing(Map<Long, Boolean> states, Collection<Long> ids) {
+            Set<Long> missingIds = new LinkedHashSet<>();
+            for (Long id : ids) {
+                if (!states.containsKey(id)) {
+                    missingIds.add(id);
+                }
+            }
+            return missingIds;
+        }
+
+        private void fill(Map<Long, Boolean> states, Set<Long> queriedIds, Set<Long> activeIds) {
+            for (Long id : queriedIds) {
+                states.put(id, activeIds.contains(id));
+            }
+        }
+
+        private Set<Long> hits(Map<Long, Boolean> states, Collection<Long> ids) {
+            Set<Long> activeIds = new HashSet<>();
+            for (Long id : ids) {
+                if (Boolean.TRUE.equals(states.get(id))) {
+                    activeIds.add(id);
+                }
+            }
+            return activeIds;
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package com.daramg.server.common.config;
 
 import com.daramg.server.auth.resolver.AuthUserResolver;
+import com.daramg.server.common.resolver.PageRequestResolver;
+import com.daramg.server.common.util.BoundedPasswordEncoder;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
@@ -18,9 +20,11 @@ import java.util.List;
 
 @Configuration
 @RequiredArgsConstructor
+@EnableConfigurationProperties({PagingProperties.class, PasswordHashingProperties.class})
 public class AppConfig implements WebMvcConfigurer {
 
     private final AuthUserResolver authUserResolver;
+    private final PageRequestResolver pageRequestResolver;
 
     @Value("${aws.s3.credentials.access-key}")
     private String accessKey;
@@ -31,9 +35,12 @@ public class AppConfig implements WebMvcConfigurer {
     @Value("${aws.region.static:ap-northeast-2}")
     private String region;
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties) {
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(passwordHashingProperties.strength()),
+                passwordHashingProperties
+        );
     }
 
     @Bean
@@ -48,5 +55,6 @@ public class AppConfig implements WebMvcConfigurer {
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(authUserResolver);
+        resolvers.add(pageRequestResolver);
     }
 }
@@ -0,0 +1,54 @@
+package com.daramg.server.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * 커서 페이징 크기 설정.
+ *
+ * @param defaultSize      size 를 생략했을 때의 페이지 크기
+ * @param maxSize          엔드포인트별 설정이 없을 때의 최대 페이지 크기
+ * @param endpointMaxSizes 요청 매핑 패턴 (예: /posts/{postId}/comments) 별 최대 페이지 크기
+ * @param adaptive         커넥션 풀 포화 시 페이지 축소 설정
+ */
+@ConfigurationProperties(prefix = "paging")
+public record PagingProperties(
+        Integer defaultSize,
+        Integer maxSize,
+        Map<String, Integer> endpointMaxSizes,
+        Adaptive adaptive
+) {
+
+    public PagingProperties {
+        if (defaultSize == null) defaultSize = 10;
+        if (maxSize == null) maxSize = 50;
+        if (endpointMaxSizes == null) endpointMaxSizes = Map.of();
+        if (adaptive == null) adaptive = new Adaptive(null, null, null);
+    }
+
+    public int maxSizeOf(String endpoint) {
+        if (endpoint == null) {
+            return maxSize;
+        }
+        return endpointMaxSizes.getOrDefault(endpoint, maxSize);
+    }
+
+    /**
+     * @param enabled         축소 사용 여부
+     * @param saturationRatio 사용 중인 커넥션 비율이 이 값 이상이거나 커넥션 대기 스레드가 있으면 포화로 본다
+     * @param shrinkRatio     포화 시 기본/최대 페이지 크기에 곱할 비율
+     */
+    public record Adaptive(
+            Boolean enabled,
+            Double saturationRatio,
+            Double shrinkRatio
+    ) {
+
+        public Adaptive {
+            if (enabled == null) enabled = true;
+            if (saturationRatio == null) saturationRatio = 0.8;
+            if (shrinkRatio == null) shrinkRatio = 0.5;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.daramg.server.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해싱 설정.
+ *
+ * @param strength      BCrypt 비용 (log2 라운드 수). 기존 해시는 해시에 담긴 비용으로 검증된다
+ * @param poolSize      동시에 해싱/검증할 수 있는 최대 스레드 수
+ * @param queueCapacity 해싱 스레드를 기다릴 수 있는 최대 요청 수. 넘으면 바로 503 으로 거절한다
+ * @param waitTimeout   대기를 포함한 해싱 결과를 기다리는 최대 시간. 넘으면 503 으로 거절한다
+ */
+@ConfigurationProperties(prefix = "password-hashing")
+public record PasswordHashingProperties(
+        Integer strength,
+        Integer poolSize,
+        Integer queueCapacity,
+        Duration waitTimeout
+) {
+
+    public PasswordHashingProperties {
+        if (strength == null) strength = 10;
+        if (poolSize == null) poolSize = Math.max(2, Runtime.getRuntime().availableProcessors());
+        if (queueCapacity == null) queueCapacity = 100;
+        if (waitTimeout == null) waitTimeout = Duration.ofSeconds(3);
+    }
+}
@@ -0,0 +1,6 @@
+package com.daramg.server.common.dto
+
+data class PageSizeClampCountDto(
+    val endpoint: String,
+    val clampedCount: Long
+)
@@ -0,0 +1,12 @@
+package com.daramg.server.common.dto
+
+data class PasswordHashingStatsDto(
+    val poolSize: Int,
+    val activeCount: Int,
+    val queueDepth: Int,
+    val queueCapacity: Int,
+    val completedCount: Long,
+    val rejectedCount: Long,
+    val averageLatencyMillis: Double,
+    val maxLatencyMillis: Double
+)
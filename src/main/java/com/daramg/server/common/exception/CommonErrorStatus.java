@@ -10,6 +10,7 @@ import org.springframework.http.HttpStatus;
 public enum CommonErrorStatus implements BaseErrorCode {
 
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCategory.COMMON.generate(500), "서버 에러, 서버 관리자에게 문의 바랍니다."),
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, ErrorCategory.COMMON.generate(503), "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
     GATEWAY_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, ErrorCategory.COMMON.generate(504), "타임아웃 에러, 서버 관리자에게 문의 바랍니다."),
 
     BAD_REQUEST(HttpStatus.BAD_REQUEST, ErrorCategory.COMMON.generate(400), "유효하지 않은 요청입니다."),
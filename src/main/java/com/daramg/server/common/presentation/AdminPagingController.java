@@ -0,0 +1,28 @@
+package com.daramg.server.common.presentation;
+
+import com.daramg.server.common.dto.PageSizeClampCountDto;
+import com.daramg.server.common.util.PageSizePolicy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/paging")
+public class AdminPagingController {
+
+    private final PageSizePolicy pageSizePolicy;
+
+    @GetMapping("/clamped-counts")
+    @ResponseStatus(HttpStatus.OK)
+    public List<PageSizeClampCountDto> getClampedCounts() {
+        return pageSizePolicy.getClampedCounts().entrySet().stream()
+                .map(entry -> new PageSizeClampCountDto(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+}
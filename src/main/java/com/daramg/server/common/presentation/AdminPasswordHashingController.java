@@ -0,0 +1,33 @@
+package com.daramg.server.common.presentation;
+
+import com.daramg.server.common.dto.PasswordHashingStatsDto;
+import com.daramg.server.common.util.BoundedPasswordEncoder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/password-hashing")
+public class AdminPasswordHashingController {
+
+    private final BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @GetMapping("/stats")
+    @ResponseStatus(HttpStatus.OK)
+    public PasswordHashingStatsDto getStats() {
+        return new PasswordHashingStatsDto(
+                boundedPasswordEncoder.getPoolSize(),
+                boundedPasswordEncoder.getActiveCount(),
+                boundedPasswordEncoder.getQueueDepth(),
+                boundedPasswordEncoder.getQueueCapacity(),
+                boundedPasswordEncoder.getCompletedCount(),
+                boundedPasswordEncoder.getRejectedCount(),
+                boundedPasswordEncoder.getAverageLatencyMillis(),
+                boundedPasswordEncoder.getMaxLatencyMillis()
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package com.daramg.server.common.resolver;
+
+import com.daramg.server.common.dto.PageRequestDto;
+import com.daramg.server.common.exception.BusinessException;
+import com.daramg.server.common.exception.CommonErrorStatus;
+import com.daramg.server.common.util.PageSizePolicy;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.MethodParameter;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * cursor, size 쿼리 파라미터로 PageRequestDto 를 만들면서 size 를 {@link PageSizePolicy} 로 확정한다.
+ * 서비스에는 항상 명시적인 size 가 담긴 PageRequestDto 가 전달된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PageRequestResolver implements HandlerMethodArgumentResolver {
+
+    private final PageSizePolicy pageSizePolicy;
+
+    @Override
+    public boolean supportsParameter(@NotNull MethodParameter parameter) {
+        return PageRequestDto.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(@NotNull MethodParameter parameter, @Nullable ModelAndViewContainer mavContainer,
+                                  @NotNull NativeWebRequest webRequest, @Nullable WebDataBinderFactory binderFactory) {
+        String cursor = webRequest.getParameter("cursor");
+        String endpoint = (String) webRequest.getAttribute(
+                HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        int size = pageSizePolicy.resolveSize(endpoint, parseSize(webRequest.getParameter("size")));
+        return new PageRequestDto(StringUtils.hasText(cursor) ? cursor : null, size);
+    }
+
+    private Integer parseSize(String size) {
+        if (!StringUtils.hasText(size)) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(size.trim());
+        } catch (NumberFormatException e) {
+            throw new BusinessException(CommonErrorStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.daramg.server.common.util;
+
+import com.daramg.server.common.config.PasswordHashingProperties;
+import com.daramg.server.common.exception.BusinessException;
+import com.daramg.server.common.exception.CommonErrorStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비밀번호 해싱/검증을 전용 스레드 풀에서 실행해 동시에 수행되는 BCrypt 연산 수를 제한한다.
+ * <p>
+ * 로그인이 몰려도 CPU 를 쓰는 해싱은 풀 크기만큼만 동시에 실행되고, 대기열이 가득 차거나 대기 시간을 넘기면
+ * 요청 스레드를 붙잡아 두지 않고 바로 503 으로 거절한다. 대기열 길이와 해싱 시간은 집계해 조회할 수 있다.
+ * <p>
+ * 해싱을 기다리는 동안 DB 커넥션을 붙잡지 않도록 호출하는 쪽은 트랜잭션 밖에서 해싱한 뒤 쓰기 트랜잭션을 연다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final long waitTimeoutMillis;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Long::max, 0L);
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingProperties properties) {
+        this.delegate = delegate;
+        this.waitTimeoutMillis = properties.waitTimeout().toMillis();
+        this.queueCapacity = properties.queueCapacity();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hash-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(
+                properties.poolSize(), properties.poolSize(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public int getPoolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public long getCompletedCount() {
+        return completedCount.sum();
+    }
+
+    /**
+     * 대기열이 가득 찼거나 대기 시간을 넘겨 503 으로 거절된 요청 수
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public double getAverageLatencyMillis() {
+        long completed = completedCount.sum();
+        return completed == 0 ? 0.0 : totalLatencyNanos.sum() / (double) completed / 1_000_000;
+    }
+
+    public double getMaxLatencyMillis() {
+        return maxLatencyNanos.get() / 1_000_000.0;
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timed(task));
+        } catch (RejectedExecutionException e) {
+            throw reject("대기열 포화");
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            cancel(future);
+            throw reject("대기 시간 초과");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(future);
+            throw reject("요청 스레드 인터럽트");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 취소된 작업은 워커가 꺼낼 때까지 대기열 자리를 차지하므로, 아직 대기 중이었다면 바로 대기열에서 뺀다
+     */
+    private void cancel(Future<?> future) {
+        future.cancel(true);
+        executor.remove((Runnable) future);
+    }
+
+    private <T> T timed(Callable<T> task) throws Exception {
+        long startedAt = System.nanoTime();
+        try {
+            return task.call();
+        } finally {
+            long elapsed = System.nanoTime() - startedAt;
+            completedCount.increment();
+            totalLatencyNanos.add(elapsed);
+            maxLatencyNanos.accumulate(elapsed);
+        }
+    }
+
+    private BusinessException reject(String reason) {
+        rejectedCount.increment();
+        log.warn("비밀번호 해싱 거절: reason={}, active={}, queued={}", reason, executor.getActiveCount(), executor.getQueue().size());
+        return new BusinessException(CommonErrorStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,190 @@
+package com.daramg.server.common.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 최대 항목 수와 항목별 만료 시각을 가진 메모리 캐시.
+ * <p>
+ * 가득 차면 가장 오래 사용되지 않은 항목을 내보내며, 모든 연산은 하나의 락 안에서 상수 시간에 끝난다.
+ * 값을 읽기 전에 키 자리에 읽기 표식을 두고, 읽은 값은 그 표식이 그대로 남아 있을 때만 저장한다.
+ * 읽는 도중 그 키가 무효화되었다면 표식이 지워졌으므로 이전 상태를 저장하지 않는다.
+ * 표식은 항목 자체이므로 항목과 함께 지워지고 따로 쌓이지 않는다.
+ * <p>
+ * 그룹 함수를 주면 값이 속한 그룹(예: 유저 ID)별로 키를 모아 두어, 전체를 훑지 않고 그룹의 항목만 지울 수 있다.
+ */
+public class BoundedTtlCache<K, V> {
+
+    private final Object lock = new Object();
+    private final Function<? super V, Instant> expiresAtOf;
+    private final Function<? super V, ?> groupOf;
+    private final LinkedHashMap<K, Slot<V>> slots;
+    private final Map<Object, Set<K>> keysByGroup = new HashMap<>();
+    /**
+     * 읽는 중인 항목. 읽기 전에는 그룹을 알 수 없으므로 그룹 무효화 시 모두 지운다
+     */
+    private final Map<K, Slot<V>> loading = new HashMap<>();
+
+    /**
+     * 읽는 중이면 value 가 null 이다
+     */
+    private static final class Slot<V> {
+        private V value;
+        private Instant expiresAt;
+    }
+
+    public BoundedTtlCache(int maxEntries, Duration timeToLive) {
+        this(maxEntries, value -> Instant.now().plus(timeToLive), null);
+    }
+
+    /**
+     * @param expiresAtOf 저장할 값의 만료 시각. {@code null} 이거나 이미 지났으면 저장하지 않는다
+     * @param groupOf     값이 속한 그룹. {@link #invalidateGroup} 을 쓰지 않으면 {@code null}
+     */
+    public BoundedTtlCache(int maxEntries, Function<? super V, Instant> expiresAtOf, Function<? super V, ?> groupOf) {
+        this.expiresAtOf = expiresAtOf;
+        this.groupOf = groupOf;
+        this.slots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Slot<V>> eldest) {
+                if (size() <= maxEntries) {
+                    return false;
+                }
+                forget(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * 만료되지 않은 값을 반환하고, 없으면 loader 로 읽어 저장한다.
+     * loader 는 락 밖에서 실행되며, {@code null} 을 반환하거나 예외를 던지면 저장하지 않는다.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Slot<V> slot;
+        synchronized (lock) {
+            slot = slots.get(key);
+            if (slot != null && slot.value != null) {
+                if (slot.expiresAt.isAfter(Instant.now())) {
+                    return slot.value;
+                }
+                remove(key);
+                slot = null;
+            }
+            if (slot == null) {
+                slot = new Slot<>();
+                slots.put(key, slot);
+                loading.put(key, slot);
+            }
+        }
+
+        boolean stored = false;
+        try {
+            V loaded = loader.apply(key);
+            stored = store(key, slot, loaded);
+            return loaded;
+        } finally {
+            if (!stored) {
+                discard(key, slot);
+            }
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (lock) {
+            remove(key);
+        }
+    }
+
+    /**
+     * 그룹에 속한 항목과, 그룹을 아직 알 수 없는 읽는 중인 항목을 지운다
+     */
+    public void invalidateGroup(Object group) {
+        synchronized (lock) {
+            Set<K> keys = keysByGroup.remove(group);
+            if (keys != null) {
+                keys.forEach(slots::remove);
+            }
+            loading.forEach(slots::remove);
+            loading.clear();
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (lock) {
+            slots.clear();
+            keysByGroup.clear();
+            loading.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (lock) {
+            return slots.size();
+        }
+    }
+
+    private boolean store(K key, Slot<V> slot, V value) {
+        if (value == null) {
+            return false;
+        }
+        Instant expiresAt = expiresAtOf.apply(value);
+        if (expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return false;
+        }
+        synchronized (lock) {
+            if (slots.get(key) != slot) {
+                return false;
+            }
+            forget(key, slot);
+            slot.value = value;
+            slot.expiresAt = expiresAt;
+            if (groupOf != null) {
+                keysByGroup.computeIfAbsent(groupOf.apply(value), group -> new HashSet<>()).add(key);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 저장하지 못한 읽기 표식을 지운다. 같은 표식으로 읽던 다른 요청이 이미 저장했다면 그대로 둔다
+     */
+    private void discard(K key, Slot<V> slot) {
+        synchronized (lock) {
+            if (slot.value == null && slots.remove(key, slot)) {
+                forget(key, slot);
+            }
+        }
+    }
+
+    private void remove(K key) {
+        Slot<V> slot = slots.remove(key);
+        if (slot != null) {
+            forget(key, slot);
+        }
+    }
+
+    /**
+     * 지워지는 항목을 읽는 중 목록이나 그룹 색인에서 뺀다. 락 안에서만 호출한다
+     */
+    private void forget(K key, Slot<V> slot) {
+        if (slot.value == null) {
+            loading.remove(key, slot);
+            return;
+        }
+        if (groupOf == null) {
+            return;
+        }
+        Object group = groupOf.apply(slot.value);
+        Set<K> keys = keysByGroup.get(group);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            keysByGroup.remove(group);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.daramg.server.common.util;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Hikari 커넥션 풀 사용률 (0~1). 커넥션을 기다리는 스레드가 있으면 1, Hikari 풀이 아니거나 아직 초기화되지 않았으면 0 이다.
+ */
+@Component
+public class ConnectionPoolUsage implements DoubleSupplier {
+
+    private final ObjectProvider<DataSource> dataSourceProvider;
+
+    public ConnectionPoolUsage(ObjectProvider<DataSource> dataSourceProvider) {
+        this.dataSourceProvider = dataSourceProvider;
+    }
+
+    @Override
+    public double getAsDouble() {
+        DataSource dataSource = dataSourceProvider.getIfAvailable();
+        try {
+            if (dataSource == null || !dataSource.isWrapperFor(HikariDataSource.class)) {
+                return 0;
+            }
+            HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            if (pool == null) {
+                return 0; // 아직 풀이 초기화되지 않음
+            }
+            if (pool.getThreadsAwaitingConnection() > 0) {
+                return 1;
+            }
+            return (double) pool.getActiveConnections() / hikari.getMaximumPoolSize();
+        } catch (SQLException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.daramg.server.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 페이징 커서 (createdAt, id) 의 문자열 인코딩.
+ * <p>
+ * v1: [버전 1바이트][epoch 마이크로초 8바이트][id 8바이트] 를 패딩 없는 URL-safe Base64 로 인코딩한 23자 문자열.
+ * DB 의 created_at 정밀도가 마이크로초이므로 조회된 값은 손실 없이 왕복한다.
+ * <p>
+ * 이전 형식 ("2024-01-15T10:30:00Z_10" 의 표준 Base64) 은 길이가 4의 배수라 v1 과 겹치지 않으며,
+ * 이미 발급된 커서를 위해 계속 디코딩한다.
+ */
+final class CursorCodec {
+
+    private static final byte VERSION_1 = 1;
+    private static final int V1_BYTES = 1 + Long.BYTES + Long.BYTES;
+    private static final int V1_LENGTH = 23; // ceil(17 * 4 / 3)
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final String LEGACY_DELIMITER = "_";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {
+    }
+
+    static String encode(Instant createdAt, long id) {
+        long micros = Math.addExact(
+                Math.multiplyExact(createdAt.getEpochSecond(), MICROS_PER_SECOND),
+                createdAt.getNano() / 1_000
+        );
+        byte[] bytes = new byte[V1_BYTES];
+        bytes[0] = VERSION_1;
+        putLong(bytes, 1, micros);
+        putLong(bytes, 1 + Long.BYTES, id);
+        return ENCODER.encodeToString(bytes);
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우 (DateTimeParseException 포함)
+     */
+    static Decoded decode(String cursor) {
+        if (cursor.length() != V1_LENGTH) {
+            return decodeLegacy(cursor);
+        }
+        byte[] bytes = DECODER.decode(cursor);
+        if (bytes.length != V1_BYTES || bytes[0] != VERSION_1) {
+            throw new IllegalArgumentException("지원하지 않는 커서 버전입니다.");
+        }
+        long micros = getLong(bytes, 1);
+        Instant createdAt = Instant.ofEpochSecond(
+                Math.floorDiv(micros, MICROS_PER_SECOND),
+                Math.floorMod(micros, MICROS_PER_SECOND) * 1_000
+        );
+        return new Decoded(createdAt, getLong(bytes, 1 + Long.BYTES));
+    }
+
+    private static Decoded decodeLegacy(String cursor) {
+        String decoded = new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int delimiterIndex = decoded.lastIndexOf(LEGACY_DELIMITER);
+        if (delimiterIndex < 0) {
+            throw new IllegalArgumentException("구분자가 없는 커서입니다.");
+        }
+        return new Decoded(
+                Instant.parse(decoded.substring(0, delimiterIndex)),
+                Long.parseLong(decoded.substring(delimiterIndex + 1))
+        );
+    }
+
+    private static void putLong(byte[] bytes, int offset, long value) {
+        for (int i = Long.BYTES - 1; i >= 0; i--) {
+            bytes[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static long getLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    record Decoded(Instant createdAt, long id) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.daramg.server.common.util;
+
+import com.daramg.server.common.config.PagingProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 요청한 페이지 크기를 엔드포인트별 최대값으로 제한하고, 커넥션 풀이 포화되면 기본/최대 크기를 줄인다.
+ * 최대값을 넘어 잘린 요청 수는 엔드포인트별로 집계한다.
+ */
+@Slf4j
+@Component
+public class PageSizePolicy {
+
+    private final PagingProperties properties;
+    private final DoubleSupplier poolUsage;
+    private final Map<String, LongAdder> clampedCounts = new ConcurrentHashMap<>();
+
+    /**
+     * @param poolUsage 커넥션 풀 사용률 (0~1). 커넥션을 기다리는 스레드가 있으면 1 을 돌려준다. ({@link ConnectionPoolUsage})
+     */
+    public PageSizePolicy(PagingProperties properties, DoubleSupplier poolUsage) {
+        this.properties = properties;
+        this.poolUsage = poolUsage;
+    }
+
+    public int resolveSize(String endpoint, Integer requestedSize) {
+        int maxSize = properties.maxSizeOf(endpoint);
+        int defaultSize = Math.min(properties.defaultSize(), maxSize);
+        if (isSaturated()) {
+            maxSize = shrink(maxSize);
+            defaultSize = shrink(defaultSize);
+        }
+
+        if (requestedSize == null || requestedSize <= 0) {
+            return defaultSize;
+        }
+        if (requestedSize > maxSize) {
+            clampedCounts.computeIfAbsent(String.valueOf(endpoint), key -> new LongAdder()).increment();
+            log.debug("페이지 크기 제한: endpoint={}, requested={}, applied={}", endpoint, requestedSize, maxSize);
+            return maxSize;
+        }
+        return requestedSize;
+    }
+
+    /**
+     * 엔드포인트별로 최대 크기를 넘어 잘린 요청 수
+     */
+    public Map<String, Long> getClampedCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        clampedCounts.forEach((endpoint, count) -> counts.put(endpoint, count.sum()));
+        return counts;
+    }
+
+    private boolean isSaturated() {
+        PagingProperties.Adaptive adaptive = properties.adaptive();
+        return adaptive.enabled() && poolUsage.getAsDouble() >= adaptive.saturationRatio();
+    }
+
+    private int shrink(int size) {
+        return Math.max(1, (int) (size * properties.adaptive().shrinkRatio()));
+    }
+}
@@ -12,15 +12,12 @@ import org.springframework.stereotype.Component;
 
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
-import java.util.Base64;
 import java.util.List;
 import java.util.function.Function;
 
 @Component
 public class PagingUtils {
 
-    private static final String CURSOR_DELIMITER = "_";
-
     public <T> List<T> applyCursorPagination(
             JPAQuery<T> query,
             PageRequestDto request,
@@ -37,6 +34,25 @@ public class PagingUtils {
                 .fetch();
     }
 
+    /**
+     * 오래된 순(createdAt, id 오름차순) keyset 페이징. 커서 이후의 size + 1개를 조회한다.
+     */
+    public <T> List<T> applyAscendingCursorPagination(
+            JPAQuery<T> query,
+            PageRequestDto request,
+            DateTimePath<Instant> createdAtPath,
+            NumberPath<Long> idPath
+    ) {
+        int querySize = request.getValidatedSize() + 1;
+
+        Cursor cursor = decodeCursor(request.getCursor());
+        return query
+                .where(getAscendingPaginationConditions(cursor, createdAtPath, idPath))
+                .orderBy(createdAtPath.asc(), idPath.asc())
+                .limit(querySize)
+                .fetch();
+    }
+
     public <T, D> PageResponseDto<D> createPageResponse(
             List<T> content,
             int size,
@@ -62,32 +78,21 @@ public class PagingUtils {
         return new PageResponseDto<>(dtoList, nextCursor, hasNext);
     }
 
-    public <T> List<T> applyCursorPaginationToList(
-            List<T> content,
-            PageRequestDto request,
-            Function<T, Instant> createdAtExtractor,
-            Function<T, Long> idExtractor
+    private BooleanExpression getPaginationConditions(
+            Cursor cursor,
+            DateTimePath<Instant> createdAtPath,
+            NumberPath<Long> idPath
     ) {
-        Cursor cursor = decodeCursor(request.getCursor());
-        int size = request.getValidatedSize() + 1;
-
-        List<T> filtered = content.stream()
-                .filter(item -> {
-                    if (cursor == null) {
-                        return true;
-                    }
-                    Instant createdAt = createdAtExtractor.apply(item);
-                    Long id = idExtractor.apply(item);
-                    return createdAt.isBefore(cursor.createdAt())
-                            || (createdAt.equals(cursor.createdAt()) && id < cursor.id());
-                })
-                .limit(size)
-                .toList();
+        if (cursor == null) {
+            return null;
+        }
 
-        return filtered;
+        return createdAtPath.lt(cursor.createdAt())
+                .or(createdAtPath.eq(cursor.createdAt())
+                        .and(idPath.lt(cursor.id())));
     }
 
-    private BooleanExpression getPaginationConditions(
+    private BooleanExpression getAscendingPaginationConditions(
             Cursor cursor,
             DateTimePath<Instant> createdAtPath,
             NumberPath<Long> idPath
@@ -96,15 +101,14 @@ public class PagingUtils {
             return null;
         }
 
-        return createdAtPath.lt(cursor.createdAt())
+        return createdAtPath.gt(cursor.createdAt())
                 .or(createdAtPath.eq(cursor.createdAt())
-                        .and(idPath.lt(cursor.id())));
+                        .and(idPath.gt(cursor.id())));
     }
 
     public String encodeCursor(Instant createdAt, Long id) {
         if (createdAt == null || id == null) return null;
-        String cursorStr = createdAt.toString() + CURSOR_DELIMITER + id;
-        return Base64.getEncoder().encodeToString(cursorStr.getBytes());
+        return CursorCodec.encode(createdAt, id);
     }
 
     private Cursor decodeCursor(String cursorString) {
@@ -112,11 +116,9 @@ public class PagingUtils {
             return null;
         }
         try {
-            String decoded = new String(Base64.getDecoder().decode(cursorString));
-            String[] parts = decoded.split(CURSOR_DELIMITER);
-            return new Cursor(Instant.parse(parts[0]), Long.parseLong(parts[1]));
-        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException |
-                 DateTimeParseException e) {
+            CursorCodec.Decoded decoded = CursorCodec.decode(cursorString);
+            return new Cursor(decoded.createdAt(), decoded.id());
+        } catch (IllegalArgumentException | ArithmeticException | DateTimeParseException e) {
             throw new BusinessException(CommonErrorStatus.INVALID_CURSOR);
         }
     }
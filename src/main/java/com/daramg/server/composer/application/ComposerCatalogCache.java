@@ -0,0 +1,80 @@
+package com.daramg.server.composer.application;
+
+import com.daramg.server.composer.domain.Composer;
+import com.daramg.server.composer.domain.Continent;
+import com.daramg.server.composer.domain.Era;
+import com.daramg.server.composer.dto.ComposerResponseDto;
+import com.daramg.server.composer.repository.ComposerRepository;
+import com.daramg.server.post.dto.StoryPostStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 작곡가 목록과 작곡가별 스토리 통계를 메모리에 보관한다.
+ * <p>
+ * 작곡가 생성/수정/삭제, 스토리 발행/삭제 시 {@code ComposerCatalogChangedEvent} 로 무효화되며,
+ * 이벤트가 발행되지 않는 경로(게시물 차단 등)를 위해 일정 시간이 지나면 다시 읽어 온다.
+ * 유저별 좋아요 여부는 캐시하지 않고 조회 시점에 덧씌운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ComposerCatalogCache {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private final ComposerRepository composerRepository;
+    private final ComposerStatsService composerStatsService;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    /**
+     * @param composer 좋아요 여부가 false 로 채워진 응답
+     */
+    public record Entry(ComposerResponseDto composer, Era era, Continent continent) {
+    }
+
+    private record Snapshot(long generation, List<Entry> entries, Instant loadedAt) {
+    }
+
+    public List<Entry> getEntries() {
+        long currentGeneration = generation.get();
+        Snapshot current = snapshot;
+        if (current != null
+                && current.generation() == currentGeneration
+                && current.loadedAt().plus(TIME_TO_LIVE).isAfter(Instant.now())) {
+            return current.entries();
+        }
+
+        List<Entry> entries = load();
+        // 읽는 도중 무효화되었다면 오래된 값을 저장하지 않음
+        if (generation.get() == currentGeneration) {
+            snapshot = new Snapshot(currentGeneration, entries, Instant.now());
+        }
+        return entries;
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    private List<Entry> load() {
+        List<Composer> composers = composerRepository.findAll();
+        Map<Long, StoryPostStatsDto> statsMap = composerStatsService.getStatsByComposerIds(
+                composers.stream().map(Composer::getId).toList());
+        return composers.stream()
+                .map(composer -> new Entry(
+                        ComposerResponseDto.from(composer, false, statsMap.get(composer.getId())),
+                        composer.getEra(),
+                        composer.getContinent()
+                ))
+                .toList();
+    }
+}
@@ -1,22 +1,18 @@
 package com.daramg.server.composer.application;
 
-import com.daramg.server.composer.domain.Composer;
 import com.daramg.server.composer.domain.Continent;
 import com.daramg.server.composer.domain.Era;
 import com.daramg.server.composer.dto.ComposerResponseDto;
 import com.daramg.server.composer.repository.ComposerLikeRepository;
-import com.daramg.server.composer.repository.ComposerRepository;
-import com.daramg.server.post.dto.StoryPostStatsDto;
-import com.daramg.server.post.repository.PostQueryRepository;
-import com.daramg.server.user.domain.User;
+import com.daramg.server.user.domain.UserIdentity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -25,23 +21,21 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ComposerQueryService {
 
-    private final ComposerRepository composerRepository;
     private final ComposerLikeRepository composerLikeRepository;
-    private final PostQueryRepository postQueryRepository;
+    private final ComposerCatalogCache composerCatalogCache;
 
-    public List<ComposerResponseDto> getAllComposers(User user, List<Era> eras, List<Continent> continents) {
+    /**
+     * 작곡가 정보와 통계는 {@link ComposerCatalogCache} 에서 가져오므로,
+     * 비로그인 조회는 캐시가 채워져 있으면 트랜잭션/커넥션 없이 응답한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<ComposerResponseDto> getAllComposers(UserIdentity user, List<Era> eras, List<Continent> continents) {
         Set<Long> likedComposerIds = getLikedComposerIds(user);
-        Map<Long, StoryPostStatsDto> statsMap = postQueryRepository.findStoryPostStatsByAllComposers();
-        List<Composer> allComposers = composerRepository.findAll();
 
-        return allComposers.stream()
-                .filter(composer -> eras == null || eras.isEmpty() || eras.contains(composer.getEra()))
-                .filter(composer -> continents == null || continents.isEmpty() || continents.contains(composer.getContinent()))
-                .map(composer -> ComposerResponseDto.from(
-                        composer,
-                        likedComposerIds.contains(composer.getId()),
-                        statsMap.get(composer.getId())
-                ))
+        return composerCatalogCache.getEntries().stream()
+                .filter(entry -> eras == null || eras.isEmpty() || eras.contains(entry.era()))
+                .filter(entry -> continents == null || continents.isEmpty() || continents.contains(entry.continent()))
+                .map(entry -> entry.composer().withLiked(likedComposerIds.contains(entry.composer().composerId())))
                 .sorted(
                         Comparator.comparing(ComposerResponseDto::isLiked).reversed()
                                 .thenComparing(ComposerResponseDto::koreanName)
@@ -52,7 +46,7 @@ public class ComposerQueryService {
     /**
      * 유저가 '좋아요'한 작곡가 ID Set 반환 (비로그인 시 빈 Set)
      */
-    private Set<Long> getLikedComposerIds(User user) {
+    private Set<Long> getLikedComposerIds(UserIdentity user) {
         return (user != null)
                 ? composerLikeRepository.findComposerIdsByUserId(user.getId())
                 : Collections.emptySet();
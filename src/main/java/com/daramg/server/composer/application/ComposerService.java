@@ -1,25 +1,26 @@
 package com.daramg.server.composer.application;
 
 import com.daramg.server.common.application.EntityUtils;
+import com.daramg.server.common.application.LikeToggler;
+import com.daramg.server.common.application.LockConflictRetrier;
 import com.daramg.server.common.exception.BusinessException;
 import com.daramg.server.common.exception.CommonErrorStatus;
 import com.daramg.server.common.exception.NotFoundException;
 import com.daramg.server.composer.domain.Composer;
-import com.daramg.server.composer.domain.ComposerLike;
 import com.daramg.server.composer.domain.ComposerPersona;
 import com.daramg.server.composer.dto.ComposerCreateDto;
+import com.daramg.server.composer.event.ComposerCatalogChangedEvent;
 import com.daramg.server.composer.dto.ComposerLikeResponseDto;
 import com.daramg.server.composer.dto.ComposerPersonaCreateDto;
 import com.daramg.server.composer.dto.ComposerPersonaResponseDto;
 import com.daramg.server.composer.dto.ComposerPersonaUpdateDto;
 import com.daramg.server.composer.dto.ComposerUpdateDto;
-import com.daramg.server.composer.repository.ComposerLikeRepository;
 import com.daramg.server.composer.repository.ComposerPersonaRepository;
 import com.daramg.server.composer.repository.ComposerRepository;
 import com.daramg.server.user.domain.User;
 import com.daramg.server.user.domain.UserRole;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,10 +30,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ComposerService {
 
-    private final ComposerLikeRepository composerLikeRepository;
     private final ComposerRepository composerRepository;
     private final ComposerPersonaRepository composerPersonaRepository;
     private final EntityUtils entityUtils;
+    private final LikeToggler likeToggler;
+    private final LockConflictRetrier lockConflictRetrier;
+    private final ComposerStatsService composerStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void createComposer(ComposerCreateDto dto, User user) {
@@ -52,20 +56,10 @@ public class ComposerService {
                 .continent(dto.getContinent())
                 .build();
         composerRepository.save(composer);
+        composerStatsService.composerCreated(composer);
+        eventPublisher.publishEvent(new ComposerCatalogChangedEvent(composer.getId()));
     }
 
-    /**
-     * 작곡가 좋아요 상태를 토글(Toggle)합니다.
-     * <p>
-     * 유저가 이미 좋아요를 누른 상태라면 삭제(취소)하고 누르지 않은 상태라면 저장(추가)합니다.
-     * <br>
-     * <b>Note:</b> 동시성 이슈(Race Condition)를 최소화하기 위해 {@code exists} 대신
-     * {@code findBy}를 사용하여 엔티티를 직접 조회한 후 처리합니다.
-     *
-     * @param composerId 대상 작곡가 ID
-     * @param user       요청한 유저 (인증 객체)
-     * @return 좋아요 생성 시 {@code true}, 취소 시 {@code false}를 담은 DTO
-     */
     @Transactional
     public void updateComposer(Long composerId, ComposerUpdateDto dto, User user) {
         if (user.getRole() != UserRole.ADMIN) {
@@ -75,6 +69,7 @@ public class ComposerService {
         composer.update(dto.getKoreanName(), dto.getEnglishName(), dto.getNativeName(),
                 dto.getGender(), dto.getNationality(), dto.getBirthYear(), dto.getDeathYear(),
                 dto.getBio(), dto.getEra(), dto.getContinent());
+        eventPublisher.publishEvent(new ComposerCatalogChangedEvent(composerId));
     }
 
     @Transactional
@@ -83,7 +78,9 @@ public class ComposerService {
             throw new BusinessException(CommonErrorStatus.FORBIDDEN);
         }
         Composer composer = entityUtils.getEntity(composerId, Composer.class);
+        composerStatsService.composerDeleted(composerId);
         composerRepository.delete(composer);
+        eventPublisher.publishEvent(new ComposerCatalogChangedEvent(composerId));
     }
 
     @Transactional
@@ -138,22 +135,25 @@ public class ComposerService {
                 .toList();
     }
 
-    @Transactional
+    /**
+     * 작곡가 좋아요 상태를 토글(Toggle)합니다.
+     * <p>
+     * 유저가 이미 좋아요를 누른 상태라면 삭제(취소)하고 누르지 않은 상태라면 저장(추가)합니다.
+     * <br>
+     * <b>Note:</b> 조회 없이 DELETE 후 지운 행이 없을 때만 INSERT 하며,
+     * 동시에 들어온 요청으로 유니크 제약에 걸리면 추가된 상태로 응답하고,
+     * 다른 유저의 좋아요와 락이 충돌해 롤백되면 새 트랜잭션에서 다시 시도합니다. ({@link LikeToggler}, {@link LockConflictRetrier})
+     *
+     * @param composerId 대상 작곡가 ID
+     * @param user       요청한 유저 (인증 객체)
+     * @return 좋아요 생성 시 {@code true}, 취소 시 {@code false}를 담은 DTO
+     */
     public ComposerLikeResponseDto toggleLike(Long composerId, User user) {
-        Composer composer = entityUtils.getEntity(composerId, Composer.class);
+        return lockConflictRetrier.execute(() -> {
+            entityUtils.getEntity(composerId, Composer.class);
 
-        return composerLikeRepository.findByComposerIdAndUserId(composerId, user.getId())
-                .map(like -> {
-                    composerLikeRepository.delete(like);
-                    return new ComposerLikeResponseDto(false);
-                })
-                .orElseGet(() -> {
-                    try {
-                        composerLikeRepository.save(ComposerLike.of(composer, user));
-                        return new ComposerLikeResponseDto(true);
-                    } catch (DataIntegrityViolationException e) {
-                        return new ComposerLikeResponseDto(true);
-                    }
-                });
+            LikeToggler.Result result = likeToggler.toggle(LikeToggler.Target.COMPOSER_LIKE, composerId, user.getId());
+            return new ComposerLikeResponseDto(result.active());
+        });
     }
 }
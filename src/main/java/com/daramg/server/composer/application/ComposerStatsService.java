@@ -0,0 +1,145 @@
+package com.daramg.server.composer.application;
+
+import com.daramg.server.composer.domain.Composer;
+import com.daramg.server.composer.domain.ComposerStats;
+import com.daramg.server.composer.repository.ComposerRepository;
+import com.daramg.server.composer.repository.ComposerStatsRepository;
+import com.daramg.server.post.domain.PostStatus;
+import com.daramg.server.post.domain.StoryPost;
+import com.daramg.server.post.dto.StoryPostStatsDto;
+import com.daramg.server.post.repository.PostQueryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * composer_stats 테이블을 관리한다.
+ * <p>
+ * 스토리 발행/발행 취소/삭제 시 해당 작곡가 행만 원자적으로 증감하며,
+ * 어긋난 행은 {@link #findInconsistentComposerIds()} 로 찾아 {@link #rebuild(Collection)} 로 다시 계산한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ComposerStatsService {
+
+    private final ComposerStatsRepository composerStatsRepository;
+    private final ComposerRepository composerRepository;
+    private final PostQueryRepository postQueryRepository;
+
+    public void storyPublished(StoryPost storyPost) {
+        Composer composer = storyPost.getPrimaryComposer();
+        if (composer == null) {
+            return;
+        }
+        int updated = composerStatsRepository.increaseStoryPostCount(composer.getId(), storyPost.getCreatedAt());
+        if (updated == 0) {
+            rebuild(List.of(composer.getId()));
+        }
+    }
+
+    public void storyUnpublished(StoryPost storyPost) {
+        Composer composer = storyPost.getPrimaryComposer();
+        if (composer == null) {
+            return;
+        }
+        storiesUnpublished(Map.of(composer.getId(), 1L));
+    }
+
+    /**
+     * @param countsByComposerId 작곡가별로 발행 상태에서 빠진 스토리 수 (posts 에는 이미 반영되어 있어야 함)
+     */
+    public void storiesUnpublished(Map<Long, Long> countsByComposerId) {
+        countsByComposerId.forEach((composerId, count) -> {
+            int updated = composerStatsRepository.decreaseStoryPostCount(composerId, count, PostStatus.PUBLISHED);
+            if (updated == 0) {
+                rebuild(List.of(composerId));
+            }
+        });
+    }
+
+    public void composerCreated(Composer composer) {
+        composerStatsRepository.save(ComposerStats.of(composer.getId(), 0L, null));
+    }
+
+    public void composerDeleted(Long composerId) {
+        composerStatsRepository.deleteById(composerId);
+    }
+
+    /**
+     * 통계 행이 없는 작곡가는 posts 에서 직접 집계해 채운다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, StoryPostStatsDto> getStatsByComposerIds(Collection<Long> composerIds) {
+        Map<Long, StoryPostStatsDto> statsMap = new HashMap<>();
+        composerStatsRepository.findAllById(composerIds).forEach(stats -> statsMap.put(
+                stats.getComposerId(),
+                new StoryPostStatsDto(stats.getStoryPostCount(), stats.getLastStoryPostAt())
+        ));
+
+        Set<Long> missingComposerIds = composerIds.stream()
+                .filter(composerId -> !statsMap.containsKey(composerId))
+                .collect(Collectors.toSet());
+        statsMap.putAll(postQueryRepository.findStoryPostStatsByComposerIds(missingComposerIds));
+        return statsMap;
+    }
+
+    /**
+     * 저장된 통계와 posts 집계 결과가 다른 작곡가 ID 목록 (통계 행이 없는 작곡가 포함)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findInconsistentComposerIds() {
+        Map<Long, StoryPostStatsDto> actualStats = postQueryRepository.findStoryPostStatsByAllComposers();
+        Map<Long, ComposerStats> storedStats = composerStatsRepository.findAll().stream()
+                .collect(Collectors.toMap(ComposerStats::getComposerId, Function.identity()));
+
+        return composerRepository.findAll().stream()
+                .map(Composer::getId)
+                .filter(composerId -> !matches(storedStats.get(composerId), actualStats.get(composerId)))
+                .toList();
+    }
+
+    /**
+     * 지정한 작곡가의 통계를 posts 에서 다시 집계해 덮어쓴다.
+     */
+    public void rebuild(Collection<Long> composerIds) {
+        if (composerIds.isEmpty()) {
+            return;
+        }
+        Map<Long, StoryPostStatsDto> actualStats = postQueryRepository.findStoryPostStatsByComposerIds(composerIds);
+        Map<Long, ComposerStats> storedStats = composerStatsRepository.findAllById(composerIds).stream()
+                .collect(Collectors.toMap(ComposerStats::getComposerId, Function.identity()));
+        Set<Long> existingComposerIds = composerRepository.findAllById(composerIds).stream()
+                .map(Composer::getId)
+                .collect(Collectors.toSet());
+
+        for (Long composerId : existingComposerIds) {
+            StoryPostStatsDto actual = actualStats.get(composerId);
+            long count = actual != null ? actual.storyPostCount() : 0L;
+            ComposerStats stats = storedStats.get(composerId);
+            if (stats == null) {
+                composerStatsRepository.save(ComposerStats.of(composerId, count, actual != null ? actual.lastStoryPostAt() : null));
+            } else {
+                stats.overwrite(count, actual != null ? actual.lastStoryPostAt() : null);
+            }
+        }
+    }
+
+    private boolean matches(ComposerStats stored, StoryPostStatsDto actual) {
+        if (stored == null) {
+            return false;
+        }
+        long actualCount = actual != null ? actual.storyPostCount() : 0L;
+        return stored.getStoryPostCount() == actualCount
+                && Objects.equals(stored.getLastStoryPostAt(), actual != null ? actual.lastStoryPostAt() : null);
+    }
+}
@@ -6,7 +6,15 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.lang.NonNull;
 
+import java.time.Instant;
+
+/**
+ * 작곡가별 게시물 피드용 인덱스.
+ * StoryPost/CurationPost의 primaryComposer 와 CurationPost의 additionalComposers 를 모두 펼쳐서 저장하며,
+ * 게시물 작성시각을 함께 보관해 (composer_id, post_created_at, post_id) 순서로 keyset 페이징 한다.
+ */
 @Entity
 @Getter
 @Table(name = "composer_posts",
@@ -15,7 +23,8 @@ import lombok.NoArgsConstructor;
                         name = "uc_composer_post",
                         columnNames = {"composer_id", "post_id"}
                 )
-        })
+        },
+        indexes = @Index(name = "idx_composer_posts_feed", columnList = "composer_id, post_created_at, post_id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ComposerPost extends BaseEntity<ComposerPost> {
 
@@ -27,8 +36,20 @@ public class ComposerPost extends BaseEntity<ComposerPost> {
     @JoinColumn(name = "post_id", nullable = false)
     private Post post;
 
+    @Column(name = "post_created_at", nullable = false)
+    private Instant postCreatedAt;
+
     private ComposerPost(Composer composer, Post post) {
         this.composer = composer;
         this.post = post;
     }
+
+    public static ComposerPost of(@NonNull Composer composer, @NonNull Post post) {
+        return new ComposerPost(composer, post);
+    }
+
+    @PrePersist
+    protected void copyPostCreatedAt() {
+        this.postCreatedAt = post.getCreatedAt() != null ? post.getCreatedAt() : getCreatedAt();
+    }
 }
@@ -0,0 +1,44 @@
+package com.daramg.server.composer.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 작곡가별 스토리 통계 (발행된 스토리 수, 마지막 스토리 작성 시각).
+ * 스토리 발행/발행 취소/삭제 시 {@code ComposerStatsService} 가 갱신한다.
+ */
+@Entity
+@Getter
+@Table(name = "composer_stats")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ComposerStats {
+
+    @Id
+    @Column(name = "composer_id")
+    private Long composerId;
+
+    @Column(name = "story_post_count", nullable = false)
+    private long storyPostCount;
+
+    @Column(name = "last_story_post_at")
+    private Instant lastStoryPostAt;
+
+    private ComposerStats(Long composerId, long storyPostCount, Instant lastStoryPostAt) {
+        this.composerId = composerId;
+        this.storyPostCount = storyPostCount;
+        this.lastStoryPostAt = lastStoryPostAt;
+    }
+
+    public static ComposerStats of(Long composerId, long storyPostCount, Instant lastStoryPostAt) {
+        return new ComposerStats(composerId, storyPostCount, lastStoryPostAt);
+    }
+
+    public void overwrite(long storyPostCount, Instant lastStoryPostAt) {
+        this.storyPostCount = storyPostCount;
+        this.lastStoryPostAt = lastStoryPostAt;
+    }
+}
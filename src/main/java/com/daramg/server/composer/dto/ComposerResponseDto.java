@@ -37,4 +37,9 @@ public record ComposerResponseDto(
                 stats != null ? stats.lastStoryPostAt() : null
         );
     }
+
+    public ComposerResponseDto withLiked(boolean isLiked) {
+        return new ComposerResponseDto(composerId, koreanName, englishName, nativeName, nationality, gender,
+                birthYear, deathYear, bio, isLiked, storyPostCount, lastStoryPostAt);
+    }
 }
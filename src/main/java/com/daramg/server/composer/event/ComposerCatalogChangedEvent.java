@@ -0,0 +1,9 @@
+package com.daramg.server.composer.event;
+
+/**
+ * 작곡가 목록 응답(작곡가 정보, 작곡가별 스토리 통계)이 바뀌었음을 알린다.
+ */
+public record ComposerCatalogChangedEvent(
+        Long composerId
+) {
+}
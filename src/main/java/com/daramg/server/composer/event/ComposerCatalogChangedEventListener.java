@@ -0,0 +1,20 @@
+package com.daramg.server.composer.event;
+
+import com.daramg.server.composer.application.ComposerCatalogCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+@Component
+@RequiredArgsConstructor
+public class ComposerCatalogChangedEventListener {
+
+    private final ComposerCatalogCache composerCatalogCache;
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    public void handleComposerCatalogChangedEvent(ComposerCatalogChangedEvent event) {
+        composerCatalogCache.invalidate();
+    }
+}
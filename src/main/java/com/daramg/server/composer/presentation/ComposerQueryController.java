@@ -7,7 +7,7 @@ import com.daramg.server.composer.domain.Continent;
 import com.daramg.server.composer.domain.Era;
 import com.daramg.server.common.dto.PageRequestDto;
 import com.daramg.server.post.application.PostQueryService;
-import com.daramg.server.user.domain.User;
+import com.daramg.server.auth.domain.AuthUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -25,7 +25,7 @@ public class ComposerQueryController {
 
     @GetMapping
     public ResponseEntity<List<ComposerResponseDto>> getComposers(
-            @AuthenticationPrincipal User user, // 로그인 or 비로그인 유저
+            @AuthenticationPrincipal AuthUser user, // 로그인 or 비로그인 유저
             @RequestParam(name = "eras", required = false) List<Era> eras,
             @RequestParam(name = "continents", required = false) List<Continent> continents
     ) {
@@ -36,8 +36,8 @@ public class ComposerQueryController {
     @GetMapping("/{composerId}/posts")
     public ResponseEntity<ComposerWithPostsResponseDto> getComposerWithPosts(
             @PathVariable Long composerId,
-            @AuthenticationPrincipal User user, // 로그인 or 비로그인 유저
-            @ModelAttribute PageRequestDto request
+            @AuthenticationPrincipal AuthUser user, // 로그인 or 비로그인 유저
+            PageRequestDto request
     ) {
         ComposerWithPostsResponseDto response = postQueryService.getComposerWithPosts(composerId, request, user);
         return ResponseEntity.ok(response);
@@ -1,20 +1,29 @@
 package com.daramg.server.composer.repository;
 
 import com.daramg.server.composer.domain.ComposerLike;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 public interface ComposerLikeRepository extends JpaRepository<ComposerLike, Long> {
-    Optional<ComposerLike> findByComposerIdAndUserId(Long composerId, Long userId);
-
     boolean existsByComposerIdAndUserId(Long composerId, Long userId);
 
-    void deleteByComposerIdAndUserId(Long composerId, Long userId);
-
     @Query("select cl.composer.id from ComposerLike cl where cl.user.id = :userId")
     Set<Long> findComposerIdsByUserId(@Param("userId") Long userId);
+
+    @Query("select cl.composer.id from ComposerLike cl where cl.composer.id in :composerIds and cl.user.id = :userId")
+    Set<Long> findLikedComposerIds(@Param("composerIds") Collection<Long> composerIds, @Param("userId") Long userId);
+
+    @Query("select cl.id from ComposerLike cl where cl.user.id = :userId order by cl.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from ComposerLike cl where cl.id in :ids")
+    int deleteAllByIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,48 @@
+package com.daramg.server.composer.repository;
+
+import com.daramg.server.composer.domain.ComposerStats;
+import com.daramg.server.post.domain.PostStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+public interface ComposerStatsRepository extends JpaRepository<ComposerStats, Long> {
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update ComposerStats s
+        set s.storyPostCount = s.storyPostCount + 1,
+            s.lastStoryPostAt = case
+                when s.lastStoryPostAt is null or s.lastStoryPostAt < :createdAt then :createdAt
+                else s.lastStoryPostAt
+            end
+        where s.composerId = :composerId
+        """)
+    int increaseStoryPostCount(@Param("composerId") Long composerId, @Param("createdAt") Instant createdAt);
+
+    /**
+     * 마지막 스토리 시각은 증감으로 구할 수 없으므로, 호출 전에 반영(flush)된 posts 에서 다시 읽는다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update ComposerStats s
+        set s.storyPostCount = case
+                when s.storyPostCount > :amount then s.storyPostCount - :amount
+                else 0
+            end,
+            s.lastStoryPostAt = (
+                select max(p.createdAt)
+                from StoryPost p
+                where p.primaryComposer.id = s.composerId
+                  and p.postStatus = :published
+                  and p.isBlocked = false
+            )
+        where s.composerId = :composerId
+        """)
+    int decreaseStoryPostCount(@Param("composerId") Long composerId,
+                               @Param("amount") long amount,
+                               @Param("published") PostStatus published);
+}
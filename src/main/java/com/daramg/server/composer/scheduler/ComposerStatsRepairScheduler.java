@@ -0,0 +1,35 @@
+package com.daramg.server.composer.scheduler;
+
+import com.daramg.server.composer.application.ComposerCatalogCache;
+import com.daramg.server.composer.application.ComposerStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ComposerStatsRepairScheduler {
+
+    private final ComposerStatsService composerStatsService;
+    private final ComposerCatalogCache composerCatalogCache;
+
+    @Scheduled(cron = "0 30 4 * * *") // 매일 04:30 실행
+    public void repairComposerStats() {
+        try {
+            List<Long> inconsistentComposerIds = composerStatsService.findInconsistentComposerIds();
+            if (inconsistentComposerIds.isEmpty()) {
+                return;
+            }
+
+            log.warn("작곡가 통계 불일치 발견 - 대상 {}건, composerIds={}", inconsistentComposerIds.size(), inconsistentComposerIds);
+            composerStatsService.rebuild(inconsistentComposerIds);
+            composerCatalogCache.invalidate();
+        } catch (Exception e) {
+            log.error("작곡가 통계 복구 중 예외", e);
+        }
+    }
+}
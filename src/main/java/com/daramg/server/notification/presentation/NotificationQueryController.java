@@ -7,7 +7,6 @@ import com.daramg.server.notification.dto.NotificationResponseDto;
 import com.daramg.server.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -21,7 +20,7 @@ public class NotificationQueryController {
     @GetMapping
     public PageResponseDto<NotificationResponseDto> getNotifications(
             User user,
-            @ModelAttribute PageRequestDto request
+            PageRequestDto request
     ) {
         return notificationQueryService.getNotifications(user, request);
     }
@@ -0,0 +1,37 @@
+package com.daramg.server.post.application;
+
+import com.daramg.server.common.util.BoundedTtlCache;
+import com.daramg.server.post.dto.PostDetailResponse;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 조회자와 무관한 게시물 상세 응답(비로그인 조회자 기준)을 게시물별로 메모리에 보관한다.
+ * <p>
+ * 게시물 수정/삭제, 댓글 작성/삭제, 좋아요 시 {@code PostDetailChangedEvent} 와 {@code NotificationEvent} 로 무효화되며,
+ * 이벤트가 발행되지 않는 경로(작성자 프로필 변경 등)를 위해 일정 시간이 지나면 다시 읽어 온다.
+ * 읽는 도중 무효화된 게시물의 응답은 저장하지 않으며, 다른 게시물의 무효화는 영향을 주지 않는다.
+ * 유저별 좋아요/스크랩 여부는 캐시하지 않고 조회 시점에 덧씌운다.
+ */
+@Component
+public class PostDetailCache {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(1);
+    private static final int MAX_ENTRIES = 1_000;
+
+    private final BoundedTtlCache<Long, PostDetailResponse> cache = new BoundedTtlCache<>(MAX_ENTRIES, TIME_TO_LIVE);
+
+    public PostDetailResponse get(Long postId, Supplier<PostDetailResponse> loader) {
+        return cache.get(postId, id -> loader.get());
+    }
+
+    public void invalidate(Long postId) {
+        cache.invalidate(postId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
@@ -2,10 +2,14 @@ package com.daramg.server.post.application;
 
 import com.daramg.server.aicomment.application.AiCommentService;
 import com.daramg.server.common.application.EntityUtils;
+import com.daramg.server.common.application.LikeToggler;
+import com.daramg.server.common.application.LockConflictRetrier;
 import com.daramg.server.common.exception.BusinessException;
 import com.daramg.server.post.exception.PostErrorStatus;
 import com.daramg.server.common.exception.NotFoundException;
+import com.daramg.server.composer.application.ComposerStatsService;
 import com.daramg.server.composer.domain.Composer;
+import com.daramg.server.composer.event.ComposerCatalogChangedEvent;
 import com.daramg.server.composer.repository.ComposerRepository;
 import com.daramg.server.notification.domain.NotificationType;
 import com.daramg.server.notification.event.NotificationEvent;
@@ -16,9 +20,8 @@ import com.daramg.server.post.dto.PostCreateDto;
 import com.daramg.server.post.dto.PostLikeResponseDto;
 import com.daramg.server.post.dto.PostScrapResponseDto;
 import com.daramg.server.post.dto.PostUpdateDto;
-import com.daramg.server.post.repository.PostLikeRepository;
+import com.daramg.server.post.event.PostDetailChangedEvent;
 import com.daramg.server.post.repository.PostRepository;
-import com.daramg.server.post.repository.PostScrapRepository;
 import com.daramg.server.post.utils.PostUserValidator;
 import com.daramg.server.user.domain.User;
 import lombok.RequiredArgsConstructor;
@@ -38,10 +41,11 @@ public class PostService {
     private final EntityUtils entityUtils;
 
     private static final String INVALID_POST_TYPE = "게시글 타입이 올바르지 않습니다.";
-    private final PostLikeRepository postLikeRepository;
-    private final PostScrapRepository postScrapRepository;
+    private final LikeToggler likeToggler;
+    private final LockConflictRetrier lockConflictRetrier;
     private final ApplicationEventPublisher eventPublisher;
     private final AiCommentService aiCommentService;
+    private final ComposerStatsService composerStatsService;
 
     @Transactional
     public void createFree(PostCreateDto.CreateFree dto, User user) {
@@ -115,6 +119,10 @@ public class PostService {
         Post post = StoryPost.from(vo);
         postRepository.save(post);
         aiCommentService.scheduleForPost(post);
+        if (post.getPostStatus() == PostStatus.PUBLISHED) {
+            composerStatsService.storyPublished((StoryPost) post);
+            eventPublisher.publishEvent(new ComposerCatalogChangedEvent(primaryComposer.getId()));
+        }
     }
 
     @Transactional
@@ -126,6 +134,7 @@ public class PostService {
         PostUserValidator.check(freePost, user);
         PostUpdateVo vo = toUpdateVo(dto);
         freePost.update(vo);
+        eventPublisher.publishEvent(new PostDetailChangedEvent(postId));
     }
 
     @Transactional
@@ -136,7 +145,17 @@ public class PostService {
         }
         PostUserValidator.check(storyPost, user);
         PostUpdateVo vo = toUpdateVo(dto);
+        PostStatus previousStatus = storyPost.getPostStatus();
         storyPost.update(vo);
+        eventPublisher.publishEvent(new PostDetailChangedEvent(postId));
+        if (previousStatus != storyPost.getPostStatus()) {
+            if (storyPost.getPostStatus() == PostStatus.PUBLISHED) {
+                composerStatsService.storyPublished(storyPost);
+            } else if (previousStatus == PostStatus.PUBLISHED) {
+                composerStatsService.storyUnpublished(storyPost);
+            }
+            publishComposerCatalogChanged(storyPost);
+        }
     }
 
     @Transactional
@@ -148,6 +167,7 @@ public class PostService {
         PostUserValidator.check(curationPost, user);
         PostUpdateVo vo = toUpdateVo(dto);
         curationPost.update(vo);
+        eventPublisher.publishEvent(new PostDetailChangedEvent(postId));
 
         if (dto.getAdditionalComposersId() != null){
             List<Long> composerIds = dto.getAdditionalComposersId();
@@ -171,43 +191,51 @@ public class PostService {
         Post post = entityUtils.getEntity(postId, Post.class);
         PostUserValidator.check(post, user);
         post.softDelete();
+        eventPublisher.publishEvent(new PostDetailChangedEvent(postId));
+        if (post instanceof StoryPost storyPost && storyPost.getPostStatus() == PostStatus.PUBLISHED) {
+            composerStatsService.storyUnpublished(storyPost);
+            publishComposerCatalogChanged(storyPost);
+        }
     }
 
-    @Transactional
-    public PostLikeResponseDto toggleLike(Long postId, User user) {
-        Post post = entityUtils.getEntity(postId, Post.class);
+    private void publishComposerCatalogChanged(StoryPost storyPost) {
+        Long composerId = storyPost.getPrimaryComposer() != null ? storyPost.getPrimaryComposer().getId() : null;
+        eventPublisher.publishEvent(new ComposerCatalogChangedEvent(composerId));
+    }
 
-        boolean alreadyLiked = postLikeRepository
-                .existsByPostIdAndUserId(postId, user.getId());
-        if (alreadyLiked) {
-            postLikeRepository.deleteByPostIdAndUserId(postId, user.getId());
-            post.decrementPostLike();
-            return new PostLikeResponseDto(false, post.getLikeCount());
-        }
+    /**
+     * 다른 유저의 좋아요와 락이 충돌해 롤백되면 새 트랜잭션에서 다시 시도한다. ({@link LockConflictRetrier})
+     */
+    public PostLikeResponseDto toggleLike(Long postId, User user) {
+        return lockConflictRetrier.execute(() -> {
+            Post post = entityUtils.getEntity(postId, Post.class);
+
+            LikeToggler.Result result = likeToggler.toggle(LikeToggler.Target.POST_LIKE, postId, user.getId());
+            if (result.changed()) {
+                if (result.active()) {
+                    postRepository.increaseLikeCount(postId);
+                } else {
+                    postRepository.decreaseLikeCount(postId);
+                }
+                eventPublisher.publishEvent(new PostDetailChangedEvent(postId));
+            }
+            entityUtils.refresh(post);
 
-        postLikeRepository.save(PostLike.of(post, user));
-        post.incrementPostLike();
-        if (!post.getUser().getId().equals(user.getId())) {
-            eventPublisher.publishEvent(new NotificationEvent(
-                    post.getUser(), user, post, NotificationType.POST_LIKE
-            ));
-        }
-        return new PostLikeResponseDto(true, post.getLikeCount());
+            if (result.active() && result.changed() && !post.getUser().getId().equals(user.getId())) {
+                eventPublisher.publishEvent(new NotificationEvent(
+                        post.getUser(), user, post, NotificationType.POST_LIKE
+                ));
+            }
+            return new PostLikeResponseDto(result.active(), post.getLikeCount());
+        });
     }
 
-    @Transactional
     public PostScrapResponseDto toggleScrap(Long postId, User user) {
-        Post post = entityUtils.getEntity(postId, Post.class);
-
-        boolean alreadyScrapped = postScrapRepository
-                .existsByPostIdAndUserId(postId, user.getId());
-
-        if (alreadyScrapped) {
-            postScrapRepository.deleteByPostIdAndUserId(postId, user.getId());
-            return new PostScrapResponseDto(false);
-        }
+        return lockConflictRetrier.execute(() -> {
+            entityUtils.getEntity(postId, Post.class);
 
-        postScrapRepository.save(PostScrap.of(post, user));
-        return new PostScrapResponseDto(true);
+            LikeToggler.Result result = likeToggler.toggle(LikeToggler.Target.POST_SCRAP, postId, user.getId());
+            return new PostScrapResponseDto(result.active());
+        });
     }
 }
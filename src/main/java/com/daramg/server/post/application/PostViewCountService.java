@@ -0,0 +1,64 @@
+package com.daramg.server.post.application;
+
+import com.daramg.server.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시물 조회수를 메모리에 모아 두었다가 주기적으로 한꺼번에 반영한다.
+ * 상세 조회마다 posts 행을 UPDATE 하지 않으므로, 반영 전까지 조회수는 약간 늦게 보일 수 있다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostViewCountService {
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Long, Long> pendingViewCounts = new ConcurrentHashMap<>();
+
+    public void increaseViewCount(Long postId) {
+        pendingViewCounts.merge(postId, 1L, Long::sum);
+    }
+
+    /**
+     * 모인 조회수를 꺼내 반영한다. UPDATE 나 커밋이 실패하면 꺼낸 조회수를 다시 더해 다음 반영 때 시도한다.
+     */
+    public int flush() {
+        Map<Long, Long> drained = drain();
+        if (drained.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            // 같은 증가량을 가진 게시물끼리 묶어 UPDATE 한 번으로 반영
+            Map<Long, List<Long>> postIdsByDelta = new HashMap<>();
+            drained.forEach((postId, delta) ->
+                    postIdsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(postId));
+            transactionTemplate.executeWithoutResult(status -> postIdsByDelta.forEach((delta, postIds) ->
+                    postRepository.increaseViewCounts(postIds, Math.toIntExact(delta))));
+        } catch (RuntimeException e) {
+            drained.forEach((postId, delta) -> pendingViewCounts.merge(postId, delta, Long::sum));
+            throw e;
+        }
+        return drained.size();
+    }
+
+    /**
+     * 읽은 조회수만큼만 원자적으로 빼고, 남은 조회수가 없는 게시물은 맵에서 지운다.
+     * 읽은 뒤 들어온 조회는 맵에 남으므로 유실되지 않고, 맵은 반영 대기 중인 게시물 수만큼만 유지된다.
+     */
+    private Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>(pendingViewCounts);
+        drained.forEach((postId, delta) -> pendingViewCounts.computeIfPresent(postId,
+                (id, pending) -> pending.equals(delta) ? null : pending - delta));
+        return drained;
+    }
+}
@@ -8,7 +8,9 @@ import lombok.*;
 import org.springframework.lang.NonNull;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
 @DiscriminatorValue("CURATION")
@@ -36,6 +38,7 @@ public class CurationPost extends Post {
         super(user, title, content, images, videoUrl, hashtags, postStatus);
         this.primaryComposer = primaryComposer;
         this.additionalComposers = additionalComposers;
+        linkComposers(relatedComposers());
     }
 
     public static CurationPost from(PostCreateVo.Curation vo) {
@@ -57,5 +60,15 @@ public class CurationPost extends Post {
         if (additionalComposers != null) {
             this.additionalComposers.addAll(additionalComposers);
         }
+        linkComposers(relatedComposers());
+    }
+
+    private Set<Composer> relatedComposers() {
+        Set<Composer> composers = new LinkedHashSet<>();
+        if (primaryComposer != null) {
+            composers.add(primaryComposer);
+        }
+        composers.addAll(additionalComposers);
+        return composers;
     }
 }
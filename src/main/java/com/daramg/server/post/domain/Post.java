@@ -2,26 +2,48 @@ package com.daramg.server.post.domain;
 
 import com.daramg.server.common.converter.JsonArrayConverter;
 import com.daramg.server.common.domain.BaseEntity;
+import com.daramg.server.composer.domain.Composer;
+import com.daramg.server.composer.domain.ComposerPost;
 import com.daramg.server.post.domain.vo.PostUpdateVo;
 import com.daramg.server.user.domain.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLRestriction;
 import org.springframework.lang.NonNull;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Entity
+@DynamicUpdate
 @Getter
-@Table(name = "posts")
+@Table(name = "posts",
+        indexes = {
+                @Index(name = "idx_posts_type_feed", columnList = "TYPE, post_status, is_blocked, is_deleted, created_at, id"),
+                @Index(name = "idx_posts_user_feed", columnList = "user_id, post_status, is_blocked, is_deleted, created_at, id"),
+                @Index(name = "idx_posts_recent_feed", columnList = "post_status, is_blocked, is_deleted, created_at, id")
+        })
 @SQLRestriction("is_deleted = false")
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "TYPE", discriminatorType = DiscriminatorType.STRING)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class Post extends BaseEntity<Post> {
 
+    /**
+     * 목록 프로젝션 조회용 읽기 전용 매핑 (값은 discriminator / 하위 타입 연관관계가 관리)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "TYPE", insertable = false, updatable = false)
+    private PostType type;
+
+    @Column(name = "composer_id", insertable = false, updatable = false)
+    private Long primaryComposerId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
@@ -65,6 +87,9 @@ public abstract class Post extends BaseEntity<Post> {
     @Column(name = "deleted_at")
     private Instant deletedAt;
 
+    @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<ComposerPost> composerPosts = new ArrayList<>();
+
     protected Post(@NonNull User user, @NonNull String title, @NonNull String content,
                    @Singular List<String> images, String videoUrl,
                    @Singular List<String> hashtags, @NonNull PostStatus postStatus) {
@@ -122,30 +147,26 @@ public abstract class Post extends BaseEntity<Post> {
         this.hashtags = hashtags;
     }
 
-    public void incrementPostLike(){
-        likeCount++;
-    }
-
-    public void decrementPostLike(){
-        if (likeCount > 0){
-            likeCount--;
+    /**
+     * 작곡가별 피드 인덱스(composer_posts)를 주어진 작곡가 목록과 일치시킨다.
+     * 이미 연결된 작곡가는 그대로 두어 같은 (composer_id, post_id)를 삭제 후 재삽입하지 않는다.
+     */
+    protected void linkComposers(Collection<Composer> composers) {
+        Set<Long> composerIds = composers.stream()
+                .map(Composer::getId)
+                .collect(Collectors.toSet());
+        composerPosts.removeIf(link -> !composerIds.contains(link.getComposer().getId()));
+
+        Set<Long> linkedIds = composerPosts.stream()
+                .map(link -> link.getComposer().getId())
+                .collect(Collectors.toSet());
+        for (Composer composer : composers) {
+            if (linkedIds.add(composer.getId())) {
+                composerPosts.add(ComposerPost.of(composer, this));
+            }
         }
     }
 
-    public void incrementCommentCount(){
-        commentCount++;
-    }
-
-    public void decrementCommentCount() {
-        if (commentCount > 0) {
-            commentCount--;
-        }
-    }
-
-    public void incrementViewCount(){
-        viewCount++;
-    }
-
     public void softDelete() {
         if (this.isDeleted) return;
 
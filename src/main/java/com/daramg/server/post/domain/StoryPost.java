@@ -25,6 +25,7 @@ public class StoryPost extends Post {
                      @Singular List<String> hashtags, @NonNull PostStatus postStatus) {
         super(user, title, content, images, videoUrl, hashtags, postStatus);
         this.primaryComposer = primaryComposer;
+        linkComposers(primaryComposer != null ? List.of(primaryComposer) : List.of());
     }
 
     public static StoryPost from(PostCreateVo.Story vo) {
@@ -1,5 +1,6 @@
 package com.daramg.server.post.dto;
 
+import com.daramg.server.common.dto.PageResponseDto;
 import com.daramg.server.common.exception.BusinessException;
 import com.daramg.server.composer.domain.Composer;
 import com.daramg.server.comment.dto.CommentResponseDto;
@@ -11,7 +12,9 @@ import com.daramg.server.post.domain.PostType;
 import com.daramg.server.post.domain.StoryPost;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public record PostDetailResponse(
@@ -35,7 +38,9 @@ public record PostDetailResponse(
         List<ComposerInfo> additionalComposers,
         Boolean isLiked,
         Boolean isScrapped,
-        List<CommentResponseDto> comments
+        List<CommentResponseDto> comments,
+        boolean hasNextComments,
+        String nextCommentCursor
 ) {
     public static PostDetailResponse from(Post post) {
         return from(post, null, null, List.of());
@@ -46,6 +51,13 @@ public record PostDetailResponse(
     }
 
     public static PostDetailResponse from(Post post, Boolean isLiked, Boolean isScrapped, List<CommentResponseDto> comments) {
+        return from(post, isLiked, isScrapped, new PageResponseDto<>(comments, null, false));
+    }
+
+    /**
+     * 댓글은 첫 페이지만 포함하며, 이후 페이지는 nextCommentCursor 로 댓글 목록 API 에서 조회한다.
+     */
+    public static PostDetailResponse from(Post post, Boolean isLiked, Boolean isScrapped, PageResponseDto<CommentResponseDto> commentsPage) {
         PostType type = getPostType(post);
         ComposerInfo primaryComposer = null;
         List<ComposerInfo> additionalComposers = null;
@@ -86,10 +98,42 @@ public record PostDetailResponse(
                 additionalComposers,
                 isLiked,
                 isScrapped,
-                comments
+                commentsPage.getContent(),
+                commentsPage.getHasNext(),
+                commentsPage.getNextCursor()
         );
     }
 
+    /**
+     * 비로그인 기준으로 만든(캐시된) 응답에 조회자의 게시물/댓글 상호작용 여부를 덧씌운다.
+     */
+    public PostDetailResponse withViewerState(Boolean isLiked, Boolean isScrapped, Set<Long> likedCommentIds) {
+        List<CommentResponseDto> viewerComments = new ArrayList<>(comments.size());
+        for (CommentResponseDto comment : comments) {
+            viewerComments.add(comment.withViewerLikes(likedCommentIds));
+        }
+        return new PostDetailResponse(
+                id, writerNickname, writerProfileImage, title, content, images, videoUrl, hashtags,
+                postStatus, likeCount, commentCount, viewCount, isBlocked, createdAt, updatedAt, type,
+                primaryComposer, additionalComposers, isLiked, isScrapped,
+                viewerComments, hasNextComments, nextCommentCursor
+        );
+    }
+
+    /**
+     * 응답에 포함된 댓글과 미리보기 대댓글의 ID
+     */
+    public List<Long> commentIds() {
+        List<Long> commentIds = new ArrayList<>();
+        for (CommentResponseDto comment : comments) {
+            commentIds.add(comment.id());
+            for (CommentResponseDto.ChildCommentResponseDto childComment : comment.childComments()) {
+                commentIds.add(childComment.id());
+            }
+        }
+        return commentIds;
+    }
+
     private static PostType getPostType(Post post) {
         if (post instanceof StoryPost) {
             return PostType.STORY;
@@ -0,0 +1,24 @@
+package com.daramg.server.post.dto;
+
+import com.daramg.server.post.domain.PostStatus;
+import com.daramg.server.post.domain.PostType;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 활동 내보내기에 쓰이는 본인 게시물 한 건
+ */
+public record PostExportDto(
+        Long id,
+        PostType type,
+        String title,
+        String content,
+        List<String> images,
+        String videoUrl,
+        List<String> hashtags,
+        PostStatus postStatus,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
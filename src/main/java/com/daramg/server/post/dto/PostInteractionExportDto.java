@@ -0,0 +1,16 @@
+package com.daramg.server.post.dto;
+
+import java.time.Instant;
+
+/**
+ * 활동 내보내기에 쓰이는 게시물 좋아요/스크랩 한 건
+ *
+ * @param id 좋아요/스크랩 ID (키셋 페이징 기준)
+ */
+public record PostInteractionExportDto(
+        Long id,
+        Long postId,
+        String postTitle,
+        Instant createdAt
+) {
+}
@@ -56,6 +56,25 @@ public record PostResponseDto(
         );
     }
 
+    public static PostResponseDto from(PostSummaryDto summary, Boolean isLiked, Boolean isScrapped) {
+        return new PostResponseDto(
+                summary.id(),
+                summary.title(),
+                summary.contentPreview(),
+                summary.hashtags(),
+                summary.createdAt(),
+                summary.writerNickname(),
+                summary.likeCount(),
+                summary.commentCount(),
+                summary.thumbnailImageUrl(),
+                summary.type(),
+                summary.primaryComposer(),
+                summary.additionalComposers(),
+                isLiked,
+                isScrapped
+        );
+    }
+
     private static ComposerSummary extractPrimaryComposer(Post post) {
         if (post instanceof CurationPost curationPost && curationPost.getPrimaryComposer() != null) {
             return ComposerSummary.from(curationPost.getPrimaryComposer());
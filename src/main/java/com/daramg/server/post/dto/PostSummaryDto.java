@@ -0,0 +1,63 @@
+package com.daramg.server.post.dto;
+
+import com.daramg.server.composer.domain.Continent;
+import com.daramg.server.composer.domain.Era;
+import com.daramg.server.post.domain.PostType;
+import com.daramg.server.post.dto.PostResponseDto.ComposerSummary;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 게시물 목록 조회용 프로젝션.
+ * Post 엔티티를 영속성 컨텍스트에 올리지 않고 목록 응답에 필요한 컬럼만 조회하며,
+ * 본문은 DB에서 {@link #CONTENT_PREVIEW_LENGTH}자까지만 잘라서 가져온다.
+ */
+public record PostSummaryDto(
+        Long id,
+        PostType type,
+        String contentPreview,
+        String title,
+        List<String> hashtags,
+        String thumbnailImageUrl,
+        Instant createdAt,
+        String writerNickname,
+        int likeCount,
+        int commentCount,
+        ComposerSummary primaryComposer,
+        List<ComposerSummary> additionalComposers
+) {
+    public static final int CONTENT_PREVIEW_LENGTH = 200;
+
+    /**
+     * QueryDSL {@code Projections.constructor} 에서 사용하는 생성자
+     */
+    public PostSummaryDto(Long id, PostType type, String contentPreview, String title,
+                          List<String> hashtags, List<String> images, Instant createdAt,
+                          String writerNickname, Integer likeCount, Integer commentCount,
+                          Long primaryComposerId, String primaryComposerKoreanName,
+                          Era primaryComposerEra, Continent primaryComposerContinent) {
+        this(
+                id,
+                type,
+                contentPreview,
+                title,
+                hashtags,
+                images == null || images.isEmpty() ? null : images.getFirst(),
+                createdAt,
+                writerNickname,
+                likeCount,
+                commentCount,
+                primaryComposerId != null
+                        ? new ComposerSummary(primaryComposerId, primaryComposerKoreanName,
+                                primaryComposerEra, primaryComposerContinent)
+                        : null,
+                List.of()
+        );
+    }
+
+    public PostSummaryDto withAdditionalComposers(List<ComposerSummary> additionalComposers) {
+        return new PostSummaryDto(id, type, contentPreview, title, hashtags, thumbnailImageUrl, createdAt,
+                writerNickname, likeCount, commentCount, primaryComposer, additionalComposers);
+    }
+}
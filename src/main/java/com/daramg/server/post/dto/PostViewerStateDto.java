@@ -0,0 +1,26 @@
+package com.daramg.server.post.dto;
+
+import java.util.Set;
+
+/**
+ * 한 페이지의 게시물에 대한 조회자의 좋아요/스크랩 여부.
+ * 비로그인 조회자는 모든 값이 {@code null}로 응답된다.
+ */
+public record PostViewerStateDto(boolean anonymous, Set<Long> likedPostIds, Set<Long> scrappedPostIds) {
+
+    public static PostViewerStateDto anonymousViewer() {
+        return new PostViewerStateDto(true, Set.of(), Set.of());
+    }
+
+    public static PostViewerStateDto of(Set<Long> likedPostIds, Set<Long> scrappedPostIds) {
+        return new PostViewerStateDto(false, likedPostIds, scrappedPostIds);
+    }
+
+    public Boolean isLiked(Long postId) {
+        return anonymous ? null : likedPostIds.contains(postId);
+    }
+
+    public Boolean isScrapped(Long postId) {
+        return anonymous ? null : scrappedPostIds.contains(postId);
+    }
+}
@@ -0,0 +1,10 @@
+package com.daramg.server.post.event;
+
+/**
+ * 게시물 상세 응답(게시물 본문, 카운터, 첫 페이지 댓글)이 바뀌었음을 알린다.
+ * postId 가 null 이면 대상 게시물을 특정하기 어려운 일괄 변경으로 보고 모든 게시물을 무효화한다.
+ */
+public record PostDetailChangedEvent(
+        Long postId
+) {
+}
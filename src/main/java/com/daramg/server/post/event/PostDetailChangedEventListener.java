@@ -0,0 +1,33 @@
+package com.daramg.server.post.event;
+
+import com.daramg.server.notification.event.NotificationEvent;
+import com.daramg.server.post.application.PostDetailCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+@Component
+@RequiredArgsConstructor
+public class PostDetailChangedEventListener {
+
+    private final PostDetailCache postDetailCache;
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    public void handlePostDetailChangedEvent(PostDetailChangedEvent event) {
+        if (event.postId() == null) {
+            postDetailCache.invalidateAll();
+            return;
+        }
+        postDetailCache.invalidate(event.postId());
+    }
+
+    /**
+     * 댓글/좋아요 알림이 발생했다면 해당 게시물의 카운터나 댓글도 바뀐 것이다.
+     */
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    public void handleNotificationEvent(NotificationEvent event) {
+        postDetailCache.invalidate(event.post().getId());
+    }
+}
@@ -1,5 +1,6 @@
 package com.daramg.server.post.presentation;
 
+import com.daramg.server.auth.domain.AuthUser;
 import com.daramg.server.composer.domain.Continent;
 import com.daramg.server.composer.domain.Era;
 import com.daramg.server.common.dto.PageRequestDto;
@@ -7,7 +8,6 @@ import com.daramg.server.common.dto.PageResponseDto;
 import com.daramg.server.post.application.PostQueryService;
 import com.daramg.server.post.dto.PostDetailResponse;
 import com.daramg.server.post.dto.PostResponseDto;
-import com.daramg.server.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -25,8 +25,8 @@ public class PostQueryController {
     @GetMapping("/free")
     @ResponseStatus(HttpStatus.OK)
     public PageResponseDto<PostResponseDto> getAllPublishedFreePosts(
-            @AuthenticationPrincipal User user, // 로그인 or 비로그인 유저
-            @ModelAttribute PageRequestDto request
+            @AuthenticationPrincipal AuthUser user, // 로그인 or 비로그인 유저
+            PageRequestDto request
     ){
         return postQueryService.getAllPublishedFreePosts(request, user);
     }
@@ -34,8 +34,8 @@ public class PostQueryController {
     @GetMapping("/curation")
     @ResponseStatus(HttpStatus.OK)
     public PageResponseDto<PostResponseDto> getAllPublishedCurationPosts(
-            @AuthenticationPrincipal User user, // 로그인 or 비로그인 유저
-            @ModelAttribute PageRequestDto request,
+            @AuthenticationPrincipal AuthUser user, // 로그인 or 비로그인 유저
+            PageRequestDto request,
             @RequestParam(name = "eras", required = false) List<Era> eras,
             @RequestParam(name = "continents", required = false) List<Continent> continents
     ){
@@ -45,8 +45,8 @@ public class PostQueryController {
     @GetMapping("/story")
     @ResponseStatus(HttpStatus.OK)
     public PageResponseDto<PostResponseDto> getAllPublishedStoryPosts(
-            @AuthenticationPrincipal User user, // 로그인 or 비로그인 유저
-            @ModelAttribute PageRequestDto request
+            @AuthenticationPrincipal AuthUser user, // 로그인 or 비로그인 유저
+            PageRequestDto request
     ){
         return postQueryService.getAllPublishedStoryPosts(request, user);
     }
@@ -54,8 +54,8 @@ public class PostQueryController {
     @GetMapping("/recent")
     @ResponseStatus(HttpStatus.OK)
     public PageResponseDto<PostResponseDto> getRecentPosts(
-            @AuthenticationPrincipal User user,
-            @ModelAttribute PageRequestDto request
+            @AuthenticationPrincipal AuthUser user,
+            PageRequestDto request
     ) {
         return postQueryService.getRecentPosts(request, user);
     }
@@ -64,36 +64,36 @@ public class PostQueryController {
     @ResponseStatus(HttpStatus.OK)
     public PageResponseDto<PostResponseDto> getUserPublishedPosts(
             @PathVariable Long userId,
-            @ModelAttribute PageRequestDto request,
-            User user
+            PageRequestDto request,
+            @AuthenticationPrincipal AuthUser user
     ){
-        return postQueryService.getUserPublishedPosts(userId, request);
+        return postQueryService.getUserPublishedPosts(userId, request, user);
     }
 
     @GetMapping("/{userId}/drafts")
     @ResponseStatus(HttpStatus.OK)
     public PageResponseDto<PostResponseDto> getUserDraftPosts(
             @PathVariable Long userId,
-            @ModelAttribute PageRequestDto request,
-            User user
+            PageRequestDto request,
+            @AuthenticationPrincipal AuthUser user
     ){
-        return postQueryService.getUserDraftPosts(userId, request);
+        return postQueryService.getUserDraftPosts(userId, request, user);
     }
 
     @GetMapping("/{userId}/scraps")
     @ResponseStatus(HttpStatus.OK)
     public PageResponseDto<PostResponseDto> getUserScrappedPosts(
             @PathVariable Long userId,
-            @ModelAttribute PageRequestDto request,
-            User user
+            PageRequestDto request,
+            @AuthenticationPrincipal AuthUser user
     ){
-        return postQueryService.getUserScrappedPosts(userId, request);
+        return postQueryService.getUserScrappedPosts(userId, request, user);
     }
 
     @GetMapping("/{postId}")
     @ResponseStatus(HttpStatus.OK)
     public PostDetailResponse getPostById(
-            @AuthenticationPrincipal User user, // 로그인 or 비로그인 유저
+            @AuthenticationPrincipal AuthUser user, // 로그인 or 비로그인 유저
             @PathVariable Long postId
     ){
         return postQueryService.getPostById(postId, user);
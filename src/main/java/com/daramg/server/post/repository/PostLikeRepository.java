@@ -1,17 +1,33 @@
 package com.daramg.server.post.repository;
 
 import com.daramg.server.post.domain.PostLike;
+import com.daramg.server.post.dto.PostInteractionExportDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
-    boolean existsByPostIdAndUserId(Long postId, Long userId);
-    void deleteByPostIdAndUserId(Long postId, Long userId);
 
-    @Query("select pl.post.id from PostLike pl where pl.post.id in :postIds and pl.user.id = :userId")
-    Set<Long> findPostIdsByPostIdsAndUserId(@Param("postIds") List<Long> postIds, @Param("userId") Long userId);
+    @Query("select pl.post.id from PostLike pl where pl.user.id = :userId order by pl.id")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("""
+        select new com.daramg.server.post.dto.PostInteractionExportDto(pl.id, p.id, p.title, pl.createdAt)
+        from PostLike pl
+        join pl.post p
+        where pl.user.id = :userId
+          and pl.id > :afterId
+        order by pl.id
+        """)
+    List<PostInteractionExportDto> findForExport(@Param("userId") Long userId, @Param("afterId") Long afterId,
+                                                 Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from PostLike pl where pl.user.id = :userId and pl.post.id in :postIds")
+    int deleteByUserIdAndPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
 }
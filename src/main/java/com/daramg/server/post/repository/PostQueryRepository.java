@@ -3,23 +3,27 @@ package com.daramg.server.post.repository;
 import com.daramg.server.common.dto.PageRequestDto;
 import com.daramg.server.composer.domain.Continent;
 import com.daramg.server.composer.domain.Era;
-import com.daramg.server.post.domain.CurationPost;
-import com.daramg.server.post.domain.FreePost;
-import com.daramg.server.post.domain.Post;
-import com.daramg.server.post.domain.StoryPost;
+import com.daramg.server.post.dto.PostExportDto;
+import com.daramg.server.post.dto.PostSummaryDto;
+import com.daramg.server.post.dto.PostViewerStateDto;
 import com.daramg.server.post.dto.StoryPostStatsDto;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
 public interface PostQueryRepository {
-    List<FreePost> getAllFreePostsWithPaging(PageRequestDto pageRequest);
-    List<CurationPost> getAllCurationPostsWithPaging(PageRequestDto pageRequest, List<Era> eras, List<Continent> continents);
-    List<StoryPost> getAllStoryPostsWithPaging(PageRequestDto pageRequest);
-    List<Post> getUserPublishedPostsWithPaging(Long userId, PageRequestDto pageRequest);
-    List<Post> getUserDraftPostsWithPaging(Long userId, PageRequestDto pageRequest);
-    List<Post> getUserScrappedPostsWithPaging(Long userId, PageRequestDto pageRequest);
-    List<Post> getPostsByComposerIdWithPaging(Long composerId, PageRequestDto pageRequest);
+    List<PostSummaryDto> getAllFreePostsWithPaging(PageRequestDto pageRequest);
+    List<PostSummaryDto> getAllCurationPostsWithPaging(PageRequestDto pageRequest, List<Era> eras, List<Continent> continents);
+    List<PostSummaryDto> getAllStoryPostsWithPaging(PageRequestDto pageRequest);
+    List<PostSummaryDto> getUserPublishedPostsWithPaging(Long userId, PageRequestDto pageRequest);
+    List<PostSummaryDto> getUserDraftPostsWithPaging(Long userId, PageRequestDto pageRequest);
+    List<PostSummaryDto> getUserScrappedPostsWithPaging(Long userId, PageRequestDto pageRequest);
+    List<PostSummaryDto> getPostsByComposerIdWithPaging(Long composerId, PageRequestDto pageRequest);
     Map<Long, StoryPostStatsDto> findStoryPostStatsByAllComposers();
-    List<Post> getRecentPostsWithPaging(PageRequestDto pageRequest);
+    Map<Long, StoryPostStatsDto> findStoryPostStatsByComposerIds(Collection<Long> composerIds);
+    Map<Long, Long> countPublishedStoryPostsByComposerForUser(Long userId);
+    List<PostSummaryDto> getRecentPostsWithPaging(PageRequestDto pageRequest);
+    PostViewerStateDto findViewerState(Collection<Long> postIds, Long userId);
+    List<PostExportDto> findPostsForExport(Long userId, Long afterId, int limit);
 }
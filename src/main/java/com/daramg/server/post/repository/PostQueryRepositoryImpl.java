@@ -4,18 +4,18 @@ import com.daramg.server.common.dto.PageRequestDto;
 import com.daramg.server.common.util.PagingUtils;
 import com.daramg.server.composer.domain.Continent;
 import com.daramg.server.composer.domain.Era;
-import com.daramg.server.post.domain.CurationPost;
-import com.daramg.server.post.domain.FreePost;
-import com.daramg.server.post.domain.Post;
+import com.daramg.server.composer.domain.QComposer;
 import com.daramg.server.post.domain.PostStatus;
-import com.daramg.server.post.domain.QPost;
-import com.daramg.server.post.domain.StoryPost;
+import com.daramg.server.post.domain.PostType;
+import com.daramg.server.post.dto.PostResponseDto.ComposerSummary;
+import com.daramg.server.post.dto.PostExportDto;
+import com.daramg.server.post.dto.PostSummaryDto;
+import com.daramg.server.post.dto.PostViewerStateDto;
 import com.daramg.server.post.dto.StoryPostStatsDto;
-import com.daramg.server.composer.domain.QComposer;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
-import com.querydsl.core.types.dsl.EntityPathBase;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -23,15 +23,20 @@ import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import static com.daramg.server.composer.domain.QComposer.composer;
+import static com.daramg.server.composer.domain.QComposerPost.composerPost;
 import static com.daramg.server.post.domain.QPost.post;
+import static com.daramg.server.post.domain.QPostLike.postLike;
 import static com.daramg.server.post.domain.QPostScrap.postScrap;
 import static com.daramg.server.post.domain.QCurationPost.curationPost;
-import static com.daramg.server.post.domain.QFreePost.freePost;
 import static com.daramg.server.post.domain.QStoryPost.storyPost;
 import static com.daramg.server.user.domain.QUser.user;
 
@@ -43,168 +48,174 @@ public class PostQueryRepositoryImpl implements PostQueryRepository {
     private final PagingUtils pagingUtils;
 
     @Override
-    public List<FreePost> getAllFreePostsWithPaging(PageRequestDto pageRequest) {
-        return getAllPostsWithPaging(pageRequest, freePost, freePost._super);
+    public List<PostSummaryDto> getAllFreePostsWithPaging(PageRequestDto pageRequest) {
+        JPAQuery<PostSummaryDto> query = selectPostSummaries()
+                .where(
+                        post.type.eq(PostType.FREE)
+                                .and(post.isBlocked.isFalse())
+                                .and(post.postStatus.eq(PostStatus.PUBLISHED))
+                );
+
+        return pagingUtils.applyCursorPagination(
+                query,
+                pageRequest,
+                post.createdAt,
+                post.id
+        );
     }
 
     @Override
-    public List<CurationPost> getAllCurationPostsWithPaging(PageRequestDto pageRequest, List<Era> eras, List<Continent> continents) {
+    public List<PostSummaryDto> getAllCurationPostsWithPaging(PageRequestDto pageRequest, List<Era> eras, List<Continent> continents) {
         BooleanBuilder whereClause = new BooleanBuilder()
-                .and(curationPost._super.isBlocked.isFalse())
-                .and(curationPost._super.postStatus.eq(PostStatus.PUBLISHED));
+                .and(post.type.eq(PostType.CURATION))
+                .and(post.isBlocked.isFalse())
+                .and(post.postStatus.eq(PostStatus.PUBLISHED));
         if (eras != null && !eras.isEmpty()) {
-            whereClause.and(curationPost.primaryComposer.era.in(eras));
+            whereClause.and(composer.era.in(eras));
         }
         if (continents != null && !continents.isEmpty()) {
-            whereClause.and(curationPost.primaryComposer.continent.in(continents));
+            whereClause.and(composer.continent.in(continents));
         }
 
-        JPAQuery<CurationPost> query = queryFactory
-                .selectFrom(curationPost)
-                .leftJoin(curationPost._super.user, user).fetchJoin()
-                .leftJoin(curationPost.primaryComposer).fetchJoin()
+        JPAQuery<PostSummaryDto> query = selectPostSummaries()
                 .where(whereClause);
 
-        return pagingUtils.applyCursorPagination(
+        List<PostSummaryDto> posts = pagingUtils.applyCursorPagination(
                 query,
                 pageRequest,
-                curationPost._super.createdAt,
-                curationPost._super.id
+                post.createdAt,
+                post.id
         );
+        return withAdditionalComposers(posts);
     }
 
     @Override
-    public List<StoryPost> getAllStoryPostsWithPaging(PageRequestDto pageRequest) {
-        JPAQuery<StoryPost> query = queryFactory
-                .selectFrom(storyPost)
-                .leftJoin(storyPost._super.user, user).fetchJoin()
-                .leftJoin(storyPost.primaryComposer).fetchJoin()
+    public List<PostSummaryDto> getAllStoryPostsWithPaging(PageRequestDto pageRequest) {
+        JPAQuery<PostSummaryDto> query = selectPostSummaries()
                 .where(
-                        storyPost._super.isBlocked.isFalse()
-                                .and(storyPost._super.postStatus.eq(PostStatus.PUBLISHED))
+                        post.type.eq(PostType.STORY)
+                                .and(post.isBlocked.isFalse())
+                                .and(post.postStatus.eq(PostStatus.PUBLISHED))
                 );
 
         return pagingUtils.applyCursorPagination(
                 query,
                 pageRequest,
-                storyPost._super.createdAt,
-                storyPost._super.id
+                post.createdAt,
+                post.id
         );
     }
 
     @Override
-    public List<Post> getUserPublishedPostsWithPaging(Long userId, PageRequestDto pageRequest) {
-        JPAQuery<Post> query = queryFactory
-                .selectFrom(post)
-                .leftJoin(post.user, user).fetchJoin()
+    public List<PostSummaryDto> getUserPublishedPostsWithPaging(Long userId, PageRequestDto pageRequest) {
+        JPAQuery<PostSummaryDto> query = selectPostSummaries()
                 .where(
                         post.user.id.eq(userId)
                                 .and(post.postStatus.eq(PostStatus.PUBLISHED))
                                 .and(post.isBlocked.isFalse())
                 );
 
-        return pagingUtils.applyCursorPagination(
+        List<PostSummaryDto> posts = pagingUtils.applyCursorPagination(
                 query,
                 pageRequest,
                 post.createdAt,
                 post.id
         );
+        return withAdditionalComposers(posts);
     }
 
     @Override
-    public List<Post> getUserDraftPostsWithPaging(Long userId, PageRequestDto pageRequest) {
-        JPAQuery<Post> query = queryFactory
-                .selectFrom(post)
-                .leftJoin(post.user, user).fetchJoin()
+    public List<PostSummaryDto> getUserDraftPostsWithPaging(Long userId, PageRequestDto pageRequest) {
+        JPAQuery<PostSummaryDto> query = selectPostSummaries()
                 .where(
                         post.user.id.eq(userId)
                                 .and(post.postStatus.eq(PostStatus.DRAFT))
                                 .and(post.isBlocked.isFalse())
                 );
 
-        return pagingUtils.applyCursorPagination(
+        List<PostSummaryDto> posts = pagingUtils.applyCursorPagination(
                 query,
                 pageRequest,
                 post.createdAt,
                 post.id
         );
+        return withAdditionalComposers(posts);
     }
 
     @Override
-    public List<Post> getUserScrappedPostsWithPaging(Long userId, PageRequestDto pageRequest) {
-        JPAQuery<Post> query = queryFactory
-                .selectFrom(post)
+    public List<PostSummaryDto> getUserScrappedPostsWithPaging(Long userId, PageRequestDto pageRequest) {
+        // 정렬 키가 posts.created_at 이므로 post_scraps 인덱스로 정렬을 대신할 수 없다. 정렬 대상은 해당 유저의 스크랩 수로 한정됨
+        JPAQuery<PostSummaryDto> query = selectPostSummaries()
                 .innerJoin(postScrap).on(postScrap.post.id.eq(post.id))
-                .leftJoin(post.user, user).fetchJoin()
                 .where(
                         postScrap.user.id.eq(userId)
                                 .and(post.postStatus.eq(PostStatus.PUBLISHED))
                                 .and(post.isBlocked.isFalse())
                 );
 
-        return pagingUtils.applyCursorPagination(
+        List<PostSummaryDto> posts = pagingUtils.applyCursorPagination(
                 query,
                 pageRequest,
                 post.createdAt,
                 post.id
         );
+        return withAdditionalComposers(posts);
     }
 
     @Override
-    public List<Post> getPostsByComposerIdWithPaging(Long composerId, PageRequestDto pageRequest) {
-        // StoryPost와 CurationPost를 각각 조회
-        List<StoryPost> storyPosts = queryFactory
-                .selectFrom(storyPost)
-                .leftJoin(storyPost._super.user, user).fetchJoin()
+    public List<PostSummaryDto> getPostsByComposerIdWithPaging(Long composerId, PageRequestDto pageRequest) {
+        // composer_posts(composer_id, post_created_at, post_id) 인덱스 순서대로 size + 1개만 조회
+        JPAQuery<PostSummaryDto> query = selectPostSummaries()
+                .innerJoin(composerPost).on(composerPost.post.id.eq(post.id))
                 .where(
-                        storyPost.primaryComposer.id.eq(composerId)
-                                .and(storyPost._super.isBlocked.isFalse())
-                                .and(storyPost._super.postStatus.eq(PostStatus.PUBLISHED))
-                )
-                .orderBy(storyPost._super.createdAt.desc(), storyPost._super.id.desc())
-                .fetch();
+                        composerPost.composer.id.eq(composerId)
+                                .and(post.isBlocked.isFalse())
+                                .and(post.postStatus.eq(PostStatus.PUBLISHED))
+                );
 
-        QComposer additionalComposer = new QComposer("additionalComposer");
+        List<PostSummaryDto> posts = pagingUtils.applyCursorPagination(
+                query,
+                pageRequest,
+                composerPost.postCreatedAt,
+                composerPost.post.id
+        );
+        return withAdditionalComposers(posts);
+    }
 
-        List<CurationPost> curationPosts = queryFactory
-                .selectDistinct(curationPost)
-                .from(curationPost)
-                .leftJoin(curationPost._super.user, user).fetchJoin()
-                .leftJoin(curationPost.additionalComposers, additionalComposer)
+    @Override
+    public Map<Long, StoryPostStatsDto> findStoryPostStatsByAllComposers() {
+        return findStoryPostStats(null);
+    }
+
+    @Override
+    public Map<Long, StoryPostStatsDto> findStoryPostStatsByComposerIds(Collection<Long> composerIds) {
+        if (composerIds.isEmpty()) {
+            return Map.of();
+        }
+        return findStoryPostStats(storyPost.primaryComposer.id.in(composerIds));
+    }
+
+    @Override
+    public Map<Long, Long> countPublishedStoryPostsByComposerForUser(Long userId) {
+        List<Tuple> results = queryFactory
+                .select(storyPost.primaryComposer.id, storyPost._super.id.count())
+                .from(storyPost)
                 .where(
-                        (curationPost.primaryComposer.id.eq(composerId)
-                                .or(additionalComposer.id.eq(composerId)))
-                                .and(curationPost._super.isBlocked.isFalse())
-                                .and(curationPost._super.postStatus.eq(PostStatus.PUBLISHED))
+                        storyPost._super.user.id.eq(userId)
+                                .and(storyPost.primaryComposer.id.isNotNull())
+                                .and(storyPost._super.isBlocked.isFalse())
+                                .and(storyPost._super.postStatus.eq(PostStatus.PUBLISHED))
                 )
-                .orderBy(curationPost._super.createdAt.desc(), curationPost._super.id.desc())
+                .groupBy(storyPost.primaryComposer.id)
                 .fetch();
 
-        // 두 리스트를 합치고 정렬
-        List<Post> allPosts = new ArrayList<>();
-        allPosts.addAll(storyPosts);
-        allPosts.addAll(curationPosts);
-        
-        // 생성일시 내림차순, ID 내림차순으로 정렬
-        allPosts.sort((p1, p2) -> {
-            int dateCompare = p2.getCreatedAt().compareTo(p1.getCreatedAt());
-            if (dateCompare != 0) {
-                return dateCompare;
-            }
-            return Long.compare(p2.getId(), p1.getId());
-        });
-
-        // 페이징 적용
-        return pagingUtils.applyCursorPaginationToList(
-                allPosts,
-                pageRequest,
-                Post::getCreatedAt,
-                Post::getId
-        );
+        return results.stream().collect(Collectors.toMap(
+                tuple -> tuple.get(storyPost.primaryComposer.id),
+                tuple -> tuple.get(storyPost._super.id.count())
+        ));
     }
 
-    @Override
-    public Map<Long, StoryPostStatsDto> findStoryPostStatsByAllComposers() {
+    private Map<Long, StoryPostStatsDto> findStoryPostStats(Predicate composerCondition) {
         List<Tuple> results = queryFactory
                 .select(
                         storyPost.primaryComposer.id,
@@ -214,7 +225,8 @@ public class PostQueryRepositoryImpl implements PostQueryRepository {
                 .from(storyPost)
                 .where(
                         storyPost._super.isBlocked.isFalse()
-                                .and(storyPost._super.postStatus.eq(PostStatus.PUBLISHED))
+                                .and(storyPost._super.postStatus.eq(PostStatus.PUBLISHED)),
+                        composerCondition
                 )
                 .groupBy(storyPost.primaryComposer.id)
                 .fetch();
@@ -229,81 +241,149 @@ public class PostQueryRepositoryImpl implements PostQueryRepository {
     }
 
     @Override
-    public List<Post> getRecentPostsWithPaging(PageRequestDto pageRequest) {
+    public List<PostSummaryDto> getRecentPostsWithPaging(PageRequestDto pageRequest) {
         Instant sevenDaysAgo = Instant.now().minus(7, ChronoUnit.DAYS);
 
-        List<FreePost> freePosts = queryFactory
-                .selectFrom(freePost)
-                .leftJoin(freePost._super.user, user).fetchJoin()
+        // posts는 SINGLE_TABLE 상속이므로 타입별로 나눠 조회하지 않고 한 번에 커서/limit을 적용
+        // (post_status, is_blocked, is_deleted, created_at, id) 인덱스 순서대로 size + 1개만 조회
+        JPAQuery<PostSummaryDto> query = selectPostSummaries()
                 .where(
-                        freePost._super.isBlocked.isFalse()
-                                .and(freePost._super.postStatus.eq(PostStatus.PUBLISHED))
-                                .and(freePost._super.createdAt.goe(sevenDaysAgo))
-                )
-                .orderBy(freePost._super.createdAt.desc(), freePost._super.id.desc())
-                .fetch();
+                        post.isBlocked.isFalse()
+                                .and(post.postStatus.eq(PostStatus.PUBLISHED))
+                                .and(post.createdAt.goe(sevenDaysAgo))
+                );
 
-        List<StoryPost> storyPosts = queryFactory
-                .selectFrom(storyPost)
-                .leftJoin(storyPost._super.user, user).fetchJoin()
-                .leftJoin(storyPost.primaryComposer).fetchJoin()
-                .where(
-                        storyPost._super.isBlocked.isFalse()
-                                .and(storyPost._super.postStatus.eq(PostStatus.PUBLISHED))
-                                .and(storyPost._super.createdAt.goe(sevenDaysAgo))
-                )
-                .orderBy(storyPost._super.createdAt.desc(), storyPost._super.id.desc())
-                .fetch();
+        List<PostSummaryDto> posts = pagingUtils.applyCursorPagination(
+                query,
+                pageRequest,
+                post.createdAt,
+                post.id
+        );
+        return withAdditionalComposers(posts);
+    }
 
-        List<CurationPost> curationPosts = queryFactory
-                .selectFrom(curationPost)
-                .leftJoin(curationPost._super.user, user).fetchJoin()
-                .leftJoin(curationPost.primaryComposer).fetchJoin()
-                .where(
-                        curationPost._super.isBlocked.isFalse()
-                                .and(curationPost._super.postStatus.eq(PostStatus.PUBLISHED))
-                                .and(curationPost._super.createdAt.goe(sevenDaysAgo))
-                )
-                .orderBy(curationPost._super.createdAt.desc(), curationPost._super.id.desc())
+    @Override
+    public PostViewerStateDto findViewerState(Collection<Long> postIds, Long userId) {
+        // (post_id, user_id) 유니크 제약으로 조인 결과는 게시물당 최대 한 행
+        List<Tuple> results = queryFactory
+                .select(post.id, postLike.id, postScrap.id)
+                .from(post)
+                .leftJoin(postLike).on(postLike.post.id.eq(post.id).and(postLike.user.id.eq(userId)))
+                .leftJoin(postScrap).on(postScrap.post.id.eq(post.id).and(postScrap.user.id.eq(userId)))
+                .where(post.id.in(postIds))
                 .fetch();
 
-        List<Post> allPosts = new ArrayList<>();
-        allPosts.addAll(freePosts);
-        allPosts.addAll(storyPosts);
-        allPosts.addAll(curationPosts);
+        Set<Long> likedPostIds = new HashSet<>();
+        Set<Long> scrappedPostIds = new HashSet<>();
+        for (Tuple tuple : results) {
+            Long postId = tuple.get(post.id);
+            if (tuple.get(postLike.id) != null) {
+                likedPostIds.add(postId);
+            }
+            if (tuple.get(postScrap.id) != null) {
+                scrappedPostIds.add(postId);
+            }
+        }
+        return PostViewerStateDto.of(likedPostIds, scrappedPostIds);
+    }
 
-        allPosts.sort((p1, p2) -> {
-            int dateCompare = p2.getCreatedAt().compareTo(p1.getCreatedAt());
-            if (dateCompare != 0) return dateCompare;
-            return Long.compare(p2.getId(), p1.getId());
-        });
+    /**
+     * 목록 응답에 필요한 컬럼만 조회한다. 엔티티를 영속성 컨텍스트에 올리지 않으며,
+     * 본문은 미리보기 길이까지만 잘라서 가져온다.
+     */
+    private JPAQuery<PostSummaryDto> selectPostSummaries() {
+        return queryFactory
+                .select(Projections.constructor(PostSummaryDto.class,
+                        post.id,
+                        post.type,
+                        post.content.substring(0, PostSummaryDto.CONTENT_PREVIEW_LENGTH),
+                        post.title,
+                        post.hashtags,
+                        post.images,
+                        post.createdAt,
+                        user.nickname,
+                        post.likeCount,
+                        post.commentCount,
+                        composer.id,
+                        composer.koreanName,
+                        composer.era,
+                        composer.continent
+                ))
+                .from(post)
+                .leftJoin(post.user, user)
+                .leftJoin(composer).on(composer.id.eq(post.primaryComposerId));
+    }
 
-        return pagingUtils.applyCursorPaginationToList(
-                allPosts,
-                pageRequest,
-                Post::getCreatedAt,
-                Post::getId
-        );
+    /**
+     * 페이지에 포함된 큐레이션 글의 추가 작곡가를 한 번의 쿼리로 채운다.
+     */
+    private List<PostSummaryDto> withAdditionalComposers(List<PostSummaryDto> posts) {
+        List<Long> curationPostIds = posts.stream()
+                .filter(summary -> summary.type() == PostType.CURATION)
+                .map(PostSummaryDto::id)
+                .toList();
+        if (curationPostIds.isEmpty()) {
+            return posts;
+        }
+
+        QComposer additionalComposer = new QComposer("additionalComposer");
+        Map<Long, List<ComposerSummary>> additionalComposersByPostId = queryFactory
+                .select(
+                        curationPost._super.id,
+                        additionalComposer.id,
+                        additionalComposer.koreanName,
+                        additionalComposer.era,
+                        additionalComposer.continent
+                )
+                .from(curationPost)
+                .innerJoin(curationPost.additionalComposers, additionalComposer)
+                .where(curationPost._super.id.in(curationPostIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        tuple -> tuple.get(curationPost._super.id),
+                        LinkedHashMap::new,
+                        Collectors.mapping(tuple -> new ComposerSummary(
+                                tuple.get(additionalComposer.id),
+                                tuple.get(additionalComposer.koreanName),
+                                tuple.get(additionalComposer.era),
+                                tuple.get(additionalComposer.continent)
+                        ), Collectors.toList())
+                ));
+
+        return posts.stream()
+                .map(summary -> additionalComposersByPostId.containsKey(summary.id())
+                        ? summary.withAdditionalComposers(additionalComposersByPostId.get(summary.id()))
+                        : summary)
+                .toList();
     }
 
-    private <T extends Post> List<T> getAllPostsWithPaging(
-            PageRequestDto pageRequest,
-            EntityPathBase<T> qEntity,
-            QPost qPost
-    ) {
-        JPAQuery<T> query = queryFactory
-                .selectFrom(qEntity)
-                .leftJoin(qPost.user, user).fetchJoin()
+    /**
+     * 삭제되지 않은 본인 게시물을 id 오름차순으로 afterId 다음부터 limit 개 조회한다. (키셋 페이징)
+     */
+    @Override
+    public List<PostExportDto> findPostsForExport(Long userId, Long afterId, int limit) {
+        return queryFactory
+                .select(Projections.constructor(PostExportDto.class,
+                        post.id,
+                        post.type,
+                        post.title,
+                        post.content,
+                        post.images,
+                        post.videoUrl,
+                        post.hashtags,
+                        post.postStatus,
+                        post.createdAt,
+                        post.updatedAt
+                ))
+                .from(post)
                 .where(
-                        qPost.isBlocked.isFalse()
-                                .and(qPost.postStatus.eq(PostStatus.PUBLISHED))
-                );
-
-        return pagingUtils.applyCursorPagination(
-                query,
-                pageRequest,
-                qPost.createdAt,
-                qPost.id
-        );
+                        post.user.id.eq(userId)
+                                .and(post.isDeleted.isFalse())
+                                .and(post.id.gt(afterId))
+                )
+                .orderBy(post.id.asc())
+                .limit(limit)
+                .fetch();
     }
 }
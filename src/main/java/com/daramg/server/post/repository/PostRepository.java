@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -25,5 +26,45 @@ public interface PostRepository extends JpaRepository<Post, Long> {
           and p.isDeleted = false
         """)
     int softDeleteAllByUserId(@Param("userId") Long userId, @Param("now") Instant now);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        update Post p
+        set p.viewCount = p.viewCount + :delta
+        where p.id in :postIds
+        """)
+    int increaseViewCounts(@Param("postIds") Collection<Long> postIds, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Post p set p.likeCount = p.likeCount + 1 where p.id = :postId")
+    int increaseLikeCount(@Param("postId") Long postId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Post p set p.likeCount = p.likeCount - 1 where p.id = :postId and p.likeCount > 0")
+    int decreaseLikeCount(@Param("postId") Long postId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Post p
+        set p.likeCount = (select count(pl) from PostLike pl where pl.post.id = p.id)
+        where p.id in :postIds
+        """)
+    int recomputeLikeCounts(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Post p set p.commentCount = p.commentCount + 1 where p.id = :postId")
+    int increaseCommentCount(@Param("postId") Long postId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Post p set p.commentCount = p.commentCount - 1 where p.id = :postId and p.commentCount > 0")
+    int decreaseCommentCount(@Param("postId") Long postId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Post p
+        set p.commentCount = case when p.commentCount > :amount then p.commentCount - :amount else 0 end
+        where p.id = :postId
+        """)
+    int decreaseCommentCountBy(@Param("postId") Long postId, @Param("amount") int amount);
 }
 
@@ -1,17 +1,34 @@
 package com.daramg.server.post.repository;
 
 import com.daramg.server.post.domain.PostScrap;
+import com.daramg.server.post.dto.PostInteractionExportDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
 
 public interface PostScrapRepository extends JpaRepository<PostScrap, Long> {
     boolean existsByPostIdAndUserId(Long postId, Long userId);
-    void deleteByPostIdAndUserId(Long postId, Long userId);
 
-    @Query("select ps.post.id from PostScrap ps where ps.post.id in :postIds and ps.user.id = :userId")
-    Set<Long> findPostIdsByPostIdsAndUserId(@Param("postIds") List<Long> postIds, @Param("userId") Long userId);
+    @Query("select ps.post.id from PostScrap ps where ps.user.id = :userId order by ps.id")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("""
+        select new com.daramg.server.post.dto.PostInteractionExportDto(ps.id, p.id, p.title, ps.createdAt)
+        from PostScrap ps
+        join ps.post p
+        where ps.user.id = :userId
+          and ps.id > :afterId
+        order by ps.id
+        """)
+    List<PostInteractionExportDto> findForExport(@Param("userId") Long userId, @Param("afterId") Long afterId,
+                                                 Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from PostScrap ps where ps.user.id = :userId and ps.post.id in :postIds")
+    int deleteByUserIdAndPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
 }
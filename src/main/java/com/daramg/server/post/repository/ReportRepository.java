@@ -0,0 +1,20 @@
+package com.daramg.server.post.repository;
+
+import com.daramg.server.post.domain.Report;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface ReportRepository extends JpaRepository<Report, Long> {
+
+    /**
+     * 삭제된 댓글에 걸린 미처리 신고를 한 번에 처리 완료로 바꾼다.
+     * 신고 이력은 남겨 두고, 댓글이 soft delete 되어 FK 도 유지된다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Report r set r.isProcessed = true where r.comment.id in :commentIds and r.isProcessed = false")
+    int markProcessedByCommentIds(@Param("commentIds") Collection<Long> commentIds);
+}
@@ -0,0 +1,33 @@
+package com.daramg.server.post.scheduler;
+
+import com.daramg.server.post.application.PostViewCountService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCountFlushScheduler {
+
+    private final PostViewCountService postViewCountService;
+
+    @Scheduled(fixedDelay = 10_000) // 10초마다 실행
+    public void flushViewCounts() {
+        try {
+            int flushed = postViewCountService.flush();
+            if (flushed > 0) {
+                log.debug("게시물 조회수 반영 - 대상 {}건", flushed);
+            }
+        } catch (Exception e) {
+            log.error("게시물 조회수 반영 중 예외", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushViewCounts();
+    }
+}
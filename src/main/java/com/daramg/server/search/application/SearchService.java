@@ -7,7 +7,7 @@ import com.daramg.server.post.repository.PostRepository;
 import com.daramg.server.search.domain.SearchLog;
 import com.daramg.server.search.dto.SearchResponseDto;
 import com.daramg.server.search.repository.SearchLogRepository;
-import com.daramg.server.user.domain.User;
+import com.daramg.server.user.domain.UserIdentity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,7 +23,7 @@ public class SearchService {
     private final PostRepository postRepository;
     private final SearchLogRepository searchLogRepository;
 
-    public SearchResponseDto search(String keyword, User user) {
+    public SearchResponseDto search(String keyword, UserIdentity user) {
         searchLogRepository.save(SearchLog.of(keyword, user != null ? user.getId() : null));
 
         List<Composer> composers = composerRepository
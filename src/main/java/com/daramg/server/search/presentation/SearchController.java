@@ -2,7 +2,7 @@ package com.daramg.server.search.presentation;
 
 import com.daramg.server.search.application.SearchService;
 import com.daramg.server.search.dto.SearchResponseDto;
-import com.daramg.server.user.domain.User;
+import com.daramg.server.auth.domain.AuthUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -19,7 +19,7 @@ public class SearchController {
     @ResponseStatus(HttpStatus.OK)
     public SearchResponseDto search(
             @RequestParam String keyword,
-            @AuthenticationPrincipal User user
+            @AuthenticationPrincipal AuthUser user
     ) {
         return searchService.search(keyword, user);
     }
@@ -0,0 +1,101 @@
+package com.daramg.server.user.application;
+
+import com.daramg.server.comment.dto.CommentExportDto;
+import com.daramg.server.comment.dto.CommentLikeExportDto;
+import com.daramg.server.comment.repository.CommentLikeRepository;
+import com.daramg.server.comment.repository.CommentQueryRepository;
+import com.daramg.server.post.dto.PostExportDto;
+import com.daramg.server.post.dto.PostInteractionExportDto;
+import com.daramg.server.post.repository.PostLikeRepository;
+import com.daramg.server.post.repository.PostQueryRepository;
+import com.daramg.server.post.repository.PostScrapRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 유저 본인의 게시물, 댓글, 스크랩, 좋아요를 NDJSON 으로 내보낸다.
+ * <p>
+ * 항목마다 id 키셋으로 {@value #PAGE_SIZE}건씩 DTO 만 조회해 바로 출력 스트림에 쓰고 버리므로,
+ * 계정의 활동량과 무관하게 메모리에는 한 페이지만 올라온다.
+ * 페이지마다 별도의 짧은 조회로 실행되어 다운로드가 길어져도 커넥션을 붙잡고 있지 않는다.
+ * <p>
+ * 각 줄은 {@code {"type": "POST", "data": {...}}} 형태이다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserActivityExportService {
+
+    static final int PAGE_SIZE = 200;
+    private static final Pageable PAGE = PageRequest.of(0, PAGE_SIZE);
+
+    private final PostQueryRepository postQueryRepository;
+    private final CommentQueryRepository commentQueryRepository;
+    private final PostScrapRepository postScrapRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final ObjectMapper objectMapper;
+
+    public enum RecordType {
+        POST, COMMENT, POST_SCRAP, POST_LIKE, COMMENT_LIKE
+    }
+
+    public record ExportLine(RecordType type, Object data) {
+    }
+
+    /**
+     * 내보내기 전체에 JsonGenerator 하나를 쓴다. 응답 스트림은 컨트롤러가 닫으므로 생성기가 닫지 않게 한다.
+     */
+    public void export(Long userId, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 줄 사이는 직접 개행으로 구분하므로 기본 구분자(공백)를 쓰지 않음
+            generator.setRootValueSeparator(null);
+            writeRecords(userId, generator);
+        }
+    }
+
+    private void writeRecords(Long userId, JsonGenerator generator) throws IOException {
+        writeAll(generator, RecordType.POST,
+                afterId -> postQueryRepository.findPostsForExport(userId, afterId, PAGE_SIZE),
+                PostExportDto::id);
+        writeAll(generator, RecordType.COMMENT,
+                afterId -> commentQueryRepository.findCommentsForExport(userId, afterId, PAGE_SIZE),
+                CommentExportDto::id);
+        writeAll(generator, RecordType.POST_SCRAP,
+                afterId -> postScrapRepository.findForExport(userId, afterId, PAGE),
+                PostInteractionExportDto::id);
+        writeAll(generator, RecordType.POST_LIKE,
+                afterId -> postLikeRepository.findForExport(userId, afterId, PAGE),
+                PostInteractionExportDto::id);
+        writeAll(generator, RecordType.COMMENT_LIKE,
+                afterId -> commentLikeRepository.findForExport(userId, afterId, PAGE),
+                CommentLikeExportDto::id);
+    }
+
+    private <T> void writeAll(JsonGenerator generator, RecordType type,
+                              Function<Long, List<T>> pageLoader, Function<T, Long> idExtractor) throws IOException {
+        long afterId = 0L;
+        while (true) {
+            List<T> page = pageLoader.apply(afterId);
+            for (T row : page) {
+                generator.writeObject(new ExportLine(type, row));
+                generator.writeRaw('\n');
+            }
+            // 페이지 단위로 내보내 클라이언트가 바로 받기 시작하도록 함
+            generator.flush();
+            if (page.size() < PAGE_SIZE) {
+                return;
+            }
+            afterId = idExtractor.apply(page.getLast());
+        }
+    }
+}
@@ -2,12 +2,17 @@ package com.daramg.server.user.application;
 
 import com.daramg.server.common.application.EntityUtils;
 import com.daramg.server.common.exception.BusinessException;
+import com.daramg.server.composer.event.ComposerCatalogChangedEvent;
 import com.daramg.server.notice.repository.NoticeRepository;
+import com.daramg.server.composer.application.ComposerStatsService;
+import com.daramg.server.post.event.PostDetailChangedEvent;
+import com.daramg.server.post.repository.PostQueryRepository;
 import com.daramg.server.post.repository.PostRepository;
 import com.daramg.server.user.domain.UpdateVo;
 import com.daramg.server.user.domain.User;
 import com.daramg.server.user.domain.UserFollow;
 import com.daramg.server.user.dto.EmailChangeRequestDto;
+import com.daramg.server.user.event.UserStateChangedEvent;
 import com.daramg.server.user.dto.PasswordRequestDto;
 import com.daramg.server.user.dto.UserProfileResponseDto;
 import com.daramg.server.user.dto.UserProfileUpdateRequestDto;
@@ -15,11 +20,14 @@ import com.daramg.server.user.exception.UserErrorStatus;
 import com.daramg.server.user.repository.UserRepository;
 import com.daramg.server.user.repository.UserFollowRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -31,6 +39,10 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final NoticeRepository noticeRepository;
     private final PostRepository postRepository;
+    private final PostQueryRepository postQueryRepository;
+    private final ComposerStatsService composerStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     public boolean isNicknameAvailable(String nickName) {
         return !userRepository.existsByNickname(nickName);
@@ -59,14 +71,20 @@ public class UserService {
             throw new BusinessException(UserErrorStatus.DUPLICATE_EMAIL);
         }
         managedUser.changeEmail(request.getEmail());
+        eventPublisher.publishEvent(new UserStateChangedEvent(managedUser.getId()));
     }
 
-    @Transactional
+    /**
+     * 해싱 스레드를 기다리는 동안 DB 커넥션을 붙잡지 않도록 해싱을 먼저 끝낸 뒤 트랜잭션을 연다.
+     */
     public void changeUserPassword(User user, PasswordRequestDto request) {
-        User managedUser = userRepository.findById(user.getId())
-                .orElseThrow(() -> new BusinessException(UserErrorStatus.USER_NOT_FOUND));
         String encodedPassword = passwordEncoder.encode(request.getPassword());
-        managedUser.changePassword(encodedPassword);
+        transactionTemplate.executeWithoutResult(status -> {
+            User managedUser = userRepository.findById(user.getId())
+                    .orElseThrow(() -> new BusinessException(UserErrorStatus.USER_NOT_FOUND));
+            managedUser.changePassword(encodedPassword);
+            eventPublisher.publishEvent(new UserStateChangedEvent(managedUser.getId()));
+        });
     }
 
     @Transactional
@@ -79,6 +97,7 @@ public class UserService {
                 request.getBio()
         );
         managedUser.update(vo);
+        eventPublisher.publishEvent(new UserStateChangedEvent(managedUser.getId()));
     }
 
     @Transactional
@@ -98,8 +117,12 @@ public class UserService {
         User followed = entityUtils.getEntity(followedId, User.class);
         userFollowRepository.save(UserFollow.of(managedFollower, followed));
 
-        managedFollower.incrementFollowingCount();
-        followed.incrementFollowerCount();
+        userRepository.addFollowingCount(managedFollower.getId(), 1);
+        userRepository.addFollowerCount(followedId, 1);
+        entityUtils.refresh(managedFollower);
+        entityUtils.refresh(followed);
+        eventPublisher.publishEvent(new UserStateChangedEvent(managedFollower.getId()));
+        eventPublisher.publishEvent(new UserStateChangedEvent(followedId));
     }
 
     @Transactional
@@ -118,8 +141,12 @@ public class UserService {
         }
 
         userFollowRepository.deleteByFollowerIdAndFollowedId(follower.getId(), followedId);
-        managedFollower.decrementFollowingCount();
-        followed.decrementFollowerCount();
+        userRepository.addFollowingCount(managedFollower.getId(), -1);
+        userRepository.addFollowerCount(followedId, -1);
+        entityUtils.refresh(managedFollower);
+        entityUtils.refresh(followed);
+        eventPublisher.publishEvent(new UserStateChangedEvent(managedFollower.getId()));
+        eventPublisher.publishEvent(new UserStateChangedEvent(followedId));
     }
 
     @Transactional
@@ -128,11 +155,19 @@ public class UserService {
                 .orElseThrow(() -> new BusinessException(UserErrorStatus.USER_NOT_FOUND));
 
         user.withdraw();
+        eventPublisher.publishEvent(new UserStateChangedEvent(userId));
 
         User admin = userRepository.findById(1L)
                 .orElseThrow(() -> new BusinessException(UserErrorStatus.ADMIN_NOT_FOUND));
         noticeRepository.transferToAdmin(userId, admin);
 
+        Map<Long, Long> publishedStoryCounts = postQueryRepository.countPublishedStoryPostsByComposerForUser(userId);
         postRepository.softDeleteAllByUserId(userId, Instant.now());
+        // 탈퇴한 유저의 게시물 수와 무관하게 한 번에 무효화
+        eventPublisher.publishEvent(new PostDetailChangedEvent(null));
+        if (!publishedStoryCounts.isEmpty()) {
+            composerStatsService.storiesUnpublished(publishedStoryCounts);
+            eventPublisher.publishEvent(new ComposerCatalogChangedEvent(null));
+        }
     }
 }
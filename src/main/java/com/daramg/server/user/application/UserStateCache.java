@@ -0,0 +1,41 @@
+package com.daramg.server.user.application;
+
+import com.daramg.server.common.util.BoundedTtlCache;
+import com.daramg.server.user.domain.User;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 인증된 요청마다 다시 조회되는 유저 행(식별자, 이메일, 권한, 상태)을 ID 별로 짧은 시간 동안 메모리에 보관한다.
+ * <p>
+ * 같은 유저의 연속된 요청은 DB 대신 캐시된 준영속 {@link User} 를 받는다. 반환된 유저는 요청 간에 공유되므로
+ * 변경은 항상 서비스에서 다시 조회한 영속 엔티티에 해야 한다.
+ * 프로필/이메일/비밀번호 변경, 팔로우, 탈퇴 시 {@code UserStateChangedEvent} 로 커밋 후 무효화된다.
+ * 다른 유저의 탈퇴로 다시 계산되는 팔로워 수처럼 이벤트 없이 바뀌는 값은 10초 TTL 이 지나면 반영된다.
+ */
+@Component
+public class UserStateCache {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofSeconds(10);
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final BoundedTtlCache<Long, User> cache = new BoundedTtlCache<>(MAX_ENTRIES, TIME_TO_LIVE);
+
+    /**
+     * 캐시된 유저를 반환하고, 없으면 loader 로 조회해 저장한다. 존재하지 않는 유저는 저장하지 않는다.
+     */
+    public Optional<User> get(Long userId, Function<Long, Optional<User>> loader) {
+        return Optional.ofNullable(cache.get(userId, id -> loader.apply(id).orElse(null)));
+    }
+
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
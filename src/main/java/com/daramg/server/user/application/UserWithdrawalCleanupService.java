@@ -0,0 +1,143 @@
+package com.daramg.server.user.application;
+
+import com.daramg.server.comment.application.CommentService;
+import com.daramg.server.comment.repository.CommentLikeRepository;
+import com.daramg.server.comment.repository.CommentRepository;
+import com.daramg.server.composer.repository.ComposerLikeRepository;
+import com.daramg.server.post.event.PostDetailChangedEvent;
+import com.daramg.server.post.repository.PostLikeRepository;
+import com.daramg.server.post.repository.PostRepository;
+import com.daramg.server.post.repository.PostScrapRepository;
+import com.daramg.server.user.repository.UserFollowRepository;
+import com.daramg.server.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 탈퇴한 유저가 남긴 댓글, 좋아요/스크랩, 팔로우를 정리한다.
+ * <p>
+ * {@link #cleanUpNextChunk(Long)} 한 번은 한 단계의 최대 {@value #CHUNK_SIZE}건만 처리하는 짧은 트랜잭션이며,
+ * 같은 트랜잭션에서 영향을 받은 좋아요 수/팔로워 수를 원본 테이블 기준으로 다시 계산한다.
+ * 처리한 행은 삭제되거나 삭제 표시되므로 중간에 중단되어도 다음 호출이 남은 행부터 이어서 처리하며,
+ * 모든 단계가 끝나면 withdrawal_cleaned_at 을 기록한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserWithdrawalCleanupService {
+
+    static final int CHUNK_SIZE = 500;
+    private static final Pageable CHUNK = PageRequest.of(0, CHUNK_SIZE);
+
+    private final UserRepository userRepository;
+    private final UserFollowRepository userFollowRepository;
+    private final CommentRepository commentRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final CommentService commentService;
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final PostScrapRepository postScrapRepository;
+    private final ComposerLikeRepository composerLikeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public List<Long> findPendingUserIds(int limit) {
+        return userRepository.findWithdrawalPendingUserIds(PageRequest.of(0, limit));
+    }
+
+    /**
+     * @return 아직 정리할 데이터가 남아 있을 수 있으면 {@code true}
+     */
+    @Transactional
+    public boolean cleanUpNextChunk(Long userId) {
+        if (deleteComments(userId)
+                || deleteCommentLikes(userId)
+                || deletePostLikes(userId)
+                || deletePostScraps(userId)
+                || deleteComposerLikes(userId)
+                || deleteFollowings(userId)
+                || deleteFollowers(userId)) {
+            return true;
+        }
+        userRepository.recomputeFollowCounts(List.of(userId));
+        userRepository.markWithdrawalCleaned(userId, Instant.now());
+        return false;
+    }
+
+    private boolean deleteComments(Long userId) {
+        List<Long> commentIds = commentRepository.findLiveCommentIdsByUserId(userId, CHUNK);
+        if (commentIds.isEmpty()) {
+            return false;
+        }
+        commentService.softDeleteAll(commentIds);
+        return true;
+    }
+
+    private boolean deleteCommentLikes(Long userId) {
+        List<Long> commentIds = commentLikeRepository.findCommentIdsByUserId(userId, CHUNK);
+        if (commentIds.isEmpty()) {
+            return false;
+        }
+        commentLikeRepository.deleteByUserIdAndCommentIds(userId, commentIds);
+        commentRepository.recomputeLikeCounts(commentIds);
+        // 상세 응답의 첫 페이지 댓글 좋아요 수가 바뀜
+        commentRepository.findPostIdsByIds(commentIds)
+                .forEach(postId -> eventPublisher.publishEvent(new PostDetailChangedEvent(postId)));
+        return true;
+    }
+
+    private boolean deletePostLikes(Long userId) {
+        List<Long> postIds = postLikeRepository.findPostIdsByUserId(userId, CHUNK);
+        if (postIds.isEmpty()) {
+            return false;
+        }
+        postLikeRepository.deleteByUserIdAndPostIds(userId, postIds);
+        postRepository.recomputeLikeCounts(postIds);
+        postIds.forEach(postId -> eventPublisher.publishEvent(new PostDetailChangedEvent(postId)));
+        return true;
+    }
+
+    private boolean deletePostScraps(Long userId) {
+        List<Long> postIds = postScrapRepository.findPostIdsByUserId(userId, CHUNK);
+        if (postIds.isEmpty()) {
+            return false;
+        }
+        postScrapRepository.deleteByUserIdAndPostIds(userId, postIds);
+        return true;
+    }
+
+    private boolean deleteComposerLikes(Long userId) {
+        List<Long> composerLikeIds = composerLikeRepository.findIdsByUserId(userId, CHUNK);
+        if (composerLikeIds.isEmpty()) {
+            return false;
+        }
+        composerLikeRepository.deleteAllByIds(composerLikeIds);
+        return true;
+    }
+
+    private boolean deleteFollowings(Long userId) {
+        List<Long> followedIds = userFollowRepository.findFollowedIds(userId, CHUNK);
+        if (followedIds.isEmpty()) {
+            return false;
+        }
+        userFollowRepository.deleteFollowings(userId, followedIds);
+        userRepository.recomputeFollowCounts(followedIds);
+        return true;
+    }
+
+    private boolean deleteFollowers(Long userId) {
+        List<Long> followerIds = userFollowRepository.findFollowerIds(userId, CHUNK);
+        if (followerIds.isEmpty()) {
+            return false;
+        }
+        userFollowRepository.deleteFollowers(userId, followerIds);
+        userRepository.recomputeFollowCounts(followerIds);
+        return true;
+    }
+}
@@ -7,6 +7,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.lang.NonNull;
 
 import java.time.Instant;
@@ -15,10 +16,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
 @Getter
 @Table(name = "users")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class User extends BaseEntity<User> {
+public class User extends BaseEntity<User> implements UserIdentity {
 
     @Column(name = "email", nullable = false, unique = true)
     private String email;
@@ -63,6 +65,12 @@ public class User extends BaseEntity<User> {
     @Column(name = "deleted_at")
     private Instant deletedAt;
 
+    /**
+     * 탈퇴 후 댓글/좋아요/팔로우 정리가 끝난 시각 (정리 전이면 null)
+     */
+    @Column(name = "withdrawal_cleaned_at")
+    private Instant withdrawalCleanedAt;
+
     @Builder
     public User(@NonNull String email, @NonNull String password, @NonNull String name,
                 @NonNull LocalDate birthDate, String profileImage, @NonNull String nickname,
@@ -103,26 +111,6 @@ public class User extends BaseEntity<User> {
         this.password = password;
     }
 
-    public void incrementFollowingCount() {
-        followingCount++;
-    }
-
-    public void decrementFollowingCount() {
-        if (followingCount > 0) {
-            followingCount--;
-        }
-    }
-
-    public void incrementFollowerCount() {
-        followerCount++;
-    }
-
-    public void decrementFollowerCount() {
-        if (followerCount > 0) {
-            followerCount--;
-        }
-    }
-
     public void withdraw(){
         if (this.userStatus == UserStatus.DELETED) return;
 
@@ -0,0 +1,10 @@
+package com.daramg.server.user.domain;
+
+/**
+ * 요청한 유저를 식별하는 최소 정보.
+ * 조회자별 상태(좋아요, 스크랩 등)만 확인하는 조회 API 는 User 엔티티 대신 이 타입을 받아 유저 조회 없이 동작한다.
+ */
+public interface UserIdentity {
+
+    Long getId();
+}
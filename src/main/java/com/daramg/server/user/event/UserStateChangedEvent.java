@@ -0,0 +1,9 @@
+package com.daramg.server.user.event;
+
+/**
+ * 유저 행(프로필, 이메일, 비밀번호, 권한, 상태, 팔로우 수)이 바뀌었음을 알린다.
+ */
+public record UserStateChangedEvent(
+        Long userId
+) {
+}
@@ -0,0 +1,20 @@
+package com.daramg.server.user.event;
+
+import com.daramg.server.user.application.UserStateCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+@Component
+@RequiredArgsConstructor
+public class UserStateChangedEventListener {
+
+    private final UserStateCache userStateCache;
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    public void handleUserStateChangedEvent(UserStateChangedEvent event) {
+        userStateCache.invalidate(event.userId());
+    }
+}
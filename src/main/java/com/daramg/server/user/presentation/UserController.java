@@ -1,5 +1,6 @@
 package com.daramg.server.user.presentation;
 
+import com.daramg.server.user.application.UserActivityExportService;
 import com.daramg.server.user.application.UserService;
 import com.daramg.server.user.domain.User;
 import com.daramg.server.user.dto.EmailChangeRequestDto;
@@ -10,10 +11,14 @@ import com.daramg.server.common.validation.NoBadWords;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Map;
 
@@ -24,6 +29,7 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
+    private final UserActivityExportService userActivityExportService;
 
     @GetMapping("/check-nickname")
     public ResponseEntity<Map<String, Boolean>> checkNicknameDuplication(
@@ -44,6 +50,18 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportActivity(User user) {
+        // 스트리밍은 요청 스레드 밖에서 실행되므로 유저 ID 만 넘긴다
+        Long userId = user.getId();
+        StreamingResponseBody body = out -> userActivityExportService.export(userId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("activity.ndjson").build().toString())
+                .body(body);
+    }
+
     @GetMapping("/verify-user-email")
     public ResponseEntity<Map<String, Boolean>> verifyUserEmail(
             @RequestParam String email, User user) {
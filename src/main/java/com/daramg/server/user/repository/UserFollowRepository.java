@@ -1,13 +1,34 @@
 package com.daramg.server.user.repository;
 
 import com.daramg.server.user.domain.UserFollow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface UserFollowRepository extends JpaRepository<UserFollow, Long> {
     boolean existsByFollowerIdAndFollowedId(Long followerId, Long followedId);
     void deleteByFollowerIdAndFollowedId(Long followerId, Long followedId);
+
+    @Query("select f.followed.id from UserFollow f where f.follower.id = :followerId order by f.id")
+    List<Long> findFollowedIds(@Param("followerId") Long followerId, Pageable pageable);
+
+    @Query("select f.follower.id from UserFollow f where f.followed.id = :followedId order by f.id")
+    List<Long> findFollowerIds(@Param("followedId") Long followedId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from UserFollow f where f.follower.id = :followerId and f.followed.id in :followedIds")
+    int deleteFollowings(@Param("followerId") Long followerId, @Param("followedIds") Collection<Long> followedIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from UserFollow f where f.followed.id = :followedId and f.follower.id in :followerIds")
+    int deleteFollowers(@Param("followedId") Long followedId, @Param("followerIds") Collection<Long> followerIds);
 }
 
 
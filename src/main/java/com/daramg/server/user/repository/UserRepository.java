@@ -2,9 +2,16 @@ package com.daramg.server.user.repository;
 
 import com.daramg.server.user.domain.User;
 import com.daramg.server.user.domain.UserStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +20,44 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByNickname(String nickname);
     Optional<User> findByEmail(String email);
     Optional<User> findByEmailAndUserStatus(String email, UserStatus userStatus);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update User u
+        set u.followingCount = u.followingCount + :delta
+        where u.id = :userId
+          and u.followingCount + :delta >= 0
+        """)
+    int addFollowingCount(@Param("userId") Long userId, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update User u
+        set u.followerCount = u.followerCount + :delta
+        where u.id = :userId
+          and u.followerCount + :delta >= 0
+        """)
+    int addFollowerCount(@Param("userId") Long userId, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update User u
+        set u.followerCount = (select count(f) from UserFollow f where f.followed.id = u.id),
+            u.followingCount = (select count(f) from UserFollow f where f.follower.id = u.id)
+        where u.id in :userIds
+        """)
+    int recomputeFollowCounts(@Param("userIds") Collection<Long> userIds);
+
+    @Query("""
+        select u.id
+        from User u
+        where u.userStatus = com.daramg.server.user.domain.UserStatus.DELETED
+          and u.withdrawalCleanedAt is null
+        order by u.id
+        """)
+    List<Long> findWithdrawalPendingUserIds(Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update User u set u.withdrawalCleanedAt = :now where u.id = :userId")
+    int markWithdrawalCleaned(@Param("userId") Long userId, @Param("now") Instant now);
 }
@@ -0,0 +1,43 @@
+package com.daramg.server.user.scheduler;
+
+import com.daramg.server.user.application.UserWithdrawalCleanupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserWithdrawalCleanupScheduler {
+
+    private static final int USERS_PER_RUN = 10;
+
+    private final UserWithdrawalCleanupService userWithdrawalCleanupService;
+
+    @Scheduled(fixedDelay = 60_000) // 1분마다 실행
+    public void cleanUpWithdrawnUsers() {
+        List<Long> pendingUserIds;
+        try {
+            pendingUserIds = userWithdrawalCleanupService.findPendingUserIds(USERS_PER_RUN);
+        } catch (Exception e) {
+            log.error("탈퇴 유저 정리 대상 조회 중 예외", e);
+            return;
+        }
+
+        for (Long userId : pendingUserIds) {
+            try {
+                int chunks = 0;
+                while (userWithdrawalCleanupService.cleanUpNextChunk(userId)) {
+                    chunks++;
+                }
+                log.info("탈퇴 유저 데이터 정리 완료 - userId={}, chunks={}", userId, chunks);
+            } catch (Exception e) {
+                // 처리된 청크는 커밋되어 있으므로 다음 실행에서 남은 부분부터 이어서 처리
+                log.error("탈퇴 유저 데이터 정리 중 예외 - userId={}", userId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+-- 작곡가별 게시물 피드를 composer_posts 기반 keyset 페이징으로 조회하기 위한 컬럼/인덱스
+ALTER TABLE composer_posts ADD COLUMN post_created_at DATETIME(6);
+
+-- 기존 StoryPost/CurationPost의 primaryComposer 연결 백필
+INSERT IGNORE INTO composer_posts (composer_id, post_id, post_created_at, created_at, updated_at)
+SELECT p.composer_id, p.id, p.created_at, NOW(6), NOW(6)
+FROM posts p
+WHERE p.TYPE IN ('STORY', 'CURATION')
+  AND p.composer_id IS NOT NULL;
+
+-- 기존 CurationPost의 additionalComposers 연결 백필
+INSERT IGNORE INTO composer_posts (composer_id, post_id, post_created_at, created_at, updated_at)
+SELECT cpac.composer_id, p.id, p.created_at, NOW(6), NOW(6)
+FROM curation_post_additional_composers cpac
+JOIN posts p ON p.id = cpac.post_id;
+
+UPDATE composer_posts cp
+JOIN posts p ON p.id = cp.post_id
+SET cp.post_created_at = p.created_at
+WHERE cp.post_created_at IS NULL;
+
+ALTER TABLE composer_posts MODIFY COLUMN post_created_at DATETIME(6) NOT NULL;
+
+CREATE INDEX idx_composer_posts_feed ON composer_posts (composer_id, post_created_at, post_id);
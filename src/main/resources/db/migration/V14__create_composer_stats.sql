@@ -0,0 +1,18 @@
+-- 작곡가 목록 조회 시 posts 전체를 집계하지 않도록 작곡가별 스토리 통계를 따로 유지
+CREATE TABLE composer_stats (
+    composer_id BIGINT PRIMARY KEY,
+    story_post_count BIGINT NOT NULL DEFAULT 0,
+    last_story_post_at DATETIME(6),
+    CONSTRAINT fk_composer_stats_composer_id FOREIGN KEY (composer_id) REFERENCES composers(id) ON DELETE CASCADE
+);
+
+INSERT INTO composer_stats (composer_id, story_post_count, last_story_post_at)
+SELECT c.id, COUNT(p.id), MAX(p.created_at)
+FROM composers c
+LEFT JOIN posts p
+       ON p.composer_id = c.id
+      AND p.TYPE = 'STORY'
+      AND p.post_status = 'PUBLISHED'
+      AND p.is_blocked = FALSE
+      AND p.is_deleted = FALSE
+GROUP BY c.id;
@@ -0,0 +1,10 @@
+-- 커서 페이징 피드별 인덱스: 동등 조건 컬럼 뒤에 정렬 키 (created_at, id) 를 두어 filesort 없이 size + 1건만 읽는다
+
+-- 자유/큐레이션/스토리 피드: WHERE TYPE = ? AND post_status = ? AND is_blocked = false AND is_deleted = false ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_posts_type_feed ON posts (TYPE, post_status, is_blocked, is_deleted, created_at, id);
+
+-- 사용자 발행글/임시저장글 피드: WHERE user_id = ? AND post_status = ? AND is_blocked = false AND is_deleted = false ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_posts_user_feed ON posts (user_id, post_status, is_blocked, is_deleted, created_at, id);
+
+-- 게시물 상세 댓글 목록: WHERE post_id = ? AND is_blocked = false ORDER BY created_at ASC
+CREATE INDEX idx_comments_post_thread ON comments (post_id, is_blocked, created_at, id);
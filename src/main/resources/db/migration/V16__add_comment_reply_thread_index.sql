@@ -0,0 +1,2 @@
+-- 대댓글 목록/미리보기: WHERE parent_comment_id = ? AND is_blocked = false ORDER BY created_at ASC, id ASC
+CREATE INDEX idx_comments_reply_thread ON comments (parent_comment_id, is_blocked, created_at, id);
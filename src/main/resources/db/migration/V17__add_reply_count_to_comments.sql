@@ -0,0 +1,15 @@
+-- 부모 댓글에 대댓글 수와 마지막 대댓글 ID 를 보관해 대댓글 페이징/AI 프롬프트 조립 시 자식 전체를 세지 않도록 한다
+ALTER TABLE comments ADD COLUMN reply_count INT NOT NULL DEFAULT 0;
+ALTER TABLE comments ADD COLUMN last_reply_id BIGINT NULL;
+
+UPDATE comments c
+JOIN (
+    SELECT parent_comment_id, COUNT(*) AS reply_count, MAX(id) AS last_reply_id
+    FROM comments
+    WHERE parent_comment_id IS NOT NULL
+      AND is_deleted = FALSE
+      AND is_blocked = FALSE
+    GROUP BY parent_comment_id
+) r ON r.parent_comment_id = c.id
+SET c.reply_count = r.reply_count,
+    c.last_reply_id = r.last_reply_id;
@@ -0,0 +1,2 @@
+-- 탈퇴한 유저의 댓글/좋아요/팔로우 정리가 끝난 시각. NULL 이면 정리 스케줄러가 이어서 처리한다
+ALTER TABLE users ADD COLUMN withdrawal_cleaned_at DATETIME(6) NULL;
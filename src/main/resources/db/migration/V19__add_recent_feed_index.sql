@@ -0,0 +1,7 @@
+-- 최근 7일 통합 피드: WHERE post_status = ? AND is_blocked = false AND is_deleted = false AND created_at >= ? ORDER BY created_at DESC, id DESC
+-- TYPE 조건이 없어 idx_posts_type_feed / idx_posts_user_feed 의 선두 컬럼을 쓸 수 없으므로 별도 인덱스를 둔다
+CREATE INDEX idx_posts_recent_feed ON posts (post_status, is_blocked, is_deleted, created_at, id);
+
+-- 스크랩 피드는 인덱스를 추가하지 않는다.
+-- 정렬 키가 posts.created_at 이라 post_scraps 쪽 인덱스로는 정렬을 대신할 수 없고 (스크랩한 시각 순으로 바꾸면 응답 순서가 달라짐),
+-- 유저의 스크랩 행은 fk_post_scraps_user_id 인덱스로 찾은 뒤 posts 는 PK 로 조인하므로 정렬 대상은 해당 유저의 스크랩 수로 한정된다.
@@ -0,0 +1,11 @@
+-- 대댓글 목록은 삭제된 대댓글도 "삭제된 댓글" 로 돌려주므로 reply_count 도 같은 행(차단되지 않은 대댓글)을 센다
+-- last_reply_id 는 AI 프롬프트 조립용으로 계속 삭제되지 않은 마지막 대댓글을 가리킨다
+UPDATE comments c
+JOIN (
+    SELECT parent_comment_id, COUNT(*) AS reply_count
+    FROM comments
+    WHERE parent_comment_id IS NOT NULL
+      AND is_blocked = FALSE
+    GROUP BY parent_comment_id
+) r ON r.parent_comment_id = c.id
+SET c.reply_count = r.reply_count;
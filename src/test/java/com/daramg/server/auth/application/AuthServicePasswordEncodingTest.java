@@ -2,23 +2,33 @@ package com.daramg.server.auth.application;
 
 import com.daramg.server.auth.dto.PasswordRequestDto;
 import com.daramg.server.auth.dto.SignupRequestDto;
+import com.daramg.server.auth.util.VerifiedTokenCache;
 import com.daramg.server.user.domain.User;
 import com.daramg.server.user.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,9 +43,26 @@ class AuthServicePasswordEncodingTest {
     @Mock
     private RedisTemplate<String, String> redisTemplate;
 
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private AuthService authService;
 
+    private void runTransactionCallbacks() {
+        willAnswer(invocation -> {
+            Consumer<TransactionStatus> callback = invocation.getArgument(0);
+            callback.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+
     @Test
     @DisplayName("회원가입 시 비밀번호가 인코딩되어 저장된다")
     void signup_encodesPassword() {
@@ -66,9 +93,10 @@ class AuthServicePasswordEncodingTest {
     }
 
     @Test
-    @DisplayName("비밀번호 재설정 시 인코딩 반영 및 RT 삭제(로그아웃) 수행")
+    @DisplayName("비밀번호 재설정 시 트랜잭션 밖에서 인코딩한 뒤 반영하고 RT 삭제(로그아웃) 수행")
     void resetPassword_encodesAndLogsOut() {
         // given
+        runTransactionCallbacks();
         String email = "user2@example.com";
         String rawPassword = "Bb!23456789";
         String encodedPassword = "{bcrypt}encoded2";
@@ -81,7 +109,9 @@ class AuthServicePasswordEncodingTest {
                 .birthDate(LocalDate.of(1992, 2, 2))
                 .nickname("user2")
                 .build();
+        ReflectionTestUtils.setField(existing, "id", 2L);
         given(userRepository.findByEmail(email)).willReturn(Optional.of(existing));
+        given(userRepository.findById(2L)).willReturn(Optional.of(existing));
 
         PasswordRequestDto dto = new PasswordRequestDto(email, rawPassword);
 
@@ -90,6 +120,9 @@ class AuthServicePasswordEncodingTest {
 
         // then
         assertThat(existing.getPassword()).isEqualTo(encodedPassword);
+        InOrder order = inOrder(passwordEncoder, transactionTemplate);
+        order.verify(passwordEncoder).encode(rawPassword);
+        order.verify(transactionTemplate).executeWithoutResult(any());
         verify(redisTemplate).delete(email);
     }
 }
@@ -238,34 +238,6 @@ public class AuthServiceTest extends ServiceTestSupport {
         }
     }
 
-    @Nested
-    @DisplayName("유저 로드 테스트")
-    class LoadUserByEmailTest {
-        @Test
-        void 존재하는_이메일로_사용자를_조회한다() {
-            //given
-            String email = "svt@pledis.com";
-
-            //when
-            User result = authService.loadUserByEmail(email);
-
-            //then
-            assertThat(result.getEmail()).isEqualTo(email);
-            assertThat(result.getName()).isEqualTo("권순영");
-        }
-
-        @Test
-        void 존재하지_않는_이메일로_사용자_조회시_예외가_발생한다() {
-            //given
-            String email = "nonexistent@example.com";
-
-            //when & then
-            assertThatThrownBy(() -> authService.loadUserByEmail(email))
-                    .isInstanceOf(BusinessException.class)
-                    .hasMessageContaining(AuthErrorStatus.USER_NOT_FOUND_EXCEPTION.getMessage() + "(email: " + email + ")");
-        }
-    }
-
     @Nested
     @DisplayName("액세스 토큰 재발급 테스트")
     class RefreshAccessTokenTest {
@@ -0,0 +1,128 @@
+package com.daramg.server.auth.filter;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.daramg.server.auth.domain.AuthUser;
+import com.daramg.server.auth.util.JwtUtil;
+import com.daramg.server.auth.util.VerifiedTokenCache;
+import com.daramg.server.testsupport.support.ServiceTestSupport;
+import com.daramg.server.testsupport.util.QueryCounter;
+import com.daramg.server.user.domain.User;
+import com.daramg.server.user.domain.UserRole;
+import com.daramg.server.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JwtAuthorizationFilterTest extends ServiceTestSupport {
+
+    @Autowired
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${cookie.access-name}")
+    private String accessCookieName;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("email@test.com", "password", "name",
+                LocalDate.now(), null, "닉네임", null, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        verifiedTokenCache.invalidateAll(); // 테스트마다 유저 ID 가 재사용됨
+    }
+
+    private MockHttpServletRequest requestWithToken(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts/free");
+        request.setCookies(new Cookie(accessCookieName, token));
+        return request;
+    }
+
+    @Test
+    @DisplayName("토큰 클레임만으로 인증 주체를 만들고 users 테이블을 조회하지 않는다")
+    void authenticate_WithoutUserQuery() throws Exception {
+        // given
+        MockHttpServletRequest request = requestWithToken(jwtUtil.createAccessToken(user));
+
+        QueryCounter counter = QueryCounter.start(entityManagerFactory);
+
+        // when
+        jwtAuthorizationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        long statementCount = counter.stop().statementCount();
+
+        // then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getPrincipal()).isEqualTo(new AuthUser(user.getId(), "email@test.com", UserRole.USER));
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER");
+        assertThat(authentication.getDetails()).isInstanceOf(DecodedJWT.class);
+        assertThat(statementCount).isZero();
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰이면 인증 주체를 등록하지 않고 401 로 응답한다")
+    void authenticate_InvalidToken() throws Exception {
+        // given
+        MockHttpServletRequest request = requestWithToken("invalid.token.value");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        jwtAuthorizationFilter.doFilter(request, response, chain);
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    @DisplayName("같은 토큰의 두 번째 요청은 캐시된 인증 주체를 사용하고, 로그아웃 후에는 다시 검증한다")
+    void authenticate_UsesVerifiedTokenCache() throws Exception {
+        // given
+        String token = jwtUtil.createAccessToken(user);
+        jwtAuthorizationFilter.doFilter(requestWithToken(token), new MockHttpServletResponse(), new MockFilterChain());
+        Object firstDetails = SecurityContextHolder.getContext().getAuthentication().getDetails();
+
+        // when
+        jwtAuthorizationFilter.doFilter(requestWithToken(token), new MockHttpServletResponse(), new MockFilterChain());
+        Object cachedDetails = SecurityContextHolder.getContext().getAuthentication().getDetails();
+        verifiedTokenCache.invalidateUser(user.getId());
+        jwtAuthorizationFilter.doFilter(requestWithToken(token), new MockHttpServletResponse(), new MockFilterChain());
+        Object reverifiedDetails = SecurityContextHolder.getContext().getAuthentication().getDetails();
+
+        // then
+        assertThat(cachedDetails).isSameAs(firstDetails);
+        assertThat(reverifiedDetails).isNotSameAs(firstDetails);
+    }
+}
@@ -1,9 +1,14 @@
 package com.daramg.server.auth.util;
 
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.daramg.server.auth.domain.AuthUser;
 import com.daramg.server.auth.dto.TokenResponseDto;
 import com.daramg.server.auth.exception.AuthErrorStatus;
 import com.daramg.server.common.exception.BusinessException;
 import com.daramg.server.user.domain.User;
+import com.daramg.server.user.domain.UserRole;
 import com.daramg.server.user.repository.UserRepository;
 import com.daramg.server.testsupport.support.ServiceTestSupport;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +24,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Date;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -94,7 +100,8 @@ public class JwtUtilTest extends ServiceTestSupport {
 
             // then
             assertThat(accessToken).isNotNull();
-            jwtUtil.validateAccessToken(accessToken);
+            AuthUser authUser = jwtUtil.getAuthUser(jwtUtil.verify(accessToken));
+            assertThat(authUser.email()).isEqualTo(testUser.getEmail());
         }
     }
 
@@ -108,20 +115,47 @@ public class JwtUtilTest extends ServiceTestSupport {
             String accessToken = jwtUtil.createAccessToken(testUser);
 
             // when & then
-            assertThatCode(() -> jwtUtil.validateAccessToken(accessToken))
+            assertThatCode(() -> jwtUtil.getAuthUser(jwtUtil.verify(accessToken)))
                     .doesNotThrowAnyException();
         }
 
+        @Test
+        void 토큰을_한_번_검증해_클레임을_꺼낼_수_있는_DecodedJWT_를_반환한다() {
+            // given
+            String accessToken = jwtUtil.createAccessToken(testUser);
+
+            // when
+            DecodedJWT decodedJWT = jwtUtil.verify(accessToken);
+
+            // then
+            assertThat(decodedJWT.getSubject()).isEqualTo(testUser.getEmail());
+            assertThat(jwtUtil.getAuthUser(decodedJWT).id()).isEqualTo(testUser.getId());
+        }
+
+        @Test
+        void 만료된_토큰은_만료_예외로_검증에_실패한다() {
+            // given
+            String expiredToken = JWT.create()
+                    .withSubject(testUser.getEmail())
+                    .withExpiresAt(new Date(System.currentTimeMillis() - 1_000))
+                    .sign(Algorithm.HMAC512(secretKey));
+
+            // when & then
+            assertThatThrownBy(() -> jwtUtil.verify(expiredToken))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessage(AuthErrorStatus.TOKEN_EXPIRED_EXCEPTION.getMessage());
+        }
+
         @Test
         void 유효한_리프레시_토큰을_검증한다() {
             // given
             TokenResponseDto tokens = jwtUtil.generateTokens(testUser);
 
             // when
-            boolean isValid = jwtUtil.validateRefreshToken(tokens.getRefreshToken());
+            String subject = jwtUtil.getRefreshTokenSubject(tokens.getRefreshToken());
 
             // then
-            assertThat(isValid).isTrue();
+            assertThat(subject).isEqualTo(testUser.getEmail());
         }
 
         @ParameterizedTest
@@ -131,11 +165,10 @@ public class JwtUtilTest extends ServiceTestSupport {
         })
         @NullAndEmptySource
         void 잘못된_리프레시_토큰을_검증한다(String invalidToken) {
-            // when
-            boolean isValid = jwtUtil.validateRefreshToken(null);
-
-            // then
-            assertThat(isValid).isFalse();
+            // when & then
+            assertThatThrownBy(() -> jwtUtil.getRefreshTokenSubject(invalidToken))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessage(AuthErrorStatus.INVALID_TOKEN_EXCEPTION.getMessage());
         }
     }
 
@@ -149,19 +182,44 @@ public class JwtUtilTest extends ServiceTestSupport {
             String accessToken = jwtUtil.createAccessToken(testUser);
 
             // when
-            String email = jwtUtil.getUserEmail(accessToken);
+            String email = jwtUtil.verify(accessToken).getSubject();
 
             // then
             assertThat(email).isEqualTo(testUser.getEmail());
         }
 
+        @Test
+        void 액세스_토큰_클레임으로_인증_주체를_만든다() {
+            // given
+            String accessToken = jwtUtil.createAccessToken(testUser);
+
+            // when
+            AuthUser authUser = jwtUtil.getAuthUser(jwtUtil.verify(accessToken));
+
+            // then
+            assertThat(authUser.id()).isEqualTo(testUser.getId());
+            assertThat(authUser.email()).isEqualTo(testUser.getEmail());
+            assertThat(authUser.role()).isEqualTo(UserRole.USER);
+        }
+
+        @Test
+        void 리프레시_토큰으로는_인증_주체를_만들_수_없다() {
+            // given
+            TokenResponseDto tokens = jwtUtil.generateTokens(testUser);
+
+            // when & then
+            assertThatThrownBy(() -> jwtUtil.getAuthUser(jwtUtil.verify(tokens.getRefreshToken())))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessage(AuthErrorStatus.INVALID_TOKEN_EXCEPTION.getMessage());
+        }
+
         @Test
         void 리프레시_토큰에서_유저_이메일을_추출한다() {
             // given
             TokenResponseDto tokens = jwtUtil.generateTokens(testUser);
 
             // when
-            String email = jwtUtil.getUserEmail(tokens.getRefreshToken());
+            String email = jwtUtil.getRefreshTokenSubject(tokens.getRefreshToken());
 
             // then
             assertThat(email).isEqualTo(testUser.getEmail());
@@ -176,7 +234,7 @@ public class JwtUtilTest extends ServiceTestSupport {
     @NullAndEmptySource // 빈문자열 + null
     void 잘못된_액세스_토큰은_검증에_실패한다(String invalidToken) {
         // when & then
-        assertThatThrownBy(() -> jwtUtil.validateAccessToken(invalidToken))
+        assertThatThrownBy(() -> jwtUtil.verify(invalidToken))
                 .isInstanceOf(BusinessException.class)
                 .hasMessage(AuthErrorStatus.INVALID_TOKEN_EXCEPTION.getMessage());
     }
@@ -0,0 +1,139 @@
+package com.daramg.server.auth.util;
+
+import com.daramg.server.auth.domain.AuthUser;
+import com.daramg.server.auth.exception.AuthErrorStatus;
+import com.daramg.server.common.exception.BusinessException;
+import com.daramg.server.user.domain.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache();
+    private final AtomicInteger verifyCount = new AtomicInteger();
+
+    private Function<String, VerifiedTokenCache.Entry> verifierFor(Long userId, Instant expiresAt) {
+        return token -> {
+            verifyCount.incrementAndGet();
+            return new VerifiedTokenCache.Entry(new AuthUser(userId, "user@test.com", UserRole.USER), null, expiresAt);
+        };
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 만료 전까지 한 번만 검증한다")
+    void get_VerifiesOnce() {
+        // given
+        Function<String, VerifiedTokenCache.Entry> verifier = verifierFor(1L, Instant.now().plusSeconds(60));
+
+        // when
+        VerifiedTokenCache.Entry first = cache.get("token", verifier);
+        VerifiedTokenCache.Entry second = cache.get("token", verifier);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(verifyCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("만료된 항목은 사용하지 않고 다시 검증한다")
+    void get_ReverifiesExpiredToken() {
+        // given
+        cache.get("token", verifierFor(1L, Instant.now().minusSeconds(1)));
+
+        // when
+        cache.get("token", verifierFor(1L, Instant.now().plusSeconds(60)));
+
+        // then
+        assertThat(verifyCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("로그아웃한 유저의 토큰은 캐시에서 지워져 다시 검증된다")
+    void invalidateUser_RemovesOnlyThatUsersTokens() {
+        // given
+        cache.get("token-1", verifierFor(1L, Instant.now().plusSeconds(60)));
+        cache.get("token-2", verifierFor(2L, Instant.now().plusSeconds(60)));
+
+        // when
+        cache.invalidateUser(1L);
+        cache.get("token-1", verifierFor(1L, Instant.now().plusSeconds(60)));
+        cache.get("token-2", verifierFor(2L, Instant.now().plusSeconds(60)));
+
+        // then
+        assertThat(verifyCount).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("검증 도중 로그아웃한 유저의 토큰은 저장하지 않는다")
+    void get_DoesNotStoreTokenInvalidatedWhileVerifying() {
+        // given
+        Function<String, VerifiedTokenCache.Entry> verifier = verifierFor(1L, Instant.now().plusSeconds(60));
+        cache.get("token", token -> {
+            cache.invalidateUser(1L);
+            return verifier.apply(token);
+        });
+
+        // when
+        cache.get("token", verifier);
+
+        // then
+        assertThat(verifyCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("만료되어 지워진 토큰의 유저도 다시 로그아웃하면 새로 저장된 토큰만 지운다")
+    void invalidateUser_AfterExpiredEntryEvicted() {
+        // given
+        cache.get("expired", verifierFor(1L, Instant.now().minusSeconds(1)));
+        cache.get("expired", verifierFor(1L, Instant.now().plusSeconds(60)));
+        cache.get("other", verifierFor(1L, Instant.now().plusSeconds(60)));
+
+        // when
+        cache.invalidateUser(1L);
+        cache.get("expired", verifierFor(1L, Instant.now().plusSeconds(60)));
+        cache.get("other", verifierFor(1L, Instant.now().plusSeconds(60)));
+
+        // then
+        assertThat(verifyCount).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("만료 전의 토큰으로 가득 차도 가장 오래 사용되지 않은 토큰을 내보내고 새 토큰을 저장한다")
+    void get_EvictsLeastRecentlyUsedWhenFull() {
+        // given
+        int maxEntries = 10_000;
+        for (long i = 0; i < maxEntries; i++) {
+            cache.get("token-" + i, verifierFor(i, Instant.now().plusSeconds(60)));
+        }
+
+        // when
+        cache.get("new-token", verifierFor(-1L, Instant.now().plusSeconds(60)));
+        cache.get("new-token", verifierFor(-1L, Instant.now().plusSeconds(60)));
+        cache.get("token-0", verifierFor(0L, Instant.now().plusSeconds(60)));
+
+        // then
+        assertThat(verifyCount).hasValue(maxEntries + 2);
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 저장하지 않는다")
+    void get_DoesNotCacheFailures() {
+        // given
+        Function<String, VerifiedTokenCache.Entry> failing = token -> {
+            verifyCount.incrementAndGet();
+            throw new BusinessException(AuthErrorStatus.INVALID_TOKEN_EXCEPTION);
+        };
+
+        // when & then
+        assertThatThrownBy(() -> cache.get("forged", failing)).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> cache.get("forged", failing)).isInstanceOf(BusinessException.class);
+        assertThat(verifyCount).hasValue(2);
+    }
+}
@@ -0,0 +1,209 @@
+package com.daramg.server.comment.application;
+
+import com.daramg.server.comment.domain.Comment;
+import com.daramg.server.comment.dto.CommentResponseDto;
+import com.daramg.server.comment.repository.CommentRepository;
+import com.daramg.server.common.dto.PageRequestDto;
+import com.daramg.server.common.dto.PageResponseDto;
+import com.daramg.server.post.domain.FreePost;
+import com.daramg.server.post.domain.Post;
+import com.daramg.server.post.domain.PostStatus;
+import com.daramg.server.post.domain.vo.PostCreateVo;
+import com.daramg.server.post.dto.CommentReplyCreateDto;
+import com.daramg.server.post.repository.PostRepository;
+import com.daramg.server.testsupport.support.ServiceTestSupport;
+import com.daramg.server.testsupport.util.QueryCounter;
+import com.daramg.server.user.domain.User;
+import com.daramg.server.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CommentQueryServiceTest extends ServiceTestSupport {
+
+    @Autowired
+    private CommentQueryService commentQueryService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        user = new User("email@test.com", "password", "name", LocalDate.now(), "profile", "별명", "bio", null);
+        userRepository.save(user);
+
+        post = postRepository.save(FreePost.from(
+                new PostCreateVo.Free(user, "제목", "내용", PostStatus.PUBLISHED, List.of(), null, List.of())
+        ));
+    }
+
+    private Comment saveComment(String content, Comment parent) {
+        return commentRepository.save(Comment.of(post, user, content, parent));
+    }
+
+    private void saveReply(String content, Comment parent) {
+        commentService.createReply(parent.getId(), new CommentReplyCreateDto(content), user);
+    }
+
+    @Nested
+    @DisplayName("댓글 목록 조회")
+    class GetCommentsTest {
+
+        @Test
+        @DisplayName("부모 댓글을 오래된 순으로 페이지 크기만큼 조회하고 커서로 다음 페이지를 이어서 조회한다")
+        void getComments_PagesParentComments() {
+            // given
+            for (int i = 1; i <= 12; i++) {
+                saveComment("부모" + i, null);
+            }
+
+            // when
+            PageResponseDto<CommentResponseDto> firstPage =
+                    commentQueryService.getComments(post.getId(), new PageRequestDto(null, 10), user);
+            PageResponseDto<CommentResponseDto> secondPage =
+                    commentQueryService.getComments(post.getId(), new PageRequestDto(firstPage.getNextCursor(), 10), user);
+
+            // then
+            assertThat(firstPage.getContent()).hasSize(10);
+            assertThat(firstPage.getContent().getFirst().content()).isEqualTo("부모1");
+            assertThat(firstPage.getHasNext()).isTrue();
+            assertThat(secondPage.getContent()).extracting(CommentResponseDto::content)
+                    .containsExactly("부모11", "부모12");
+            assertThat(secondPage.getHasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("부모 댓글에는 앞쪽 대댓글 3개와 목록과 같은 기준(삭제된 대댓글 포함)의 전체 대댓글 수, 나머지 대댓글 조회용 커서가 담긴다")
+        void getComments_IncludesReplyPreview() {
+            // given
+            Comment parent = saveComment("부모", null);
+            for (int i = 1; i <= 6; i++) {
+                saveReply("자식" + i, parent);
+            }
+            Comment deletedReply = commentRepository.findAll().stream()
+                    .filter(comment -> comment.getContent().equals("자식6"))
+                    .findFirst().orElseThrow();
+            commentService.deleteComment(deletedReply.getId(), user);
+
+            // when
+            CommentResponseDto response =
+                    commentQueryService.getComments(post.getId(), new PageRequestDto(null, null), user).getContent().getFirst();
+
+            // then
+            assertThat(response.childComments()).extracting(CommentResponseDto.ChildCommentResponseDto::content)
+                    .containsExactly("자식1", "자식2", "자식3");
+            assertThat(response.childCommentCount()).isEqualTo(6);
+            assertThat(response.hasMoreReplies()).isTrue();
+            assertThat(response.nextReplyCursor()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("대댓글이 3개 이하이면 다음 대댓글 커서가 없다")
+        void getComments_NoReplyCursorWhenAllRepliesShown() {
+            // given
+            Comment parent = saveComment("부모", null);
+            saveReply("자식1", parent);
+
+            // when
+            CommentResponseDto response =
+                    commentQueryService.getComments(post.getId(), new PageRequestDto(null, null), null).getContent().getFirst();
+
+            // then
+            assertThat(response.childComments()).hasSize(1);
+            assertThat(response.hasMoreReplies()).isFalse();
+            assertThat(response.nextReplyCursor()).isNull();
+            assertThat(response.isLiked()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("댓글 1,000개 게시물 조회 비용")
+    class LargeThreadTest {
+
+        @Test
+        @DisplayName("Comment 엔티티를 로드하지 않고 댓글 수와 무관한 고정 횟수의 쿼리로 한 페이지를 조립한다")
+        void getComments_DoesNotHydrateEntities() {
+            // given - 부모 100개 x 대댓글 9개 = 1,000개
+            List<Comment> parents = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                parents.add(Comment.of(post, user, "부모" + i, null));
+            }
+            commentRepository.saveAll(parents);
+            for (Comment parent : parents) {
+                for (int i = 0; i < 9; i++) {
+                    saveReply("자식" + i, parent);
+                }
+            }
+
+            QueryCounter counter = QueryCounter.start(entityManagerFactory);
+
+            // when
+            PageResponseDto<CommentResponseDto> response =
+                    commentQueryService.getComments(post.getId(), new PageRequestDto(null, 100), user);
+            QueryCounter.Counts counts = counter.stop();
+            long commentLoadCount = counts.loadCount(Comment.class);
+            long statementCount = counts.statementCount();
+
+            // then
+            assertThat(response.getContent()).hasSize(100);
+            assertThat(response.getContent()).allSatisfy(comment -> {
+                assertThat(comment.childComments()).hasSize(3);
+                assertThat(comment.childCommentCount()).isEqualTo(9);
+                assertThat(comment.hasMoreReplies()).isTrue();
+            });
+            assertThat(commentLoadCount).isZero();
+            // 게시물 확인, 부모 댓글(대댓글 수 포함), 대댓글 ID, 대댓글 행, 좋아요 여부
+            assertThat(statementCount).isLessThanOrEqualTo(5);
+        }
+    }
+
+    @Nested
+    @DisplayName("대댓글 목록 조회")
+    class GetRepliesTest {
+
+        @Test
+        @DisplayName("부모 댓글의 nextReplyCursor 로 미리보기 이후의 대댓글을 조회한다")
+        void getReplies_ContinuesAfterPreview() {
+            // given
+            Comment parent = saveComment("부모", null);
+            for (int i = 1; i <= 5; i++) {
+                saveReply("자식" + i, parent);
+            }
+            String nextReplyCursor = commentQueryService.getComments(post.getId(), new PageRequestDto(null, null), user)
+                    .getContent().getFirst().nextReplyCursor();
+
+            // when
+            PageResponseDto<CommentResponseDto.ChildCommentResponseDto> replies =
+                    commentQueryService.getReplies(parent.getId(), new PageRequestDto(nextReplyCursor, 10), user);
+
+            // then
+            assertThat(replies.getContent()).extracting(CommentResponseDto.ChildCommentResponseDto::content)
+                    .containsExactly("자식4", "자식5");
+            assertThat(replies.getHasNext()).isFalse();
+        }
+    }
+}
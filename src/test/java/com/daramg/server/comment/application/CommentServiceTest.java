@@ -1,6 +1,7 @@
 package com.daramg.server.comment.application;
 
 import com.daramg.server.comment.domain.Comment;
+import com.daramg.server.comment.dto.CommentBulkDeleteResponseDto;
 import com.daramg.server.comment.dto.CommentLikeResponseDto;
 import com.daramg.server.comment.repository.CommentLikeRepository;
 import com.daramg.server.comment.repository.CommentRepository;
@@ -8,10 +9,12 @@ import com.daramg.server.common.exception.BusinessException;
 import com.daramg.server.post.domain.FreePost;
 import com.daramg.server.post.domain.Post;
 import com.daramg.server.post.domain.PostStatus;
+import com.daramg.server.post.domain.Report;
 import com.daramg.server.post.domain.vo.PostCreateVo;
 import com.daramg.server.post.dto.CommentCreateDto;
 import com.daramg.server.post.dto.CommentReplyCreateDto;
 import com.daramg.server.post.repository.PostRepository;
+import com.daramg.server.post.repository.ReportRepository;
 import com.daramg.server.testsupport.support.ServiceTestSupport;
 import com.daramg.server.user.domain.User;
 import com.daramg.server.user.domain.UserRole;
@@ -48,6 +51,9 @@ public class CommentServiceTest extends ServiceTestSupport {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private ReportRepository reportRepository;
+
     private User user;
     private Post post;
 
@@ -307,6 +313,157 @@ public class CommentServiceTest extends ServiceTestSupport {
         }
     }
 
+    @Nested
+    @DisplayName("관리자 댓글 일괄 삭제")
+    class BulkDeleteCommentTest {
+
+        private User admin;
+
+        @BeforeEach
+        void setUpAdmin() {
+            admin = new User("admin@test.com", "password", "admin", LocalDate.now(), null, "관리자", null, null);
+            ReflectionTestUtils.setField(admin, "role", UserRole.ADMIN);
+            userRepository.save(admin);
+        }
+
+        @Test
+        void 여러_댓글을_한_번에_삭제하고_좋아요와_신고를_정리한다() {
+            // given
+            commentService.createComment(post.getId(), new CommentCreateDto("댓글1"), user);
+            commentService.createComment(post.getId(), new CommentCreateDto("댓글2"), user);
+            List<Comment> comments = commentRepository.findAll();
+            List<Long> commentIds = comments.stream().map(Comment::getId).toList();
+            commentService.toggleCommentLike(commentIds.get(0), admin);
+            commentService.toggleCommentLike(commentIds.get(1), admin);
+            Report report = reportRepository.save(Report.builder()
+                    .type(Report.ReportType.COMMENT)
+                    .comment(comments.getFirst())
+                    .reporter(admin)
+                    .reportReason(Report.ReportReason.SPAM)
+                    .build());
+
+            // when
+            CommentBulkDeleteResponseDto response = commentService.deleteComments(commentIds, admin);
+
+            // then
+            assertThat(response.getDeletedCount()).isEqualTo(2);
+            assertThat(commentRepository.findAll()).allSatisfy(comment -> {
+                assertThat(comment.isDeleted()).isTrue();
+                assertThat(comment.getLikeCount()).isZero();
+            });
+            assertThat(commentLikeRepository.count()).isZero();
+            assertThat(reportRepository.findById(report.getId()).orElseThrow().isProcessed()).isTrue();
+            assertThat(postRepository.findById(post.getId()).orElseThrow().getCommentCount()).isZero();
+        }
+
+        @Test
+        void 대댓글을_일괄_삭제하면_부모_댓글의_마지막_대댓글이_다시_계산된다() {
+            // given
+            Comment parent = commentRepository.save(Comment.of(post, user, "부모 댓글", null));
+            for (int i = 1; i <= 3; i++) {
+                commentService.createReply(parent.getId(), new CommentReplyCreateDto("대댓글" + i), user);
+            }
+            List<Long> replyIds = commentRepository.findAll().stream()
+                    .filter(comment -> comment.getParentComment() != null)
+                    .map(Comment::getId)
+                    .sorted()
+                    .toList();
+
+            // when
+            commentService.deleteComments(replyIds.subList(1, 3), admin);
+
+            // then
+            Comment updatedParent = commentRepository.findById(parent.getId()).orElseThrow();
+            // 삭제된 대댓글도 목록에 남으므로 대댓글 수는 그대로
+            assertThat(updatedParent.getReplyCount()).isEqualTo(3);
+            assertThat(updatedParent.getLastReplyId()).isEqualTo(replyIds.getFirst());
+            assertThat(postRepository.findById(post.getId()).orElseThrow().getCommentCount()).isEqualTo(1);
+        }
+
+        @Test
+        void 이미_삭제된_댓글은_건너뛴다() {
+            // given
+            commentService.createComment(post.getId(), new CommentCreateDto("댓글"), user);
+            Long commentId = commentRepository.findAll().getFirst().getId();
+            commentService.deleteComment(commentId, user);
+
+            // when
+            CommentBulkDeleteResponseDto response = commentService.deleteComments(List.of(commentId), admin);
+
+            // then
+            assertThat(response.getDeletedCount()).isZero();
+            assertThat(postRepository.findById(post.getId()).orElseThrow().getCommentCount()).isZero();
+        }
+
+        @Test
+        void ADMIN이_아니면_일괄_삭제할_수_없다() {
+            // given
+            Comment comment = commentRepository.save(Comment.of(post, user, "댓글", null));
+
+            // when & then
+            assertThatThrownBy(() -> commentService.deleteComments(List.of(comment.getId()), user))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessage("금지된 요청입니다.");
+        }
+    }
+
+    @Nested
+    @DisplayName("부모 댓글의 대댓글 수 / 마지막 대댓글")
+    class ReplyCountTest {
+        @Test
+        void 대댓글을_달면_부모_댓글의_대댓글_수와_마지막_대댓글이_갱신된다() {
+            // given
+            Comment parent = commentRepository.save(Comment.of(post, user, "부모 댓글", null));
+
+            // when
+            commentService.createReply(parent.getId(), new CommentReplyCreateDto("대댓글1"), user);
+            commentService.createReply(parent.getId(), new CommentReplyCreateDto("대댓글2"), user);
+
+            // then
+            Comment lastReply = findByContent("대댓글2");
+            Comment updatedParent = commentRepository.findById(parent.getId()).orElseThrow();
+            assertThat(updatedParent.getReplyCount()).isEqualTo(2);
+            assertThat(updatedParent.getLastReplyId()).isEqualTo(lastReply.getId());
+        }
+
+        @Test
+        void 마지막_대댓글을_삭제하면_직전_대댓글이_마지막_대댓글이_된다() {
+            // given
+            Comment parent = commentRepository.save(Comment.of(post, user, "부모 댓글", null));
+            commentService.createReply(parent.getId(), new CommentReplyCreateDto("대댓글1"), user);
+            commentService.createReply(parent.getId(), new CommentReplyCreateDto("대댓글2"), user);
+
+            // when
+            commentService.deleteComment(findByContent("대댓글2").getId(), user);
+
+            // then
+            Comment updatedParent = commentRepository.findById(parent.getId()).orElseThrow();
+            assertThat(updatedParent.getReplyCount()).isEqualTo(2);
+            assertThat(updatedParent.getLastReplyId()).isEqualTo(findByContent("대댓글1").getId());
+        }
+
+        @Test
+        void 모든_대댓글을_삭제하면_대댓글_수는_유지되고_마지막_대댓글이_비워진다() {
+            // given
+            Comment parent = commentRepository.save(Comment.of(post, user, "부모 댓글", null));
+            commentService.createReply(parent.getId(), new CommentReplyCreateDto("대댓글1"), user);
+
+            // when
+            commentService.deleteComment(findByContent("대댓글1").getId(), user);
+
+            // then
+            Comment updatedParent = commentRepository.findById(parent.getId()).orElseThrow();
+            assertThat(updatedParent.getReplyCount()).isEqualTo(1);
+            assertThat(updatedParent.getLastReplyId()).isNull();
+        }
+
+        private Comment findByContent(String content) {
+            return commentRepository.findAll().stream()
+                    .filter(comment -> comment.getContent().equals(content))
+                    .findFirst().orElseThrow();
+        }
+    }
+
     @Test
     void 엔티티_생성_시_createdAt이_UTC_Instant로_저장된다() {
         Instant before = Instant.now();
@@ -0,0 +1,88 @@
+package com.daramg.server.comment.presentation;
+
+import com.daramg.server.comment.application.CommentService;
+import com.daramg.server.comment.dto.CommentBulkDeleteRequestDto;
+import com.daramg.server.comment.dto.CommentBulkDeleteResponseDto;
+import com.daramg.server.testsupport.support.ControllerTestSupport;
+import com.epages.restdocs.apispec.ResourceSnippetParameters;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.cookies.CookieDocumentation.cookieWithName;
+import static org.springframework.restdocs.cookies.CookieDocumentation.requestCookies;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = AdminCommentController.class)
+public class AdminCommentControllerTest extends ControllerTestSupport {
+
+    @MockitoBean
+    private CommentService commentService;
+
+    @Test
+    void 관리자가_댓글을_일괄_삭제한다() throws Exception {
+        // given
+        CommentBulkDeleteRequestDto requestDto = new CommentBulkDeleteRequestDto(List.of(10L, 11L, 12L));
+        Cookie cookie = new Cookie(COOKIE_NAME, "access_token");
+
+        when(commentService.deleteComments(anyList(), any()))
+                .thenReturn(new CommentBulkDeleteResponseDto(2));
+
+        // when
+        ResultActions result = mockMvc.perform(post("/admin/comments/bulk-delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDto))
+                .cookie(cookie)
+        );
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount").value(2))
+                .andDo(restDocsHandler.document(
+                        resource(ResourceSnippetParameters.builder()
+                                .tag("Admin API")
+                                .summary("댓글 일괄 삭제")
+                                .description("관리자가 여러 댓글을 한 번에 삭제합니다. 삭제된 댓글의 좋아요는 지워지고 걸려 있던 신고는 처리 완료됩니다. 이미 삭제된 댓글은 건너뜁니다.")
+                                .requestFields(
+                                        fieldWithPath("commentIds").type(JsonFieldType.ARRAY).description("삭제할 댓글 ID 목록 (최대 100개)")
+                                )
+                                .responseFields(
+                                        fieldWithPath("deletedCount").type(JsonFieldType.NUMBER).description("실제로 삭제된 댓글 수")
+                                )
+                                .build()
+                        ),
+                        requestCookies(
+                                cookieWithName(COOKIE_NAME).description("관리자의 토큰")
+                        )
+                ));
+    }
+
+    @Test
+    void 삭제할_댓글_ID_목록이_비어있으면_실패한다() throws Exception {
+        // given
+        CommentBulkDeleteRequestDto requestDto = new CommentBulkDeleteRequestDto(List.of());
+
+        // when
+        ResultActions result = mockMvc.perform(post("/admin/comments/bulk-delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDto))
+                .cookie(new Cookie(COOKIE_NAME, "access_token"))
+        );
+
+        // then
+        result.andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,196 @@
+package com.daramg.server.comment.presentation;
+
+import com.daramg.server.comment.application.CommentQueryService;
+import com.daramg.server.comment.dto.CommentResponseDto;
+import com.daramg.server.common.dto.PageRequestDto;
+import com.daramg.server.common.dto.PageResponseDto;
+import com.daramg.server.testsupport.support.ControllerTestSupport;
+import com.epages.restdocs.apispec.ResourceSnippetParameters;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.document;
+import static com.epages.restdocs.apispec.ResourceDocumentation.parameterWithName;
+import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CommentQueryController.class)
+public class CommentQueryControllerTest extends ControllerTestSupport {
+
+    @MockitoBean
+    private CommentQueryService commentQueryService;
+
+    private CommentResponseDto.ChildCommentResponseDto childComment(Long id, Instant createdAt) {
+        return new CommentResponseDto.ChildCommentResponseDto(
+                id,
+                "대댓글 내용",
+                false,
+                1,
+                createdAt,
+                "대댓글작성자",
+                "https://example.com/child-profile.jpg",
+                false,
+                false,
+                null
+        );
+    }
+
+    @Test
+    void 포스트_댓글_목록을_조회한다() throws Exception {
+        // given
+        Long postId = 1L;
+        Instant createdAt = Instant.parse("2024-01-15T10:30:00Z");
+        CommentResponseDto parentComment = new CommentResponseDto(
+                10L,
+                "댓글 내용",
+                false,
+                3,
+                5,
+                createdAt,
+                "댓글작성자",
+                "https://example.com/comment-profile.jpg",
+                false,
+                false,
+                null,
+                List.of(
+                        childComment(11L, createdAt.plus(1, ChronoUnit.MINUTES)),
+                        childComment(12L, createdAt.plus(2, ChronoUnit.MINUTES)),
+                        childComment(13L, createdAt.plus(3, ChronoUnit.MINUTES))
+                ),
+                true,
+                "MjAyNC0wMS0xNVQxMDozMzowMFpfMTM="
+        );
+        PageResponseDto<CommentResponseDto> response = new PageResponseDto<>(
+                List.of(parentComment),
+                "MjAyNC0wMS0xNVQxMDozMDowMFpfMTA=",
+                true
+        );
+
+        when(commentQueryService.getComments(eq(postId), any(PageRequestDto.class), any())).thenReturn(response);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/posts/{postId}/comments", postId)
+                .param("cursor", "MjAyNC0wMS0xNVQxMDoyMDowMFpfOQ==")
+                .param("size", "10")
+                .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        result.andExpect(status().isOk())
+                .andDo(document("포스트_댓글_목록_조회",
+                        resource(ResourceSnippetParameters.builder()
+                                .tag("Comment Query API")
+                                .summary("포스트 댓글 목록 조회")
+                                .description("포스트의 부모 댓글을 커서 기반 페이징으로 조회합니다. 작성일시 오름차순으로 정렬되며, 각 댓글에는 앞쪽 대댓글 최대 3개와 나머지 대댓글 조회용 커서가 포함됩니다.")
+                                .pathParameters(
+                                        parameterWithName("postId").description("조회할 포스트 ID")
+                                )
+                                .queryParameters(
+                                        parameterWithName("cursor").description("다음 페이지 조회를 위한 커서 (Base64 인코딩된 문자열). 첫 페이지 조회 시 생략 가능 (기본값: null)")
+                                                .optional(),
+                                        parameterWithName("size").description("한 페이지에 조회할 부모 댓글 개수. 생략 시 기본값: 10")
+                                                .optional()
+                                )
+                                .responseFields(
+                                        fieldWithPath("content").type(JsonFieldType.ARRAY).description("부모 댓글 목록"),
+                                        fieldWithPath("content[].id").type(JsonFieldType.NUMBER).description("댓글 ID"),
+                                        fieldWithPath("content[].content").type(JsonFieldType.STRING).description("댓글 내용"),
+                                        fieldWithPath("content[].isDeleted").type(JsonFieldType.BOOLEAN).description("댓글 삭제 여부"),
+                                        fieldWithPath("content[].likeCount").type(JsonFieldType.NUMBER).description("댓글 좋아요 개수"),
+                                        fieldWithPath("content[].childCommentCount").type(JsonFieldType.NUMBER).description("대댓글 목록 API 가 돌려주는 전체 대댓글 개수 (삭제된 대댓글 포함, 차단된 대댓글 제외)"),
+                                        fieldWithPath("content[].createdAt").type(JsonFieldType.STRING).description("댓글 작성 시각"),
+                                        fieldWithPath("content[].writerNickname").type(JsonFieldType.STRING).description("댓글 작성자 닉네임").optional(),
+                                        fieldWithPath("content[].writerProfileImage").type(JsonFieldType.STRING).description("댓글 작성자 프로필 이미지 URL").optional(),
+                                        fieldWithPath("content[].isLiked").type(JsonFieldType.BOOLEAN).description("현재 로그인 유저의 댓글 좋아요 여부 (비로그인 시 null)").optional(),
+                                        fieldWithPath("content[].isAi").type(JsonFieldType.BOOLEAN).description("AI 댓글 여부"),
+                                        fieldWithPath("content[].composerName").type(JsonFieldType.STRING).description("AI 댓글인 경우 작곡가 이름 (일반 댓글이면 null)").optional(),
+                                        fieldWithPath("content[].childComments").type(JsonFieldType.ARRAY).description("앞쪽 대댓글 목록 (최대 3개)"),
+                                        fieldWithPath("content[].childComments[].id").type(JsonFieldType.NUMBER).description("대댓글 ID"),
+                                        fieldWithPath("content[].childComments[].content").type(JsonFieldType.STRING).description("대댓글 내용"),
+                                        fieldWithPath("content[].childComments[].isDeleted").type(JsonFieldType.BOOLEAN).description("대댓글 삭제 여부"),
+                                        fieldWithPath("content[].childComments[].likeCount").type(JsonFieldType.NUMBER).description("대댓글 좋아요 개수"),
+                                        fieldWithPath("content[].childComments[].createdAt").type(JsonFieldType.STRING).description("대댓글 작성 시각"),
+                                        fieldWithPath("content[].childComments[].writerNickname").type(JsonFieldType.STRING).description("대댓글 작성자 닉네임").optional(),
+                                        fieldWithPath("content[].childComments[].writerProfileImage").type(JsonFieldType.STRING).description("대댓글 작성자 프로필 이미지 URL").optional(),
+                                        fieldWithPath("content[].childComments[].isLiked").type(JsonFieldType.BOOLEAN).description("현재 로그인 유저의 대댓글 좋아요 여부").optional(),
+                                        fieldWithPath("content[].childComments[].isAi").type(JsonFieldType.BOOLEAN).description("AI 대댓글 여부"),
+                                        fieldWithPath("content[].childComments[].composerName").type(JsonFieldType.STRING).description("AI 대댓글인 경우 작곡가 이름 (일반 댓글이면 null)").optional(),
+                                        fieldWithPath("content[].hasMoreReplies").type(JsonFieldType.BOOLEAN).description("미리보기 이후 대댓글 존재 여부"),
+                                        fieldWithPath("content[].nextReplyCursor").type(JsonFieldType.STRING).description("대댓글 목록 API 의 다음 페이지 커서. 더 없으면 null").optional(),
+                                        fieldWithPath("nextCursor").type(JsonFieldType.STRING).description("다음 페이지 조회를 위한 커서 (Base64 인코딩된 문자열). 마지막 페이지인 경우 null").optional(),
+                                        fieldWithPath("hasNext").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부")
+                                )
+                                .build()
+                        )
+                ));
+    }
+
+    @Test
+    void 대댓글_목록을_조회한다() throws Exception {
+        // given
+        Long commentId = 10L;
+        Instant createdAt = Instant.parse("2024-01-15T10:34:00Z");
+        PageResponseDto<CommentResponseDto.ChildCommentResponseDto> response = new PageResponseDto<>(
+                List.of(childComment(14L, createdAt), childComment(15L, createdAt.plus(1, ChronoUnit.MINUTES))),
+                null,
+                false
+        );
+
+        when(commentQueryService.getReplies(eq(commentId), any(PageRequestDto.class), any())).thenReturn(response);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/comments/{commentId}/replies", commentId)
+                .param("cursor", "MjAyNC0wMS0xNVQxMDozMzowMFpfMTM=")
+                .param("size", "10")
+                .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        result.andExpect(status().isOk())
+                .andDo(document("대댓글_목록_조회",
+                        resource(ResourceSnippetParameters.builder()
+                                .tag("Comment Query API")
+                                .summary("대댓글 목록 조회")
+                                .description("부모 댓글의 대댓글을 커서 기반 페이징으로 조회합니다. 작성일시 오름차순으로 정렬되며, 댓글 목록의 nextReplyCursor 로 이어서 조회합니다.")
+                                .pathParameters(
+                                        parameterWithName("commentId").description("부모 댓글 ID")
+                                )
+                                .queryParameters(
+                                        parameterWithName("cursor").description("다음 페이지 조회를 위한 커서 (Base64 인코딩된 문자열)")
+                                                .optional(),
+                                        parameterWithName("size").description("한 페이지에 조회할 대댓글 개수. 생략 시 기본값: 10")
+                                                .optional()
+                                )
+                                .responseFields(
+                                        fieldWithPath("content").type(JsonFieldType.ARRAY).description("대댓글 목록"),
+                                        fieldWithPath("content[].id").type(JsonFieldType.NUMBER).description("대댓글 ID"),
+                                        fieldWithPath("content[].content").type(JsonFieldType.STRING).description("대댓글 내용"),
+                                        fieldWithPath("content[].isDeleted").type(JsonFieldType.BOOLEAN).description("대댓글 삭제 여부"),
+                                        fieldWithPath("content[].likeCount").type(JsonFieldType.NUMBER).description("대댓글 좋아요 개수"),
+                                        fieldWithPath("content[].createdAt").type(JsonFieldType.STRING).description("대댓글 작성 시각"),
+                                        fieldWithPath("content[].writerNickname").type(JsonFieldType.STRING).description("대댓글 작성자 닉네임").optional(),
+                                        fieldWithPath("content[].writerProfileImage").type(JsonFieldType.STRING).description("대댓글 작성자 프로필 이미지 URL").optional(),
+                                        fieldWithPath("content[].isLiked").type(JsonFieldType.BOOLEAN).description("현재 로그인 유저의 대댓글 좋아요 여부").optional(),
+                                        fieldWithPath("content[].isAi").type(JsonFieldType.BOOLEAN).description("AI 대댓글 여부"),
+                                        fieldWithPath("content[].composerName").type(JsonFieldType.STRING).description("AI 대댓글인 경우 작곡가 이름 (일반 댓글이면 null)").optional(),
+                                        fieldWithPath("nextCursor").type(JsonFieldType.STRING).description("다음 페이지 조회를 위한 커서 (Base64 인코딩된 문자열). 마지막 페이지인 경우 null").optional(),
+                                        fieldWithPath("hasNext").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부")
+                                )
+                                .build()
+                        )
+                ));
+    }
+}
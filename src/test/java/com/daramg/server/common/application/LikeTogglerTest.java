@@ -0,0 +1,57 @@
+package com.daramg.server.common.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class LikeTogglerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private LikeToggler likeToggler;
+
+    @Test
+    @DisplayName("동시 요청이 먼저 추가해 유니크 제약에 걸리면 추가된 상태로 응답하고 카운터는 바꾸지 않는다")
+    void toggle_DuplicateKey_ReturnsActiveUnchanged() {
+        // given
+        given(jdbcTemplate.update(anyString(), eq(1L), eq(2L))).willReturn(0);
+        given(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .willThrow(new DuplicateKeyException("duplicate"));
+
+        // when
+        LikeToggler.Result result = likeToggler.toggle(LikeToggler.Target.POST_LIKE, 1L, 2L);
+
+        // then
+        assertThat(result).isEqualTo(new LikeToggler.Result(true, false));
+    }
+
+    @Test
+    @DisplayName("다른 유저와의 갭 락 데드락으로 INSERT 가 롤백되면 추가된 것으로 응답하지 않고 예외를 전파한다")
+    void toggle_Deadlock_Propagates() {
+        // given
+        given(jdbcTemplate.update(anyString(), eq(1L), eq(2L))).willReturn(0);
+        given(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .willThrow(new CannotAcquireLockException("Deadlock found when trying to get lock"));
+
+        // when & then
+        assertThatThrownBy(() -> likeToggler.toggle(LikeToggler.Target.POST_LIKE, 1L, 2L))
+                .isInstanceOf(CannotAcquireLockException.class);
+    }
+}
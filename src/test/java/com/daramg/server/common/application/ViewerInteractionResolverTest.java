@@ -0,0 +1,123 @@
+package com.daramg.server.common.application;
+
+import com.daramg.server.comment.domain.Comment;
+import com.daramg.server.comment.domain.CommentLike;
+import com.daramg.server.comment.repository.CommentLikeRepository;
+import com.daramg.server.comment.repository.CommentRepository;
+import com.daramg.server.post.domain.FreePost;
+import com.daramg.server.post.domain.Post;
+import com.daramg.server.post.domain.PostStatus;
+import com.daramg.server.post.domain.vo.PostCreateVo;
+import com.daramg.server.post.repository.PostRepository;
+import com.daramg.server.testsupport.support.ServiceTestSupport;
+import com.daramg.server.testsupport.util.QueryCounter;
+import com.daramg.server.user.domain.User;
+import com.daramg.server.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ViewerInteractionResolverTest extends ServiceTestSupport {
+
+    @Autowired
+    private ViewerInteractionResolver viewerInteractionResolver;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private Comment likedComment;
+    private Comment otherComment;
+
+    @BeforeEach
+    void setUp() {
+        user = new User("email@test.com", "password", "name", LocalDate.now(), "profile", "별명", "bio", null);
+        userRepository.save(user);
+
+        Post post = postRepository.save(FreePost.from(
+                new PostCreateVo.Free(user, "제목", "내용", PostStatus.PUBLISHED, List.of(), null, List.of())
+        ));
+        likedComment = commentRepository.save(Comment.of(post, user, "좋아요한 댓글", null));
+        otherComment = commentRepository.save(Comment.of(post, user, "다른 댓글", null));
+        commentLikeRepository.save(CommentLike.of(likedComment, user));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Nested
+    @DisplayName("댓글 좋아요 여부 조회")
+    class FindLikedCommentIdsTest {
+
+        @Test
+        @DisplayName("CommentLike 엔티티를 로드하지 않고 좋아요한 댓글 ID 만 조회한다")
+        void findLikedCommentIds_ReturnsIdsOnly() {
+            // given
+            QueryCounter counter = QueryCounter.start(entityManagerFactory);
+
+            // when
+            Set<Long> likedIds = viewerInteractionResolver.findLikedCommentIds(
+                    List.of(likedComment.getId(), otherComment.getId()), user);
+            long likeLoadCount = counter.stop().loadCount(CommentLike.class);
+
+            // then
+            assertThat(likedIds).containsExactly(likedComment.getId());
+            assertThat(likeLoadCount).isZero();
+        }
+
+        @Test
+        @DisplayName("같은 요청 안에서는 이미 확인한 댓글을 다시 조회하지 않는다")
+        void findLikedCommentIds_CachesWithinRequest() {
+            // given
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            viewerInteractionResolver.findLikedCommentIds(List.of(likedComment.getId(), otherComment.getId()), user);
+
+            QueryCounter counter = QueryCounter.start(entityManagerFactory);
+
+            // when
+            Set<Long> likedIds = viewerInteractionResolver.findLikedCommentIds(List.of(likedComment.getId()), user);
+            long statementCount = counter.stop().statementCount();
+
+            // then
+            assertThat(likedIds).containsExactly(likedComment.getId());
+            assertThat(statementCount).isZero();
+        }
+
+        @Test
+        @DisplayName("비로그인 조회자는 조회 없이 빈 결과를 받는다")
+        void findLikedCommentIds_AnonymousViewer() {
+            // when
+            Set<Long> likedIds = viewerInteractionResolver.findLikedCommentIds(List.of(likedComment.getId()), null);
+
+            // then
+            assertThat(likedIds).isEmpty();
+        }
+    }
+}
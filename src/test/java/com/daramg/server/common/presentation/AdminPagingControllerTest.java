@@ -0,0 +1,60 @@
+package com.daramg.server.common.presentation;
+
+import com.daramg.server.common.util.PageSizePolicy;
+import com.daramg.server.testsupport.support.ControllerTestSupport;
+import com.epages.restdocs.apispec.ResourceSnippetParameters;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Map;
+
+import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.cookies.CookieDocumentation.cookieWithName;
+import static org.springframework.restdocs.cookies.CookieDocumentation.requestCookies;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = AdminPagingController.class)
+public class AdminPagingControllerTest extends ControllerTestSupport {
+
+    @MockitoBean
+    private PageSizePolicy pageSizePolicy;
+
+    @Test
+    void 페이지_크기가_제한된_요청_수를_조회한다() throws Exception {
+        // given
+        given(pageSizePolicy.getClampedCounts()).willReturn(Map.of("/posts/free", 2L));
+
+        // when
+        ResultActions result = mockMvc.perform(get("/admin/paging/clamped-counts")
+                .cookie(new Cookie(COOKIE_NAME, "access_token"))
+        );
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].endpoint").value("/posts/free"))
+                .andExpect(jsonPath("$[0].clampedCount").value(2))
+                .andDo(restDocsHandler.document(
+                        resource(ResourceSnippetParameters.builder()
+                                .tag("Admin API")
+                                .summary("페이지 크기 제한 현황 조회")
+                                .description("서버 기동 이후 엔드포인트별 최대 페이지 크기를 넘어 잘린 요청 수를 조회합니다.")
+                                .responseFields(
+                                        fieldWithPath("[].endpoint").type(JsonFieldType.STRING).description("요청 매핑 패턴"),
+                                        fieldWithPath("[].clampedCount").type(JsonFieldType.NUMBER).description("최대 크기로 잘린 요청 수")
+                                )
+                                .build()
+                        ),
+                        requestCookies(
+                                cookieWithName(COOKIE_NAME).description("관리자의 토큰")
+                        )
+                ));
+    }
+}
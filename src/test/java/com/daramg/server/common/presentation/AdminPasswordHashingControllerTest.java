@@ -0,0 +1,71 @@
+package com.daramg.server.common.presentation;
+
+import com.daramg.server.common.util.BoundedPasswordEncoder;
+import com.daramg.server.testsupport.support.ControllerTestSupport;
+import com.epages.restdocs.apispec.ResourceSnippetParameters;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.cookies.CookieDocumentation.cookieWithName;
+import static org.springframework.restdocs.cookies.CookieDocumentation.requestCookies;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = AdminPasswordHashingController.class)
+public class AdminPasswordHashingControllerTest extends ControllerTestSupport {
+
+    @MockitoBean
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @Test
+    void 비밀번호_해싱_현황을_조회한다() throws Exception {
+        // given
+        given(boundedPasswordEncoder.getPoolSize()).willReturn(4);
+        given(boundedPasswordEncoder.getActiveCount()).willReturn(4);
+        given(boundedPasswordEncoder.getQueueDepth()).willReturn(12);
+        given(boundedPasswordEncoder.getQueueCapacity()).willReturn(100);
+        given(boundedPasswordEncoder.getCompletedCount()).willReturn(1_532L);
+        given(boundedPasswordEncoder.getRejectedCount()).willReturn(3L);
+        given(boundedPasswordEncoder.getAverageLatencyMillis()).willReturn(68.4);
+        given(boundedPasswordEncoder.getMaxLatencyMillis()).willReturn(142.7);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/admin/password-hashing/stats")
+                .cookie(new Cookie(COOKIE_NAME, "access_token"))
+        );
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.queueDepth").value(12))
+                .andExpect(jsonPath("$.rejectedCount").value(3))
+                .andDo(restDocsHandler.document(
+                        resource(ResourceSnippetParameters.builder()
+                                .tag("Admin API")
+                                .summary("비밀번호 해싱 현황 조회")
+                                .description("로그인/회원가입 등의 비밀번호 해싱 스레드 풀 사용량, 대기열 길이, 해싱 시간과 서버 기동 이후 거절된 요청 수를 조회합니다.")
+                                .responseFields(
+                                        fieldWithPath("poolSize").type(JsonFieldType.NUMBER).description("해싱 스레드 수"),
+                                        fieldWithPath("activeCount").type(JsonFieldType.NUMBER).description("해싱 중인 스레드 수"),
+                                        fieldWithPath("queueDepth").type(JsonFieldType.NUMBER).description("해싱을 기다리는 요청 수"),
+                                        fieldWithPath("queueCapacity").type(JsonFieldType.NUMBER).description("대기열 최대 크기 (넘으면 503)"),
+                                        fieldWithPath("completedCount").type(JsonFieldType.NUMBER).description("완료된 해싱/검증 수"),
+                                        fieldWithPath("rejectedCount").type(JsonFieldType.NUMBER).description("대기열 포화 또는 대기 시간 초과로 503 응답한 요청 수"),
+                                        fieldWithPath("averageLatencyMillis").type(JsonFieldType.NUMBER).description("평균 해싱 시간 (ms)"),
+                                        fieldWithPath("maxLatencyMillis").type(JsonFieldType.NUMBER).description("최대 해싱 시간 (ms)")
+                                )
+                                .build()
+                        ),
+                        requestCookies(
+                                cookieWithName(COOKIE_NAME).description("관리자의 토큰")
+                        )
+                ));
+    }
+}
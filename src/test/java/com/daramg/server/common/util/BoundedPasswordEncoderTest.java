@@ -0,0 +1,161 @@
+package com.daramg.server.common.util;
+
+import com.daramg.server.common.config.PasswordHashingProperties;
+import com.daramg.server.common.exception.BusinessException;
+import com.daramg.server.common.exception.CommonErrorStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.shutdown();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * release 가 호출될 때까지 해싱을 붙잡아 두는 인코더. 실제 BCrypt 처럼 인터럽트에 반응하지 않는다
+     */
+    private static class BlockingPasswordEncoder implements PasswordEncoder {
+
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            boolean interrupted = false;
+            while (released.getCount() > 0) {
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return "encoded";
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
+
+    @Nested
+    @DisplayName("해싱 위임")
+    class DelegateTest {
+
+        @Test
+        @DisplayName("설정한 BCrypt 비용으로 해싱하고 검증하며, 해싱 시간을 집계한다")
+        void encodeAndMatches_DelegatesToBCrypt() {
+            // given
+            encoder = new BoundedPasswordEncoder(
+                    new BCryptPasswordEncoder(4), new PasswordHashingProperties(4, 2, 10, Duration.ofSeconds(5))
+            );
+
+            // when
+            String encoded = encoder.encode("Password123!");
+
+            // then
+            assertThat(encoded).startsWith("$2a$04$");
+            assertThat(encoder.matches("Password123!", encoded)).isTrue();
+            assertThat(encoder.matches("wrong", encoded)).isFalse();
+            assertThat(encoder.getCompletedCount()).isEqualTo(3);
+            assertThat(encoder.getMaxLatencyMillis()).isPositive();
+        }
+    }
+
+    @Nested
+    @DisplayName("포화 시 거절")
+    class BackPressureTest {
+
+        @Test
+        @DisplayName("해싱 스레드와 대기열이 모두 차면 기다리지 않고 503 으로 거절한다")
+        void encode_RejectsWhenQueueIsFull() throws InterruptedException {
+            // given
+            BlockingPasswordEncoder delegate = new BlockingPasswordEncoder();
+            encoder = new BoundedPasswordEncoder(delegate, new PasswordHashingProperties(4, 1, 1, Duration.ofSeconds(5)));
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+            waitUntil(() -> encoder.getActiveCount() == 1);
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+            waitUntil(() -> encoder.getQueueDepth() == 1);
+
+            // when & then
+            assertThatThrownBy(() -> encoder.encode("third"))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessage(CommonErrorStatus.SERVICE_UNAVAILABLE.getMessage());
+            assertThat(encoder.getRejectedCount()).isEqualTo(1);
+
+            delegate.release();
+            assertThat(running.join()).isEqualTo("encoded");
+            assertThat(queued.join()).isEqualTo("encoded");
+        }
+
+        @Test
+        @DisplayName("대기 시간 안에 해싱이 끝나지 않으면 503 으로 거절한다")
+        void encode_RejectsAfterWaitTimeout() {
+            // given
+            BlockingPasswordEncoder delegate = new BlockingPasswordEncoder();
+            encoder = new BoundedPasswordEncoder(delegate, new PasswordHashingProperties(4, 1, 1, Duration.ofMillis(50)));
+
+            // when & then
+            assertThatThrownBy(() -> encoder.encode("slow"))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessage(CommonErrorStatus.SERVICE_UNAVAILABLE.getMessage());
+            assertThat(encoder.getRejectedCount()).isEqualTo(1);
+            delegate.release();
+        }
+
+        @Test
+        @DisplayName("대기 시간을 넘겨 거절된 요청은 대기열 자리를 바로 비운다")
+        void encode_RemovesTimedOutTaskFromQueue() throws InterruptedException {
+            // given
+            BlockingPasswordEncoder delegate = new BlockingPasswordEncoder();
+            encoder = new BoundedPasswordEncoder(delegate, new PasswordHashingProperties(4, 1, 1, Duration.ofMillis(50)));
+            CompletableFuture<Void> running = CompletableFuture.runAsync(() -> {
+                try {
+                    encoder.encode("first");
+                } catch (BusinessException ignored) {
+                    // 먼저 거절되더라도 해싱 스레드는 release 전까지 붙잡혀 있다
+                }
+            });
+            waitUntil(() -> encoder.getActiveCount() == 1);
+
+            // when
+            assertThatThrownBy(() -> encoder.encode("queued"))
+                    .isInstanceOf(BusinessException.class);
+
+            // then
+            assertThat(encoder.getQueueDepth()).isZero();
+            delegate.release();
+            running.join();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.daramg.server.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BoundedTtlCacheTest {
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private Function<Long, String> loader(String value) {
+        return key -> {
+            loadCount.incrementAndGet();
+            return value;
+        };
+    }
+
+    @Test
+    @DisplayName("가득 차면 가장 오래 사용되지 않은 항목을 내보낸다")
+    void get_EvictsLeastRecentlyUsed() {
+        // given
+        BoundedTtlCache<Long, String> cache = new BoundedTtlCache<>(2, Duration.ofMinutes(1));
+        cache.get(1L, loader("one"));
+        cache.get(2L, loader("two"));
+        cache.get(1L, loader("one"));
+
+        // when
+        cache.get(3L, loader("three"));
+        cache.get(1L, loader("one"));
+        cache.get(2L, loader("two"));
+
+        // then
+        assertThat(loadCount).hasValue(4);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("읽는 도중 무효화된 키만 저장하지 않고, 다른 키의 무효화는 영향을 주지 않는다")
+    void get_SkipsOnlyKeyInvalidatedWhileLoading() {
+        // given
+        BoundedTtlCache<Long, String> cache = new BoundedTtlCache<>(10, Duration.ofMinutes(1));
+        cache.get(1L, key -> {
+            cache.invalidate(2L);
+            return "one";
+        });
+        cache.get(2L, key -> {
+            cache.invalidate(2L);
+            return "stale";
+        });
+
+        // when
+        cache.get(1L, loader("one"));
+        String found = cache.get(2L, loader("fresh"));
+
+        // then
+        assertThat(found).isEqualTo("fresh");
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("항목별 만료 시각이 지난 값은 다시 읽고, 이미 만료된 값은 저장하지 않는다")
+    void get_UsesPerEntryExpiry() {
+        // given
+        BoundedTtlCache<Long, Instant> cache = new BoundedTtlCache<>(10, Function.identity());
+        cache.get(1L, key -> {
+            loadCount.incrementAndGet();
+            return Instant.now().minusSeconds(1);
+        });
+
+        // when
+        cache.get(1L, key -> {
+            loadCount.incrementAndGet();
+            return Instant.now().plusSeconds(60);
+        });
+        cache.get(1L, key -> {
+            loadCount.incrementAndGet();
+            return Instant.now().plusSeconds(60);
+        });
+
+        // then
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("읽기에 실패하거나 값이 없으면 저장하지 않고 읽기 표식도 남기지 않는다")
+    void get_DoesNotKeepFailedLoads() {
+        // given
+        BoundedTtlCache<Long, String> cache = new BoundedTtlCache<>(10, Duration.ofMinutes(1));
+
+        // when
+        assertThatThrownBy(() -> cache.get(1L, key -> {
+            throw new IllegalStateException("load failed");
+        })).isInstanceOf(IllegalStateException.class);
+        cache.get(2L, key -> null);
+
+        // then
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,89 @@
+package com.daramg.server.common.util;
+
+import com.daramg.server.common.config.PagingProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PageSizePolicyTest {
+
+    private static final String FREE_POSTS = "/posts/free";
+    private static final String COMMENTS = "/posts/{postId}/comments";
+
+    private final PagingProperties properties = new PagingProperties(
+            10, 50, Map.of(COMMENTS, 30), new PagingProperties.Adaptive(true, 0.8, 0.5)
+    );
+
+    @Nested
+    @DisplayName("최대 크기 제한")
+    class ClampTest {
+
+        private final PageSizePolicy policy = new PageSizePolicy(properties, () -> 0.0);
+
+        @Test
+        @DisplayName("최대값 이하의 크기는 그대로, 초과하면 엔드포인트별 최대값으로 제한한다")
+        void resolveSize_ClampsToEndpointMaximum() {
+            assertThat(policy.resolveSize(FREE_POSTS, 20)).isEqualTo(20);
+            assertThat(policy.resolveSize(FREE_POSTS, 100_000)).isEqualTo(50);
+            assertThat(policy.resolveSize(COMMENTS, 100)).isEqualTo(30);
+        }
+
+        @Test
+        @DisplayName("크기를 생략하거나 0 이하이면 기본값을 사용한다")
+        void resolveSize_UsesDefault() {
+            assertThat(policy.resolveSize(FREE_POSTS, null)).isEqualTo(10);
+            assertThat(policy.resolveSize(FREE_POSTS, -5)).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("제한된 요청 수를 엔드포인트별로 집계한다")
+        void resolveSize_CountsClampedRequests() {
+            // when
+            policy.resolveSize(FREE_POSTS, 100);
+            policy.resolveSize(FREE_POSTS, 200);
+            policy.resolveSize(COMMENTS, 31);
+            policy.resolveSize(COMMENTS, 30);
+
+            // then
+            assertThat(policy.getClampedCounts()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                    FREE_POSTS, 2L,
+                    COMMENTS, 1L
+            ));
+        }
+    }
+
+    @Nested
+    @DisplayName("커넥션 풀 포화 시 축소")
+    class AdaptiveTest {
+
+        @Test
+        @DisplayName("커넥션 풀이 포화되면 기본값과 최대값을 줄인다")
+        void resolveSize_ShrinksWhenSaturated() {
+            // given
+            PageSizePolicy policy = new PageSizePolicy(properties, () -> 0.9);
+
+            // when & then
+            assertThat(policy.resolveSize(FREE_POSTS, null)).isEqualTo(5);
+            assertThat(policy.resolveSize(FREE_POSTS, 40)).isEqualTo(25);
+            assertThat(policy.resolveSize(FREE_POSTS, 3)).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("축소를 끄면 포화 상태에서도 설정값을 그대로 사용한다")
+        void resolveSize_DisabledAdaptive() {
+            // given
+            PagingProperties disabled = new PagingProperties(
+                    10, 50, Map.of(), new PagingProperties.Adaptive(false, 0.8, 0.5)
+            );
+            PageSizePolicy policy = new PageSizePolicy(disabled, () -> 1.0);
+
+            // when & then
+            assertThat(policy.resolveSize(FREE_POSTS, null)).isEqualTo(10);
+            assertThat(policy.resolveSize(FREE_POSTS, 40)).isEqualTo(40);
+        }
+    }
+}
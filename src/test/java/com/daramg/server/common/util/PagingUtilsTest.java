@@ -8,9 +8,11 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.LongStream;
 
@@ -118,7 +120,7 @@ public class PagingUtilsTest {
         @DisplayName("커서 인코딩 및 디코딩 라운드트립")
         void cursor_EncodeDecode_Roundtrip() {
             // given
-            Instant now = Instant.now();
+            Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS); // DB created_at 정밀도
             Long id = 123L;
 
             // when
@@ -139,6 +141,64 @@ public class PagingUtilsTest {
             assertThat(decodedId).isEqualTo(id);
         }
 
+        @Test
+        @DisplayName("커서는 패딩 없는 URL-safe Base64 23자로 인코딩된다")
+        void encodeCursor_IsCompactAndUrlSafe() {
+            // when
+            String encodedCursor = pagingUtils.encodeCursor(Instant.parse("2024-01-15T10:30:00.123456Z"), Long.MAX_VALUE);
+
+            // then
+            assertThat(encodedCursor).hasSize(23).matches("[A-Za-z0-9_-]+");
+        }
+
+        @Test
+        @DisplayName("1970년 이전 시각도 라운드트립된다")
+        void cursor_EncodeDecode_BeforeEpoch() {
+            // given
+            Instant createdAt = Instant.parse("1969-12-31T23:59:59.999999Z");
+
+            // when
+            Object decodedRecord = ReflectionTestUtils.invokeMethod(
+                    pagingUtils, "decodeCursor", pagingUtils.encodeCursor(createdAt, 1L)
+            );
+
+            // then
+            assertThat(ReflectionTestUtils.getField(decodedRecord, "createdAt")).isEqualTo(createdAt);
+        }
+
+        @Test
+        @DisplayName("이전 형식(ISO 시각_id 의 Base64) 커서도 디코딩된다")
+        void decodeCursor_LegacyFormat_IsAccepted() {
+            // given
+            String legacyCursor = Base64.getEncoder()
+                    .encodeToString("2024-01-15T10:30:00.123456789Z_10".getBytes(StandardCharsets.UTF_8));
+
+            // when
+            Object decodedRecord = ReflectionTestUtils.invokeMethod(
+                    pagingUtils, "decodeCursor", legacyCursor
+            );
+
+            // then
+            assertThat(ReflectionTestUtils.getField(decodedRecord, "createdAt"))
+                    .isEqualTo(Instant.parse("2024-01-15T10:30:00.123456789Z"));
+            assertThat(ReflectionTestUtils.getField(decodedRecord, "id")).isEqualTo(10L);
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 버전의 커서 디코딩 시 BusinessException 발생")
+        void decodeCursor_UnknownVersion_ThrowsException() {
+            // given
+            byte[] bytes = new byte[17];
+            bytes[0] = 2;
+            String unknownVersionCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+            // when & then
+            assertThatThrownBy(() -> {
+                ReflectionTestUtils.invokeMethod(pagingUtils, "decodeCursor", unknownVersionCursor);
+            }).isInstanceOf(BusinessException.class)
+                    .hasMessage("유효하지 않은 커서 포맷입니다.");
+        }
+
         @Test
         @DisplayName("null 커서 디코딩 시 null 반환")
         void decodeCursor_NullInput_ReturnsNull() {
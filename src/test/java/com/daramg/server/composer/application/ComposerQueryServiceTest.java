@@ -6,19 +6,26 @@ import com.daramg.server.composer.domain.Gender;
 import com.daramg.server.composer.domain.Continent;
 import com.daramg.server.composer.domain.Era;
 import com.daramg.server.composer.dto.ComposerResponseDto;
+import com.daramg.server.composer.dto.ComposerUpdateDto;
 import com.daramg.server.composer.repository.ComposerLikeRepository;
 import com.daramg.server.composer.repository.ComposerRepository;
+import com.daramg.server.post.application.PostService;
 import com.daramg.server.post.domain.PostStatus;
 import com.daramg.server.post.domain.StoryPost;
 import com.daramg.server.post.domain.vo.PostCreateVo;
+import com.daramg.server.post.dto.PostCreateDto;
 import com.daramg.server.post.repository.PostRepository;
 import com.daramg.server.testsupport.support.ServiceTestSupport;
+import com.daramg.server.testsupport.util.QueryCounter;
 import com.daramg.server.user.domain.User;
+import com.daramg.server.user.domain.UserRole;
 import com.daramg.server.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -42,6 +49,18 @@ public class ComposerQueryServiceTest extends ServiceTestSupport {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private ComposerCatalogCache composerCatalogCache;
+
+    @Autowired
+    private ComposerService composerService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private User user;
     private Composer corelli;  // 코렐리
     private Composer vitali;   // 비탈리
@@ -90,6 +109,7 @@ public class ComposerQueryServiceTest extends ServiceTestSupport {
                 .build();
 
         composerRepository.saveAll(List.of(corelli, vitali, vivaldi));
+        composerCatalogCache.invalidate(); // 테스트 데이터는 리포지토리로 직접 저장하므로 캐시를 비움
     }
 
     @Test
@@ -292,4 +312,66 @@ public class ComposerQueryServiceTest extends ServiceTestSupport {
                 .containsExactlyInAnyOrder("코렐리", "비탈리", "비발디", "모차르트", "도호");
         assertThat(result).allMatch(dto -> !dto.isLiked());
     }
+
+    @Test
+    @DisplayName("비로그인 재조회는 DB 쿼리 없이 캐시된 목록으로 응답한다")
+    void getAllComposers_whenAnonymousAndCached_executesNoQuery() {
+        // given
+        composerQueryService.getAllComposers(null, null, null);
+        QueryCounter counter = QueryCounter.start(entityManagerFactory);
+
+        // when
+        List<ComposerResponseDto> result = composerQueryService.getAllComposers(null, List.of(Era.BAROQUE), null);
+        long statementCount = counter.stop().statementCount();
+
+        // then
+        assertThat(statementCount).isZero();
+        assertThat(result).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("작곡가를 수정하면 캐시가 무효화되어 변경된 정보가 반환된다")
+    void getAllComposers_afterUpdateComposer_returnsUpdatedComposer() {
+        // given
+        composerQueryService.getAllComposers(null, null, null);
+        User admin = new User("admin@test.com", "password", "admin",
+                LocalDate.now(), "profile", "관리자", "bio", null);
+        ReflectionTestUtils.setField(admin, "role", UserRole.ADMIN);
+        userRepository.save(admin);
+
+        // when
+        composerService.updateComposer(vivaldi.getId(), new ComposerUpdateDto(
+                "안토니오 비발디", "Antonio Vivaldi", "Antonio Vivaldi", Gender.MALE, "이탈리아",
+                (short) 1678, (short) 1741, "bio", Era.BAROQUE, Continent.EUROPE
+        ), admin);
+        List<ComposerResponseDto> result = composerQueryService.getAllComposers(null, null, null);
+
+        // then
+        assertThat(result).extracting(ComposerResponseDto::koreanName)
+                .contains("안토니오 비발디")
+                .doesNotContain("비발디");
+    }
+
+    @Test
+    @DisplayName("스토리를 발행하면 캐시가 무효화되어 갱신된 통계가 반환되고, 좋아요 여부는 유저별로 덧씌워진다")
+    void getAllComposers_afterPublishingStory_returnsUpdatedStats() {
+        // given
+        composerQueryService.getAllComposers(null, null, null);
+        composerLikeRepository.save(ComposerLike.of(vivaldi, user));
+
+        // when
+        postService.createStory(new PostCreateDto.CreateStory(
+                "비발디 이야기", "내용", PostStatus.PUBLISHED, List.of(), null, List.of(), vivaldi.getId()
+        ), user);
+        List<ComposerResponseDto> anonymousResult = composerQueryService.getAllComposers(null, null, null);
+        List<ComposerResponseDto> userResult = composerQueryService.getAllComposers(user, null, null);
+
+        // then
+        ComposerResponseDto vivaldiResult = anonymousResult.stream()
+                .filter(r -> r.composerId() == vivaldi.getId()).findFirst().orElseThrow();
+        assertThat(vivaldiResult.storyPostCount()).isEqualTo(1L);
+        assertThat(vivaldiResult.isLiked()).isFalse();
+        assertThat(userResult.getFirst().composerId()).isEqualTo(vivaldi.getId());
+        assertThat(userResult.getFirst().isLiked()).isTrue();
+    }
 }
@@ -0,0 +1,158 @@
+package com.daramg.server.composer.application;
+
+import com.daramg.server.composer.domain.Composer;
+import com.daramg.server.composer.domain.ComposerStats;
+import com.daramg.server.composer.domain.Continent;
+import com.daramg.server.composer.domain.Era;
+import com.daramg.server.composer.domain.Gender;
+import com.daramg.server.composer.repository.ComposerRepository;
+import com.daramg.server.composer.repository.ComposerStatsRepository;
+import com.daramg.server.post.application.PostService;
+import com.daramg.server.post.domain.Post;
+import com.daramg.server.post.domain.PostStatus;
+import com.daramg.server.post.dto.PostCreateDto;
+import com.daramg.server.post.repository.PostRepository;
+import com.daramg.server.testsupport.support.ServiceTestSupport;
+import com.daramg.server.user.domain.User;
+import com.daramg.server.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ComposerStatsServiceTest extends ServiceTestSupport {
+
+    @Autowired
+    private ComposerStatsService composerStatsService;
+
+    @Autowired
+    private ComposerStatsRepository composerStatsRepository;
+
+    @Autowired
+    private ComposerRepository composerRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Composer vivaldi;
+
+    @BeforeEach
+    void setUp() {
+        user = new User("email@test.com", "password", "name",
+                LocalDate.now(), "profile", "닉네임", "bio", null);
+        userRepository.save(user);
+
+        vivaldi = Composer.builder()
+                .koreanName("비발디")
+                .englishName("Antonio Vivaldi")
+                .nativeName("Antonio Lucio Vivaldi")
+                .nationality("이탈리아")
+                .gender(Gender.MALE)
+                .birthYear((short) 1678)
+                .deathYear((short) 1741)
+                .era(Era.BAROQUE)
+                .continent(Continent.EUROPE)
+                .build();
+        composerRepository.save(vivaldi);
+        composerStatsService.composerCreated(vivaldi);
+    }
+
+    private void createStory(String title, PostStatus status) {
+        postService.createStory(new PostCreateDto.CreateStory(
+                title, "내용", status, List.of(), null, List.of(), vivaldi.getId()
+        ), user);
+    }
+
+    private ComposerStats findStats() {
+        return composerStatsRepository.findById(vivaldi.getId()).orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("스토리 변경 반영")
+    class ApplyStoryChangesTest {
+
+        @Test
+        @DisplayName("스토리를 발행하면 해당 작곡가의 스토리 수가 증가하고 마지막 스토리 시각이 기록된다")
+        void storyPublished_IncreasesCount() {
+            // when
+            createStory("비발디 글1", PostStatus.PUBLISHED);
+            createStory("비발디 글2", PostStatus.PUBLISHED);
+            createStory("비발디 초안", PostStatus.DRAFT);
+
+            // then
+            ComposerStats stats = findStats();
+            assertThat(stats.getStoryPostCount()).isEqualTo(2L);
+            assertThat(stats.getLastStoryPostAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("마지막 스토리를 삭제하면 스토리 수가 0이 되고 마지막 스토리 시각이 비워진다")
+        void storyDeleted_DecreasesCount() {
+            // given
+            createStory("비발디 글1", PostStatus.PUBLISHED);
+            Post post = postRepository.findAll().getFirst();
+
+            // when
+            postService.delete(post.getId(), user);
+
+            // then
+            ComposerStats stats = findStats();
+            assertThat(stats.getStoryPostCount()).isZero();
+            assertThat(stats.getLastStoryPostAt()).isNull();
+            assertThat(composerStatsService.findInconsistentComposerIds()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("정합성 검사 및 재계산")
+    class RepairTest {
+
+        @Test
+        @DisplayName("통계가 posts 와 어긋나면 검사에서 발견되고 재계산으로 바로잡힌다")
+        void inconsistentStats_AreRebuilt() {
+            // given
+            createStory("비발디 글1", PostStatus.PUBLISHED);
+            jdbcTemplate.update("UPDATE composer_stats SET story_post_count = 5 WHERE composer_id = ?", vivaldi.getId());
+
+            // when
+            List<Long> inconsistentIds = composerStatsService.findInconsistentComposerIds();
+            composerStatsService.rebuild(inconsistentIds);
+
+            // then
+            assertThat(inconsistentIds).containsExactly(vivaldi.getId());
+            assertThat(findStats().getStoryPostCount()).isEqualTo(1L);
+            assertThat(composerStatsService.findInconsistentComposerIds()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("통계 행이 없는 작곡가도 재계산 시 행이 만들어진다")
+        void missingStats_AreCreated() {
+            // given
+            createStory("비발디 글1", PostStatus.PUBLISHED);
+            composerStatsRepository.deleteAll();
+
+            // when
+            composerStatsService.rebuild(composerStatsService.findInconsistentComposerIds());
+
+            // then
+            assertThat(findStats().getStoryPostCount()).isEqualTo(1L);
+        }
+    }
+}
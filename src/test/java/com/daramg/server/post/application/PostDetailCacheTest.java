@@ -0,0 +1,92 @@
+package com.daramg.server.post.application;
+
+import com.daramg.server.post.dto.PostDetailResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PostDetailCacheTest {
+
+    private final PostDetailCache cache = new PostDetailCache();
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private Supplier<PostDetailResponse> loader(PostDetailResponse response) {
+        return () -> {
+            loadCount.incrementAndGet();
+            return response;
+        };
+    }
+
+    @Test
+    @DisplayName("같은 게시물은 무효화 전까지 한 번만 읽는다")
+    void get_LoadsOnce() {
+        // given
+        PostDetailResponse response = Mockito.mock(PostDetailResponse.class);
+
+        // when
+        cache.get(1L, loader(response));
+        PostDetailResponse cached = cache.get(1L, loader(response));
+
+        // then
+        assertThat(cached).isSameAs(response);
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("읽는 도중 무효화된 응답은 저장하지 않는다")
+    void get_DoesNotStoreResponseInvalidatedWhileLoading() {
+        // given
+        PostDetailResponse stale = Mockito.mock(PostDetailResponse.class);
+        cache.get(1L, () -> {
+            cache.invalidate(1L);
+            return stale;
+        });
+
+        // when
+        PostDetailResponse fresh = Mockito.mock(PostDetailResponse.class);
+        PostDetailResponse found = cache.get(1L, loader(fresh));
+
+        // then
+        assertThat(found).isSameAs(fresh);
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("다른 게시물이 무효화되어도 읽는 중인 게시물의 응답은 저장한다")
+    void get_StoresResponseWhenOtherPostInvalidated() {
+        // given
+        PostDetailResponse response = Mockito.mock(PostDetailResponse.class);
+        cache.get(1L, () -> {
+            cache.invalidate(2L);
+            return response;
+        });
+
+        // when
+        PostDetailResponse cached = cache.get(1L, loader(Mockito.mock(PostDetailResponse.class)));
+
+        // then
+        assertThat(cached).isSameAs(response);
+        assertThat(loadCount).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("전체 무효화 후에는 모든 게시물을 다시 읽는다")
+    void invalidateAll_ReloadsEveryPost() {
+        // given
+        cache.get(1L, loader(Mockito.mock(PostDetailResponse.class)));
+        cache.get(2L, loader(Mockito.mock(PostDetailResponse.class)));
+
+        // when
+        cache.invalidateAll();
+        cache.get(1L, loader(Mockito.mock(PostDetailResponse.class)));
+        cache.get(2L, loader(Mockito.mock(PostDetailResponse.class)));
+
+        // then
+        assertThat(loadCount).hasValue(4);
+    }
+}
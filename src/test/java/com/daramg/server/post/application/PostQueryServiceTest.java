@@ -1,7 +1,9 @@
 package com.daramg.server.post.application;
 
+import com.daramg.server.comment.application.CommentService;
 import com.daramg.server.comment.domain.Comment;
 import com.daramg.server.comment.domain.CommentLike;
+import com.daramg.server.comment.dto.CommentResponseDto;
 import com.daramg.server.comment.repository.CommentLikeRepository;
 import com.daramg.server.comment.repository.CommentRepository;
 import com.daramg.server.common.dto.PageRequestDto;
@@ -19,16 +21,21 @@ import com.daramg.server.post.domain.Post;
 import com.daramg.server.post.domain.PostLike;
 import com.daramg.server.post.domain.PostScrap;
 import com.daramg.server.post.domain.PostStatus;
+import com.daramg.server.post.domain.PostType;
 import com.daramg.server.post.domain.StoryPost;
 import com.daramg.server.post.domain.vo.PostCreateVo;
+import com.daramg.server.post.dto.CommentCreateDto;
 import com.daramg.server.post.dto.PostDetailResponse;
 import com.daramg.server.post.dto.PostResponseDto;
+import com.daramg.server.post.dto.PostSummaryDto;
 import com.daramg.server.post.repository.PostLikeRepository;
 import com.daramg.server.post.repository.PostRepository;
 import com.daramg.server.post.repository.PostScrapRepository;
 import com.daramg.server.testsupport.support.ServiceTestSupport;
+import com.daramg.server.testsupport.util.QueryCounter;
 import com.daramg.server.user.domain.User;
 import com.daramg.server.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -42,6 +49,7 @@ import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -54,6 +62,15 @@ public class PostQueryServiceTest extends ServiceTestSupport {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private PostViewCountService postViewCountService;
+
+    @Autowired
+    private PostDetailCache postDetailCache;
+
+    @Autowired
+    private CommentService commentService;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -81,6 +98,9 @@ public class PostQueryServiceTest extends ServiceTestSupport {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private User user;
     private User otherUser;
     private List<FreePost> freePosts;
@@ -112,6 +132,7 @@ public class PostQueryServiceTest extends ServiceTestSupport {
             freePosts.add(post);
         }
         postRepository.saveAll(freePosts);
+        postDetailCache.invalidateAll(); // 다른 테스트에서 같은 ID 로 캐시된 상세 응답 제거
     }
 
     @Nested
@@ -344,7 +365,7 @@ public class PostQueryServiceTest extends ServiceTestSupport {
             PageRequestDto pageRequest = new PageRequestDto(null, 100);
 
             // when
-            PageResponseDto<PostResponseDto> response = postQueryService.getUserPublishedPosts(user.getId(), pageRequest);
+            PageResponseDto<PostResponseDto> response = postQueryService.getUserPublishedPosts(user.getId(), pageRequest, null);
 
             // then
             // 해당 유저가 작성한 PUBLISHED 포스트 25개만 반환되어야 함
@@ -364,7 +385,7 @@ public class PostQueryServiceTest extends ServiceTestSupport {
             PageRequestDto pageRequest = new PageRequestDto(null, 10);
 
             // when
-            PageResponseDto<PostResponseDto> response = postQueryService.getUserPublishedPosts(user.getId(), pageRequest);
+            PageResponseDto<PostResponseDto> response = postQueryService.getUserPublishedPosts(user.getId(), pageRequest, null);
 
             // then
             assertThat(response.getContent()).hasSize(10);
@@ -382,7 +403,7 @@ public class PostQueryServiceTest extends ServiceTestSupport {
             PageRequestDto pageRequest = new PageRequestDto(null, 10);
 
             // when
-            PageResponseDto<PostResponseDto> response = postQueryService.getUserPublishedPosts(nonExistentUserId, pageRequest);
+            PageResponseDto<PostResponseDto> response = postQueryService.getUserPublishedPosts(nonExistentUserId, pageRequest, null);
 
             // then
             assertThat(response.getContent()).isEmpty();
@@ -433,7 +454,7 @@ public class PostQueryServiceTest extends ServiceTestSupport {
             PageRequestDto pageRequest = new PageRequestDto(null, 100);
 
             // when
-            PageResponseDto<PostResponseDto> response = postQueryService.getUserDraftPosts(user.getId(), pageRequest);
+            PageResponseDto<PostResponseDto> response = postQueryService.getUserDraftPosts(user.getId(), pageRequest, null);
 
             // then
             // 해당 유저가 작성한 DRAFT 포스트 10개만 반환되어야 함
@@ -471,7 +492,7 @@ public class PostQueryServiceTest extends ServiceTestSupport {
             PageRequestDto pageRequest = new PageRequestDto(null, 10);
 
             // when
-            PageResponseDto<PostResponseDto> response = postQueryService.getUserDraftPosts(user.getId(), pageRequest);
+            PageResponseDto<PostResponseDto> response = postQueryService.getUserDraftPosts(user.getId(), pageRequest, null);
 
             // then
             assertThat(response.getContent()).hasSize(10);
@@ -487,7 +508,7 @@ public class PostQueryServiceTest extends ServiceTestSupport {
             PageRequestDto pageRequest = new PageRequestDto(null, 10);
 
             // when
-            PageResponseDto<PostResponseDto> response = postQueryService.getUserDraftPosts(user.getId(), pageRequest);
+            PageResponseDto<PostResponseDto> response = postQueryService.getUserDraftPosts(user.getId(), pageRequest, null);
 
             // then
             assertThat(response.getContent()).isEmpty();
@@ -547,7 +568,7 @@ public class PostQueryServiceTest extends ServiceTestSupport {
             PageRequestDto pageRequest = new PageRequestDto(null, 100);
 
             // when
-            PageResponseDto<PostResponseDto> response = postQueryService.getUserScrappedPosts(user.getId(), pageRequest);
+            PageResponseDto<PostResponseDto> response = postQueryService.getUserScrappedPosts(user.getId(), pageRequest, null);
 
             // then
             // 해당 유저가 스크랩한 PUBLISHED 포스트 5개만 반환되어야 함
@@ -587,7 +608,7 @@ public class PostQueryServiceTest extends ServiceTestSupport {
             PageRequestDto pageRequest = new PageRequestDto(null, 10);
 
             // when
-            PageResponseDto<PostResponseDto> response = postQueryService.getUserScrappedPosts(user.getId(), pageRequest);
+            PageResponseDto<PostResponseDto> response = postQueryService.getUserScrappedPosts(user.getId(), pageRequest, null);
 
             // then
             assertThat(response.getContent()).hasSize(10);
@@ -602,7 +623,7 @@ public class PostQueryServiceTest extends ServiceTestSupport {
             PageRequestDto pageRequest = new PageRequestDto(null, 10);
 
             // when
-            PageResponseDto<PostResponseDto> response = postQueryService.getUserScrappedPosts(user.getId(), pageRequest);
+            PageResponseDto<PostResponseDto> response = postQueryService.getUserScrappedPosts(user.getId(), pageRequest, null);
 
             // then
             assertThat(response.getContent()).isEmpty();
@@ -647,7 +668,7 @@ public class PostQueryServiceTest extends ServiceTestSupport {
             PageRequestDto pageRequest = new PageRequestDto(null, 100);
 
             // when
-            PageResponseDto<PostResponseDto> response = postQueryService.getUserScrappedPosts(user.getId(), pageRequest);
+            PageResponseDto<PostResponseDto> response = postQueryService.getUserScrappedPosts(user.getId(), pageRequest, null);
 
             // then
             // PUBLISHED 포스트만 반환되어야 함
@@ -695,6 +716,30 @@ public class PostQueryServiceTest extends ServiceTestSupport {
             assertThat(response.comments()).isEmpty();
         }
 
+        @Test
+        @DisplayName("상세 조회 조회수는 즉시 UPDATE 되지 않고 flush 시 한 번에 반영된다")
+        void getPostById_ViewCountIsFlushedInBatch() {
+            // given
+            postViewCountService.flush(); // 다른 테스트에서 남은 조회수 제거
+            FreePost viewedPost = freePosts.get(0);
+            FreePost otherViewedPost = freePosts.get(1);
+
+            // when
+            for (int i = 0; i < 3; i++) {
+                postQueryService.getPostById(viewedPost.getId(), null);
+            }
+            postQueryService.getPostById(otherViewedPost.getId(), null);
+            int viewCountBeforeFlush = postRepository.findById(viewedPost.getId()).orElseThrow().getViewCount();
+            int flushedPostCount = postViewCountService.flush();
+
+            // then
+            assertThat(viewCountBeforeFlush).isZero();
+            assertThat(flushedPostCount).isEqualTo(2);
+            assertThat(postRepository.findById(viewedPost.getId()).orElseThrow().getViewCount()).isEqualTo(3);
+            assertThat(postRepository.findById(otherViewedPost.getId()).orElseThrow().getViewCount()).isEqualTo(1);
+            assertThat(postViewCountService.flush()).isZero();
+        }
+
         @Test
         @DisplayName("존재하지 않는 포스트 ID로 조회하면 NotFoundException이 발생한다")
         void getPostById_WithNonExistentId_ThrowsNotFoundException() {
@@ -796,6 +841,46 @@ public class PostQueryServiceTest extends ServiceTestSupport {
             assertThat(response.comments().get(1).childComments().get(0).isLiked()).isFalse();
             assertThat(response.comments().get(2).childComments().get(0).isLiked()).isTrue();
         }
+
+        @Test
+        @DisplayName("두 번째 상세 조회부터는 캐시된 응답에 조회자의 좋아요/스크랩 여부만 조회해 덧씌운다")
+        void getPostById_SecondHitMergesViewerStateOntoCachedDetail() {
+            // given
+            FreePost savedPost = freePosts.get(0);
+            Comment comment = commentRepository.save(Comment.of(savedPost, otherUser, "댓글", null));
+            commentLikeRepository.save(CommentLike.of(comment, user));
+            postQueryService.getPostById(savedPost.getId(), null);
+
+            QueryCounter counter = QueryCounter.start(entityManagerFactory);
+
+            // when
+            PostDetailResponse response = postQueryService.getPostById(savedPost.getId(), user);
+            long statementCount = counter.stop().statementCount();
+
+            // then
+            assertThat(response.isLiked()).isFalse();
+            assertThat(response.isScrapped()).isFalse();
+            assertThat(response.comments()).singleElement()
+                    .satisfies(parent -> assertThat(parent.isLiked()).isTrue());
+            // 게시물 좋아요/스크랩, 댓글 좋아요
+            assertThat(statementCount).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("댓글을 작성하면 캐시된 상세 응답이 무효화되어 새 댓글과 댓글 수가 보인다")
+        void getPostById_CommentInvalidatesCachedDetail() {
+            // given
+            FreePost savedPost = freePosts.get(0);
+            postQueryService.getPostById(savedPost.getId(), null);
+
+            // when
+            commentService.createComment(savedPost.getId(), new CommentCreateDto("새 댓글"), otherUser);
+            PostDetailResponse response = postQueryService.getPostById(savedPost.getId(), null);
+
+            // then
+            assertThat(response.commentCount()).isEqualTo(1);
+            assertThat(response.comments()).extracting(CommentResponseDto::content).containsExactly("새 댓글");
+        }
     }
 
     @Nested
@@ -1284,6 +1369,143 @@ public class PostQueryServiceTest extends ServiceTestSupport {
                     .extracting(PostResponseDto::title)
                     .doesNotContain("DRAFT 스토리");
         }
+
+        @Test
+        @DisplayName("additionalComposers로 연결된 큐레이션 포스트도 커서 페이징으로 누락 없이 조회된다")
+        void getComposerWithPosts_IncludesAdditionalComposerPostsWithCursor() {
+            // given
+            Composer beethoven = Composer.builder()
+                    .koreanName("베토벤")
+                    .englishName("Ludwig van Beethoven")
+                    .gender(Gender.MALE)
+                    .era(Era.CLASSICAL)
+                    .continent(Continent.EUROPE)
+                    .build();
+            Composer chopin = Composer.builder()
+                    .koreanName("쇼팽")
+                    .englishName("Frederic Chopin")
+                    .gender(Gender.MALE)
+                    .era(Era.ROMANTIC)
+                    .continent(Continent.EUROPE)
+                    .build();
+            composerRepository.saveAll(List.of(beethoven, chopin));
+
+            List<Post> posts = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                posts.add(StoryPost.from(
+                        new PostCreateVo.Story(user, "베토벤 스토리 " + i, "내용", PostStatus.PUBLISHED,
+                                List.of(), null, List.of(), beethoven)
+                ));
+                posts.add(CurationPost.from(
+                        new PostCreateVo.Curation(user, "쇼팽 큐레이션 " + i, "내용", PostStatus.PUBLISHED,
+                                List.of(), null, List.of(), chopin, List.of(beethoven))
+                ));
+            }
+            posts.add(StoryPost.from(
+                    new PostCreateVo.Story(user, "쇼팽 스토리", "내용", PostStatus.PUBLISHED,
+                            List.of(), null, List.of(), chopin)
+            ));
+            postRepository.saveAll(posts);
+
+            List<PostResponseDto> collected = new ArrayList<>();
+            String cursor = null;
+
+            // when
+            do {
+                ComposerWithPostsResponseDto response = postQueryService.getComposerWithPosts(
+                        beethoven.getId(), new PageRequestDto(cursor, 4), null);
+                collected.addAll(response.posts().getContent());
+                cursor = response.posts().getNextCursor();
+            } while (cursor != null);
+
+            // then
+            assertThat(collected).hasSize(6);
+            assertThat(collected).extracting(PostResponseDto::id).doesNotHaveDuplicates();
+            assertThat(collected).extracting(PostResponseDto::title).doesNotContain("쇼팽 스토리");
+            assertThat(collected).extracting(PostResponseDto::createdAt)
+                    .isSortedAccordingTo(java.util.Comparator.reverseOrder());
+        }
+    }
+
+    @Nested
+    @DisplayName("목록 조회 쿼리 수 테스트")
+    class ListQueryCountTest {
+
+        @Test
+        @DisplayName("로그인 유저의 목록 조회는 게시물 수와 관계없이 좋아요/스크랩 여부를 한 번에 조회한다")
+        void listQueries_WithLoginUser_ResolveViewerStateInOneQuery() {
+            // given
+            FreePost likedPost = freePosts.get(24);
+            FreePost scrappedPost = freePosts.get(23);
+            postLikeRepository.save(PostLike.of(likedPost, otherUser));
+            postScrapRepository.save(PostScrap.of(scrappedPost, otherUser));
+            PageRequestDto pageRequest = new PageRequestDto(null, 10);
+
+            List<Supplier<PageResponseDto<PostResponseDto>>> listQueries = List.of(
+                    () -> postQueryService.getAllPublishedFreePosts(pageRequest, otherUser),
+                    () -> postQueryService.getAllPublishedStoryPosts(pageRequest, otherUser),
+                    () -> postQueryService.getAllPublishedCurationPosts(pageRequest, otherUser, null, null),
+                    () -> postQueryService.getRecentPosts(pageRequest, otherUser),
+                    () -> postQueryService.getUserPublishedPosts(user.getId(), pageRequest, otherUser),
+                    () -> postQueryService.getUserDraftPosts(user.getId(), pageRequest, otherUser),
+                    () -> postQueryService.getUserScrappedPosts(otherUser.getId(), pageRequest, otherUser)
+            );
+
+            // when & then
+            for (Supplier<PageResponseDto<PostResponseDto>> listQuery : listQueries) {
+                QueryCounter counter = QueryCounter.start(entityManagerFactory);
+                listQuery.get();
+                // 게시물 페이지 조회 1번 + 큐레이션 추가 작곡가 조회 최대 1번 + 좋아요/스크랩 여부 조회 1번
+                assertThat(counter.stop().statementCount()).isLessThanOrEqualTo(3);
+            }
+
+            PageResponseDto<PostResponseDto> response = postQueryService.getAllPublishedFreePosts(pageRequest, otherUser);
+            assertThat(response.getContent())
+                    .filteredOn(dto -> dto.id().equals(likedPost.getId()))
+                    .singleElement()
+                    .satisfies(dto -> {
+                        assertThat(dto.isLiked()).isTrue();
+                        assertThat(dto.isScrapped()).isFalse();
+                    });
+            assertThat(response.getContent())
+                    .filteredOn(dto -> dto.id().equals(scrappedPost.getId()))
+                    .singleElement()
+                    .satisfies(dto -> {
+                        assertThat(dto.isLiked()).isFalse();
+                        assertThat(dto.isScrapped()).isTrue();
+                    });
+        }
+
+        @Test
+        @DisplayName("목록 조회는 Post 엔티티를 로딩하지 않고 미리보기 길이로 잘린 본문을 반환한다")
+        void listQueries_DoNotHydrateEntities() {
+            // given
+            String longContent = "가".repeat(PostSummaryDto.CONTENT_PREVIEW_LENGTH + 100);
+            FreePost longPost = postRepository.save(FreePost.from(
+                    new PostCreateVo.Free(user, "긴 게시물", longContent, PostStatus.PUBLISHED,
+                            List.of("https://image.url/1", "https://image.url/2"), null, List.of("해시태그"))
+            ));
+            PageRequestDto pageRequest = new PageRequestDto(null, 10);
+
+            QueryCounter counter = QueryCounter.start(entityManagerFactory);
+
+            // when
+            PageResponseDto<PostResponseDto> response = postQueryService.getAllPublishedFreePosts(pageRequest, otherUser);
+            long entityLoadCount = counter.stop().entityLoadCount();
+
+            // then
+            assertThat(entityLoadCount).isZero();
+            assertThat(response.getContent())
+                    .filteredOn(dto -> dto.id().equals(longPost.getId()))
+                    .singleElement()
+                    .satisfies(dto -> {
+                        assertThat(dto.content()).hasSize(PostSummaryDto.CONTENT_PREVIEW_LENGTH);
+                        assertThat(dto.thumbnailImageUrl()).isEqualTo("https://image.url/1");
+                        assertThat(dto.hashtags()).containsExactly("해시태그");
+                        assertThat(dto.writerNickname()).isEqualTo(user.getNickname());
+                        assertThat(dto.type()).isEqualTo(PostType.FREE);
+                    });
+        }
     }
 
     @Nested
@@ -1434,6 +1656,67 @@ public class PostQueryServiceTest extends ServiceTestSupport {
             assertThat(response.getContent().getFirst().isScrapped()).isFalse();
         }
 
+        @Test
+        @DisplayName("타입이 섞인 최근 게시물도 커서로 이어서 조회하면 누락이나 중복 없이 최신순으로 반환된다")
+        void getRecentPosts_CursorPagingAcrossTypes() {
+            // given
+            StoryPost storyPost = StoryPost.from(
+                    new PostCreateVo.Story(user, "스토리 게시물", "내용", PostStatus.PUBLISHED,
+                            List.of(), null, List.of(), composer)
+            );
+            CurationPost curationPost = CurationPost.from(
+                    new PostCreateVo.Curation(user, "큐레이션 게시물", "내용", PostStatus.PUBLISHED,
+                            List.of(), null, List.of(), composer, List.of())
+            );
+            postRepository.saveAll(List.of(storyPost, curationPost));
+
+            List<PostResponseDto> collected = new ArrayList<>();
+            String cursor = null;
+
+            // when
+            do {
+                PageResponseDto<PostResponseDto> page =
+                        postQueryService.getRecentPosts(new PageRequestDto(cursor, 4), null);
+                collected.addAll(page.getContent());
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+
+            // then
+            assertThat(collected).hasSize(freePosts.size() + 2);
+            assertThat(collected).extracting(PostResponseDto::id).doesNotHaveDuplicates();
+            assertThat(collected).extracting(PostResponseDto::createdAt)
+                    .isSortedAccordingTo(java.util.Comparator.reverseOrder());
+        }
+
+        @Test
+        @DisplayName("7일 이내 게시물이 늘어나도 한 페이지 조회 시 읽는 행 수는 일정하다")
+        void getRecentPosts_LoadsOnlyOnePageRegardlessOfWindowSize() {
+            // given
+            PageRequestDto pageRequest = new PageRequestDto(null, 5);
+
+            QueryCounter smallWindowCounter = QueryCounter.start(entityManagerFactory);
+            postQueryService.getRecentPosts(pageRequest, null);
+            long smallWindowRowCount = smallWindowCounter.stop().fetchedRowCount();
+
+            List<FreePost> morePosts = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                morePosts.add(FreePost.from(
+                        new PostCreateVo.Free(user, "추가 게시물 " + i, "내용", PostStatus.PUBLISHED,
+                                List.of(), null, List.of())
+                ));
+            }
+            postRepository.saveAll(morePosts);
+
+            // when
+            QueryCounter largeWindowCounter = QueryCounter.start(entityManagerFactory);
+            PageResponseDto<PostResponseDto> response = postQueryService.getRecentPosts(pageRequest, null);
+            long largeWindowRowCount = largeWindowCounter.stop().fetchedRowCount();
+
+            // then
+            assertThat(response.getContent()).hasSize(5);
+            assertThat(largeWindowRowCount).isEqualTo(smallWindowRowCount);
+        }
+
         @Test
         @DisplayName("비로그인 유저의 경우 isLiked, isScrapped가 null이다")
         void getRecentPosts_WithoutLoginUser_IsLikedAndIsScrappedAreNull() {
@@ -1,5 +1,6 @@
 package com.daramg.server.post.application;
 
+import com.daramg.server.common.application.LikeToggler;
 import com.daramg.server.common.exception.NotFoundException;
 import com.daramg.server.composer.domain.Composer;
 import com.daramg.server.composer.domain.Continent;
@@ -15,6 +16,7 @@ import com.daramg.server.post.dto.PostCreateDto;
 import com.daramg.server.post.dto.PostLikeResponseDto;
 import com.daramg.server.post.dto.PostScrapResponseDto;
 import com.daramg.server.post.dto.PostUpdateDto;
+import com.daramg.server.post.repository.PostLikeRepository;
 import com.daramg.server.post.repository.PostRepository;
 import com.daramg.server.post.repository.PostScrapRepository;
 import com.daramg.server.user.domain.User;
@@ -25,13 +27,23 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.willThrow;
 
 public class PostServiceTest extends ServiceTestSupport {
 
@@ -50,6 +62,12 @@ public class PostServiceTest extends ServiceTestSupport {
     @Autowired
     private PostScrapRepository postScrapRepository;
 
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @MockitoSpyBean
+    private LikeToggler likeToggler;
+
     private User user;
     private Composer composer;
 
@@ -506,6 +524,36 @@ public class PostServiceTest extends ServiceTestSupport {
             assertThat(updatedPost.getLikeCount()).isEqualTo(2);
         }
 
+        @Test
+        void 다른_사용자와의_데드락으로_롤백된_좋아요는_새_트랜잭션에서_다시_반영된다() {
+            //given
+            PostCreateDto.CreateFree createDto = new PostCreateDto.CreateFree(
+                    "데드락 테스트 제목", "데드락 테스트 내용", PostStatus.PUBLISHED,
+                    List.of("image"), "video", List.of("#deadlock")
+            );
+            postService.createFree(createDto, user);
+            Long postId = postRepository.findAll().getFirst().getId();
+
+            User anotherUser = new User("deadlock@email.com", "password", "another name",
+                    LocalDate.now(), "profile", "데드락햄", "bio", null);
+            userRepository.save(anotherUser);
+            postService.toggleLike(postId, user);
+
+            // 같은 갭 락을 잡은 user 와의 데드락으로 anotherUser 의 첫 INSERT 가 롤백됨
+            willThrow(new CannotAcquireLockException("Deadlock found when trying to get lock"))
+                    .willCallRealMethod()
+                    .given(likeToggler).toggle(LikeToggler.Target.POST_LIKE, postId, anotherUser.getId());
+
+            //when
+            PostLikeResponseDto response = postService.toggleLike(postId, anotherUser);
+
+            //then
+            assertThat(response.isLiked()).isTrue();
+            assertThat(response.getLikeCount()).isEqualTo(2);
+            assertThat(postLikeRepository.count()).isEqualTo(2);
+            assertThat(postRepository.findById(postId).orElseThrow().getLikeCount()).isEqualTo(2);
+        }
+
         @Test
         void 존재하지_않는_포스트에_좋아요를_누르면_에러가_발생한다() {
             //given
@@ -515,6 +563,85 @@ public class PostServiceTest extends ServiceTestSupport {
             assertThatThrownBy(() -> postService.toggleLike(nonExistentPostId, user))
                     .isInstanceOf(NotFoundException.class);
         }
+
+        @Test
+        void 동시에_200명이_좋아요를_토글해도_좋아요_수가_유실되지_않는다() throws Exception {
+            //given
+            PostCreateDto.CreateFree createDto = new PostCreateDto.CreateFree(
+                    "동시 좋아요 테스트 제목", "동시 좋아요 테스트 내용", PostStatus.PUBLISHED,
+                    List.of(), null, List.of()
+            );
+            postService.createFree(createDto, user);
+            Long postId = postRepository.findAll().getFirst().getId();
+
+            int togglerCount = 200;
+            List<User> togglers = new ArrayList<>();
+            for (int i = 0; i < togglerCount; i++) {
+                togglers.add(new User("liker" + i + "@email.com", "password", "liker" + i,
+                        LocalDate.now(), "profile", "좋아요" + i, "bio", null));
+            }
+            userRepository.saveAll(togglers);
+
+            //when
+            List<Throwable> likeFailures = toggleLikeConcurrently(postId, togglers);
+            int likeCountAfterLike = postRepository.findById(postId).orElseThrow().getLikeCount();
+            List<Throwable> unlikeFailures = toggleLikeConcurrently(postId, togglers);
+            int likeCountAfterUnlike = postRepository.findById(postId).orElseThrow().getLikeCount();
+
+            //then
+            assertThat(likeFailures).isEmpty();
+            assertThat(unlikeFailures).isEmpty();
+            assertThat(likeCountAfterLike).isEqualTo(togglerCount);
+            assertThat(likeCountAfterUnlike).isZero();
+            assertThat(postLikeRepository.count()).isZero();
+        }
+
+        @Test
+        void 같은_사용자가_좋아요를_연타해도_예외없이_좋아요_수와_실제_좋아요가_일치한다() throws Exception {
+            //given
+            PostCreateDto.CreateFree createDto = new PostCreateDto.CreateFree(
+                    "연타 테스트 제목", "연타 테스트 내용", PostStatus.PUBLISHED,
+                    List.of(), null, List.of()
+            );
+            postService.createFree(createDto, user);
+            Long postId = postRepository.findAll().getFirst().getId();
+
+            User tapper = new User("tapper@email.com", "password", "tapper",
+                    LocalDate.now(), "profile", "연타", "bio", null);
+            userRepository.save(tapper);
+
+            //when
+            List<Throwable> failures = toggleLikeConcurrently(postId, Collections.nCopies(10, tapper));
+
+            //then
+            assertThat(failures).isEmpty();
+            int likeCount = postRepository.findById(postId).orElseThrow().getLikeCount();
+            assertThat(likeCount).isBetween(0, 1);
+            assertThat(postLikeRepository.count()).isEqualTo(likeCount);
+        }
+
+        private List<Throwable> toggleLikeConcurrently(Long postId, List<User> togglers) throws InterruptedException {
+            ExecutorService executor = Executors.newFixedThreadPool(32);
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(togglers.size());
+            List<Throwable> failures = new CopyOnWriteArrayList<>();
+            for (User toggler : togglers) {
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        postService.toggleLike(postId, toggler);
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            start.countDown();
+            assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+            executor.shutdown();
+            return failures;
+        }
     }
 
     @Nested
@@ -0,0 +1,61 @@
+package com.daramg.server.post.application;
+
+import com.daramg.server.post.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostViewCountServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private PostViewCountService postViewCountService;
+
+    @Test
+    @DisplayName("커밋에 실패하면 꺼낸 조회수를 되돌려 다음 반영 때 함께 반영한다")
+    void flush_RestoresCountsWhenCommitFails() {
+        // given
+        postViewCountService.increaseViewCount(1L);
+        postViewCountService.increaseViewCount(1L);
+        willThrow(new TransactionSystemException("commit failed"))
+                .given(transactionTemplate).executeWithoutResult(any());
+        assertThatThrownBy(() -> postViewCountService.flush()).isInstanceOf(TransactionSystemException.class);
+
+        postViewCountService.increaseViewCount(1L);
+        willAnswer(invocation -> {
+            Consumer<TransactionStatus> callback = invocation.getArgument(0);
+            callback.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+
+        // when
+        int flushedPostCount = postViewCountService.flush();
+
+        // then
+        assertThat(flushedPostCount).isEqualTo(1);
+        verify(postRepository).increaseViewCounts(List.of(1L), 3);
+        assertThat(postViewCountService.flush()).isZero();
+    }
+}
@@ -26,6 +26,8 @@ import static com.epages.restdocs.apispec.ResourceDocumentation.parameterWithNam
 import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
@@ -370,7 +372,7 @@ public class PostQueryControllerTest extends ControllerTestSupport {
                 true
         );
 
-        when(postQueryService.getUserPublishedPosts(eq(userId), any(PageRequestDto.class))).thenReturn(response);
+        when(postQueryService.getUserPublishedPosts(eq(userId), any(PageRequestDto.class), any())).thenReturn(response);
 
         // when
         ResultActions result = mockMvc.perform(get("/posts/{userId}/published", userId)
@@ -470,7 +472,7 @@ public class PostQueryControllerTest extends ControllerTestSupport {
                 true
         );
 
-        when(postQueryService.getUserDraftPosts(eq(userId), any(PageRequestDto.class))).thenReturn(response);
+        when(postQueryService.getUserDraftPosts(eq(userId), any(PageRequestDto.class), any())).thenReturn(response);
 
         // when
         ResultActions result = mockMvc.perform(get("/posts/{userId}/drafts", userId)
@@ -570,7 +572,7 @@ public class PostQueryControllerTest extends ControllerTestSupport {
                 false
         );
 
-        when(postQueryService.getUserScrappedPosts(eq(userId), any(PageRequestDto.class))).thenReturn(response);
+        when(postQueryService.getUserScrappedPosts(eq(userId), any(PageRequestDto.class), any())).thenReturn(response);
 
         // when
         ResultActions result = mockMvc.perform(get("/posts/{userId}/scraps", userId)
@@ -655,7 +657,9 @@ public class PostQueryControllerTest extends ControllerTestSupport {
                 false,
                 false,
                 null,
-                List.of(childComment)
+                List.of(childComment),
+                false,
+                null
         );
         PostDetailResponse postResponse = new PostDetailResponse(
                 postId,
@@ -678,7 +682,9 @@ public class PostQueryControllerTest extends ControllerTestSupport {
                 null,
                 null,
                 null,
-                List.of(parentComment)
+                List.of(parentComment),
+                true,
+                "MjAyNC0wMS0xNVQxMDozMTowMFpfMQ=="
         );
 
         when(postQueryService.getPostById(eq(postId), any())).thenReturn(postResponse);
@@ -725,19 +731,23 @@ public class PostQueryControllerTest extends ControllerTestSupport {
                                         fieldWithPath("additionalComposers[].englishName").type(JsonFieldType.STRING).description("추가 작곡가 영어 이름").optional(),
                                         fieldWithPath("isLiked").type(JsonFieldType.BOOLEAN).description("로그인한 유저의 좋아요 여부 (비로그인 시 null)").optional(),
                                         fieldWithPath("isScrapped").type(JsonFieldType.BOOLEAN).description("로그인한 유저의 스크랩 여부 (비로그인 시 null)").optional(),
-                                        fieldWithPath("comments").type(JsonFieldType.ARRAY).description("댓글 목록 (부모 댓글 기준)"),
+                                        fieldWithPath("comments").type(JsonFieldType.ARRAY).description("댓글 첫 페이지 (부모 댓글 기준, 오래된 순)"),
+                                        fieldWithPath("hasNextComments").type(JsonFieldType.BOOLEAN).description("다음 댓글 페이지 존재 여부"),
+                                        fieldWithPath("nextCommentCursor").type(JsonFieldType.STRING).description("댓글 목록 API 의 다음 페이지 커서. 마지막 페이지인 경우 null").optional(),
                                         fieldWithPath("comments[].id").type(JsonFieldType.NUMBER).description("댓글 ID"),
                                         fieldWithPath("comments[].content").type(JsonFieldType.STRING).description("댓글 내용"),
                                         fieldWithPath("comments[].isDeleted").type(JsonFieldType.BOOLEAN).description("댓글 삭제 여부"),
                                         fieldWithPath("comments[].likeCount").type(JsonFieldType.NUMBER).description("댓글 좋아요 개수"),
-                                        fieldWithPath("comments[].childCommentCount").type(JsonFieldType.NUMBER).description("대댓글 개수"),
+                                        fieldWithPath("comments[].childCommentCount").type(JsonFieldType.NUMBER).description("대댓글 목록 API 가 돌려주는 전체 대댓글 개수 (삭제된 대댓글 포함, 차단된 대댓글 제외)"),
                                         fieldWithPath("comments[].createdAt").type(JsonFieldType.STRING).description("댓글 작성 시각"),
                                         fieldWithPath("comments[].writerNickname").type(JsonFieldType.STRING).description("댓글 작성자 닉네임"),
                                         fieldWithPath("comments[].writerProfileImage").type(JsonFieldType.STRING).description("댓글 작성자 프로필 이미지 URL").optional(),
                                         fieldWithPath("comments[].isLiked").type(JsonFieldType.BOOLEAN).description("현재 로그인 유저의 댓글 좋아요 여부 (비로그인 시 null)").optional(),
                                         fieldWithPath("comments[].isAi").type(JsonFieldType.BOOLEAN).description("AI 댓글 여부"),
                                         fieldWithPath("comments[].composerName").type(JsonFieldType.STRING).description("AI 댓글인 경우 작곡가 이름 (일반 댓글이면 null)").optional(),
-                                        fieldWithPath("comments[].childComments").type(JsonFieldType.ARRAY).description("대댓글 목록"),
+                                        fieldWithPath("comments[].childComments").type(JsonFieldType.ARRAY).description("앞쪽 대댓글 목록 (최대 3개)"),
+                                        fieldWithPath("comments[].hasMoreReplies").type(JsonFieldType.BOOLEAN).description("미리보기 이후 대댓글 존재 여부"),
+                                        fieldWithPath("comments[].nextReplyCursor").type(JsonFieldType.STRING).description("대댓글 목록 API 의 다음 페이지 커서. 더 없으면 null").optional(),
                                         fieldWithPath("comments[].childComments[].id").type(JsonFieldType.NUMBER).description("대댓글 ID"),
                                         fieldWithPath("comments[].childComments[].content").type(JsonFieldType.STRING).description("대댓글 내용"),
                                         fieldWithPath("comments[].childComments[].isDeleted").type(JsonFieldType.BOOLEAN).description("대댓글 삭제 여부"),
@@ -832,5 +842,50 @@ public class PostQueryControllerTest extends ControllerTestSupport {
                         )
                 ));
     }
-}
 
+    @Test
+    void 최대값을_넘는_페이지_크기는_최대값으로_제한된다() throws Exception {
+        // given
+        when(postQueryService.getAllPublishedFreePosts(any(PageRequestDto.class), any()))
+                .thenReturn(new PageResponseDto<>(List.of(), null, false));
+
+        // when
+        ResultActions result = mockMvc.perform(get("/posts/free")
+                .param("size", "100000")
+                .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        result.andExpect(status().isOk());
+        verify(postQueryService).getAllPublishedFreePosts(argThat(request -> request.getSize() == 50), any());
+    }
+
+    @Test
+    void 페이지_크기를_생략하면_기본값이_명시되어_전달된다() throws Exception {
+        // given
+        when(postQueryService.getAllPublishedFreePosts(any(PageRequestDto.class), any()))
+                .thenReturn(new PageResponseDto<>(List.of(), null, false));
+
+        // when
+        ResultActions result = mockMvc.perform(get("/posts/free")
+                .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        result.andExpect(status().isOk());
+        verify(postQueryService).getAllPublishedFreePosts(
+                argThat(request -> request.getCursor() == null && request.getSize() == 10), any());
+    }
+
+    @Test
+    void 숫자가_아닌_페이지_크기는_400을_반환한다() throws Exception {
+        // when
+        ResultActions result = mockMvc.perform(get("/posts/free")
+                .param("size", "abc")
+                .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        result.andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,146 @@
+package com.daramg.server.post.repository;
+
+import com.daramg.server.comment.repository.CommentQueryRepository;
+import com.daramg.server.common.dto.PageRequestDto;
+import com.daramg.server.testsupport.support.ServiceTestSupport;
+import com.daramg.server.testsupport.util.SqlCaptureInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커서 페이징 피드 쿼리마다 실제 생성된 SQL 에 EXPLAIN 을 실행해 피드 인덱스를 타는지 검증한다.
+ * <p>
+ * H2 는 정렬 컬럼으로 시작하는 인덱스만 "index sorted" 로 표시하므로 filesort 여부 대신
+ * 대상 테이블이 풀스캔 없이 지정한 인덱스로 조회되는지를 확인한다.
+ * 동등 조건 뒤에 (created_at, id) 를 둔 인덱스는 MySQL 에서 정렬 없이 읽힌다.
+ */
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.daramg.server.testsupport.util.SqlCaptureInspector")
+public class FeedQueryPlanTest extends ServiceTestSupport {
+
+    private static final PageRequestDto FIRST_PAGE = new PageRequestDto(null, 20);
+
+    @Autowired
+    private PostQueryRepository postQueryRepository;
+
+    @Autowired
+    private CommentQueryRepository commentQueryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        SqlCaptureInspector.clear();
+    }
+
+    @Test
+    @DisplayName("자유 게시판 피드는 타입 피드 인덱스로 조회한다")
+    void freeFeed_UsesTypeFeedIndex() {
+        postQueryRepository.getAllFreePostsWithPaging(FIRST_PAGE);
+
+        assertFeedPlanUses("idx_posts_type_feed");
+    }
+
+    @Test
+    @DisplayName("큐레이션 피드는 타입 피드 인덱스로 조회한다")
+    void curationFeed_UsesTypeFeedIndex() {
+        postQueryRepository.getAllCurationPostsWithPaging(FIRST_PAGE, null, null);
+
+        assertFeedPlanUses("idx_posts_type_feed");
+    }
+
+    @Test
+    @DisplayName("스토리 피드는 타입 피드 인덱스로 조회한다")
+    void storyFeed_UsesTypeFeedIndex() {
+        postQueryRepository.getAllStoryPostsWithPaging(FIRST_PAGE);
+
+        assertFeedPlanUses("idx_posts_type_feed");
+    }
+
+    @Test
+    @DisplayName("사용자 발행글 피드는 사용자 피드 인덱스로 조회한다")
+    void userPublishedFeed_UsesUserFeedIndex() {
+        postQueryRepository.getUserPublishedPostsWithPaging(1L, FIRST_PAGE);
+
+        assertFeedPlanUses("idx_posts_user_feed");
+    }
+
+    @Test
+    @DisplayName("사용자 임시저장글 피드는 사용자 피드 인덱스로 조회한다")
+    void userDraftFeed_UsesUserFeedIndex() {
+        postQueryRepository.getUserDraftPostsWithPaging(1L, FIRST_PAGE);
+
+        assertFeedPlanUses("idx_posts_user_feed");
+    }
+
+    @Test
+    @DisplayName("최근 7일 통합 피드는 최근 피드 인덱스로 조회한다")
+    void recentFeed_UsesRecentFeedIndex() {
+        postQueryRepository.getRecentPostsWithPaging(FIRST_PAGE);
+
+        assertFeedPlanUses("idx_posts_recent_feed");
+    }
+
+    @Test
+    @DisplayName("작곡가 피드는 composer_posts 피드 인덱스로 조회한다")
+    void composerFeed_UsesComposerPostsFeedIndex() {
+        postQueryRepository.getPostsByComposerIdWithPaging(1L, FIRST_PAGE);
+
+        assertFeedPlanUses("idx_composer_posts_feed");
+    }
+
+    @Test
+    @DisplayName("게시물 댓글 목록은 댓글 스레드 인덱스로 조회한다")
+    void commentThread_UsesCommentThreadIndex() {
+        commentQueryRepository.getParentCommentsWithPaging(1L, FIRST_PAGE);
+
+        assertFeedPlanUses("idx_comments_post_thread");
+    }
+
+    @Test
+    @DisplayName("대댓글 목록은 대댓글 스레드 인덱스로 조회한다")
+    void replyThread_UsesReplyThreadIndex() {
+        commentQueryRepository.getRepliesWithPaging(1L, FIRST_PAGE);
+
+        assertFeedPlanUses("idx_comments_reply_thread");
+    }
+
+    private void assertFeedPlanUses(String indexName) {
+        String feedSql = SqlCaptureInspector.captured().stream()
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).contains("order by"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("ORDER BY 가 포함된 피드 쿼리가 실행되지 않았습니다."));
+
+        String plan = explain(feedSql).toLowerCase(Locale.ROOT);
+
+        assertThat(plan).contains(indexName);
+        assertThat(plan).doesNotContain("tablescan");
+    }
+
+    /**
+     * EXPLAIN 은 쿼리를 실행하지 않으므로 바인딩 값은 모두 null 로 채운다.
+     */
+    private String explain(String sql) {
+        List<String> rows = jdbcTemplate.query(
+                "EXPLAIN " + sql,
+                ps -> {
+                    int parameterCount = ps.getParameterMetaData().getParameterCount();
+                    for (int i = 1; i <= parameterCount; i++) {
+                        ps.setObject(i, null);
+                    }
+                },
+                (rs, rowNum) -> rs.getString(1)
+        );
+        return String.join("\n", rows);
+    }
+}
@@ -8,6 +8,8 @@ import com.daramg.server.auth.util.JwtUtil;
 import com.daramg.server.common.config.ErrorCodeRegistryConfig;
 import com.daramg.server.common.exception.ErrorCodeRegistry;
 import com.daramg.server.common.exception.GlobalExceptionHandler;
+import com.daramg.server.common.util.ConnectionPoolUsage;
+import com.daramg.server.common.util.PageSizePolicy;
 import com.daramg.server.common.validation.BadWordFilter;
 import com.daramg.server.testsupport.config.RestDocsConfig;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -40,7 +42,8 @@ import static org.springframework.security.test.web.servlet.setup.SecurityMockMv
 @ExtendWith(RestDocumentationExtension.class)
 @Import({SecurityConfig.class, CorsProperties.class, RestDocsConfig.class,
         ErrorCodeRegistry.class, ErrorCodeRegistryConfig.class,
-        GlobalExceptionHandler.class, BadWordFilter.class})
+        GlobalExceptionHandler.class, BadWordFilter.class,
+        PageSizePolicy.class, ConnectionPoolUsage.class})
 @TestPropertySource(properties = {
         "cors.allowed-origins=http://localhost:3000,https://client-git-main-classicdaramgs-projects.vercel.app",
         "cookie.access-name=access_token"
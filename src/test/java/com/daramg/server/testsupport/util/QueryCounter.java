@@ -0,0 +1,59 @@
+package com.daramg.server.testsupport.util;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Hibernate 통계로 구간 안에서 실행된 SQL 문 수와 엔티티 로딩 수를 센다.
+ * {@link #start} 로 통계를 초기화해 켜고, {@link #stop} 으로 측정값을 받은 뒤 끈다.
+ */
+public class QueryCounter {
+
+    private final Statistics statistics;
+
+    private QueryCounter(Statistics statistics) {
+        this.statistics = statistics;
+    }
+
+    public static QueryCounter start(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return new QueryCounter(statistics);
+    }
+
+    public Counts stop() {
+        Counts counts = new Counts(
+                statistics.getPrepareStatementCount(),
+                statistics.getEntityLoadCount(),
+                Arrays.stream(statistics.getQueries())
+                        .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionRowCount())
+                        .sum(),
+                Arrays.stream(statistics.getEntityNames())
+                        .collect(Collectors.toMap(Function.identity(),
+                                name -> statistics.getEntityStatistics(name).getLoadCount()))
+        );
+        statistics.setStatisticsEnabled(false);
+        return counts;
+    }
+
+    /**
+     * @param statementCount   준비된 SQL 문 수
+     * @param entityLoadCount  로딩된 엔티티 수
+     * @param fetchedRowCount  HQL/JPQL 쿼리가 읽은 행 수
+     * @param entityLoadCounts 엔티티 이름별 로딩 수
+     */
+    public record Counts(long statementCount, long entityLoadCount, long fetchedRowCount,
+                         Map<String, Long> entityLoadCounts) {
+
+        public long loadCount(Class<?> entityClass) {
+            return entityLoadCounts.getOrDefault(entityClass.getName(), 0L);
+        }
+    }
+}
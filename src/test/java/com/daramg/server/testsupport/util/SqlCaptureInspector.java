@@ -0,0 +1,29 @@
+package com.daramg.server.testsupport.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 그대로 기록한다.
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector} 로 등록해 사용한다.
+ */
+public class SqlCaptureInspector implements StatementInspector {
+
+    private static final List<String> CAPTURED = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        CAPTURED.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        CAPTURED.clear();
+    }
+
+    public static List<String> captured() {
+        return List.copyOf(CAPTURED);
+    }
+}
@@ -0,0 +1,196 @@
+package com.daramg.server.user.application;
+
+import com.daramg.server.comment.application.CommentService;
+import com.daramg.server.comment.domain.Comment;
+import com.daramg.server.comment.domain.CommentLike;
+import com.daramg.server.comment.repository.CommentLikeRepository;
+import com.daramg.server.comment.repository.CommentRepository;
+import com.daramg.server.post.domain.FreePost;
+import com.daramg.server.post.domain.Post;
+import com.daramg.server.post.domain.PostLike;
+import com.daramg.server.post.domain.PostScrap;
+import com.daramg.server.post.domain.PostStatus;
+import com.daramg.server.post.domain.vo.PostCreateVo;
+import com.daramg.server.post.repository.PostLikeRepository;
+import com.daramg.server.post.repository.PostRepository;
+import com.daramg.server.post.repository.PostScrapRepository;
+import com.daramg.server.testsupport.support.ServiceTestSupport;
+import com.daramg.server.user.domain.User;
+import com.daramg.server.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UserActivityExportServiceTest extends ServiceTestSupport {
+
+    @Autowired
+    private UserActivityExportService userActivityExportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private PostScrapRepository postScrapRepository;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User user;
+    private User other;
+
+    @BeforeEach
+    void setUp() {
+        user = new User("email@test.com", "password", "name", LocalDate.now(), null, "내보내기", null, null);
+        other = new User("other@test.com", "password", "other", LocalDate.now(), null, "다른유저", null, null);
+        userRepository.saveAll(List.of(user, other));
+    }
+
+    private Post savePost(User writer, String title) {
+        return postRepository.save(FreePost.from(
+                new PostCreateVo.Free(writer, title, "내용", PostStatus.PUBLISHED, List.of(), null, List.of("#해시태그"))
+        ));
+    }
+
+    private List<JsonNode> export(Long userId) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        userActivityExportService.export(userId, out);
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isBlank()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+
+    private long countType(List<JsonNode> lines, String type) {
+        return lines.stream().filter(line -> line.get("type").asText().equals(type)).count();
+    }
+
+    @Nested
+    @DisplayName("활동 내역 내보내기")
+    class ExportTest {
+
+        @Test
+        @DisplayName("페이지 크기보다 많은 게시물도 빠짐없이 id 순으로 한 줄씩 내보낸다")
+        void export_PagesThroughAllPosts() throws Exception {
+            // given
+            int postCount = UserActivityExportService.PAGE_SIZE * 2 + 5;
+            List<Post> posts = new ArrayList<>();
+            for (int i = 0; i < postCount; i++) {
+                posts.add(FreePost.from(
+                        new PostCreateVo.Free(user, "제목" + i, "내용", PostStatus.PUBLISHED, List.of(), null, List.of())
+                ));
+            }
+            postRepository.saveAll(posts);
+            savePost(other, "다른 유저 글");
+
+            // when
+            List<JsonNode> lines = export(user.getId());
+
+            // then
+            assertThat(lines).hasSize(postCount);
+            assertThat(lines).extracting(line -> line.get("data").get("id").asLong())
+                    .isSorted()
+                    .doesNotHaveDuplicates();
+            assertThat(lines.getFirst().get("data").get("title").asText()).isEqualTo("제목0");
+        }
+
+        @Test
+        @DisplayName("본인의 게시물, 댓글, 스크랩, 좋아요만 항목 타입별로 내보낸다")
+        void export_WritesEachSection() throws Exception {
+            // given
+            Post myPost = savePost(user, "내 글");
+            Post otherPost = savePost(other, "다른 유저 글");
+            Comment otherComment = commentRepository.save(Comment.of(otherPost, other, "다른 유저 댓글", null));
+            commentRepository.save(Comment.of(otherPost, user, "내 대댓글", otherComment));
+            commentRepository.save(Comment.of(myPost, other, "내 글에 달린 댓글", null));
+            postScrapRepository.save(PostScrap.of(otherPost, user));
+            postLikeRepository.save(PostLike.of(otherPost, user));
+            postLikeRepository.save(PostLike.of(myPost, other));
+            commentLikeRepository.save(CommentLike.of(otherComment, user));
+
+            // when
+            List<JsonNode> lines = export(user.getId());
+
+            // then
+            assertThat(lines).extracting(line -> line.get("type").asText())
+                    .containsExactly("POST", "COMMENT", "POST_SCRAP", "POST_LIKE", "COMMENT_LIKE");
+            assertThat(countType(lines, "POST")).isEqualTo(1);
+            JsonNode reply = lines.get(1).get("data");
+            assertThat(reply.get("content").asText()).isEqualTo("내 대댓글");
+            assertThat(reply.get("parentCommentId").asLong()).isEqualTo(otherComment.getId());
+            assertThat(lines.get(2).get("data").get("postTitle").asText()).isEqualTo("다른 유저 글");
+            assertThat(lines.get(4).get("data").get("commentId").asLong()).isEqualTo(otherComment.getId());
+        }
+
+        @Test
+        @DisplayName("응답 스트림을 닫지 않고 한 줄에 JSON 하나씩 구분자 없이 쓴다")
+        void export_WritesNewlineDelimitedJsonWithoutClosingStream() throws Exception {
+            // given
+            savePost(user, "첫 글");
+            savePost(user, "둘째 글");
+            AtomicBoolean closed = new AtomicBoolean();
+            ByteArrayOutputStream out = new ByteArrayOutputStream() {
+                @Override
+                public void close() {
+                    closed.set(true);
+                }
+            };
+
+            // when
+            userActivityExportService.export(user.getId(), out);
+
+            // then
+            String body = out.toString(StandardCharsets.UTF_8);
+            assertThat(closed).isFalse();
+            assertThat(body).endsWith("\n");
+            assertThat(body.split("\n")).hasSize(2).allSatisfy(line -> assertThat(line).startsWith("{"));
+        }
+
+        @Test
+        @DisplayName("삭제된 게시물과 댓글은 내보내지 않는다")
+        void export_SkipsDeletedContent() throws Exception {
+            // given
+            Post deletedPost = savePost(user, "삭제할 글");
+            Comment deletedComment = commentRepository.save(Comment.of(deletedPost, user, "삭제할 댓글", null));
+            commentService.deleteComment(deletedComment.getId(), user);
+            deletedPost.softDelete();
+            postRepository.save(deletedPost);
+
+            // when
+            List<JsonNode> lines = export(user.getId());
+
+            // then
+            assertThat(lines).isEmpty();
+        }
+    }
+}
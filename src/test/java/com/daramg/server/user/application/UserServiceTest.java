@@ -2,6 +2,12 @@ package com.daramg.server.user.application;
 
 import com.daramg.server.common.exception.BusinessException;
 import com.daramg.server.common.exception.NotFoundException;
+import com.daramg.server.post.application.PostQueryService;
+import com.daramg.server.post.domain.FreePost;
+import com.daramg.server.post.domain.Post;
+import com.daramg.server.post.domain.PostStatus;
+import com.daramg.server.post.domain.vo.PostCreateVo;
+import com.daramg.server.post.repository.PostRepository;
 import com.daramg.server.user.domain.User;
 import com.daramg.server.user.dto.EmailChangeRequestDto;
 import com.daramg.server.user.dto.PasswordRequestDto;
@@ -21,6 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.daramg.server.user.domain.UserRole;
 import com.daramg.server.user.domain.UserStatus;
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -39,6 +46,15 @@ public class UserServiceTest extends ServiceTestSupport {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UserStateCache userStateCache;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostQueryService postQueryService;
+
     private User follower;
     private User followed;
 
@@ -53,6 +69,7 @@ public class UserServiceTest extends ServiceTestSupport {
 
         userRepository.save(follower);
         userRepository.save(followed);
+        userStateCache.invalidateAll(); // 다른 테스트에서 같은 ID 로 캐시된 유저 제거
     }
 
     @Nested
@@ -248,6 +265,23 @@ public class UserServiceTest extends ServiceTestSupport {
             assertThat(updatedUser.getNickname()).isEqualTo(newNickname);
             assertThat(updatedUser.getBio()).isNull();
         }
+
+        @Test
+        void 프로필을_수정하면_캐시된_유저가_커밋_후_무효화된다() {
+            //given
+            User cachedUser = userStateCache.get(follower.getId(), userRepository::findById).orElseThrow();
+            UserProfileUpdateRequestDto request = new UserProfileUpdateRequestDto(null, "새닉네임", null);
+
+            //when
+            User beforeUpdate = userStateCache.get(follower.getId(), userRepository::findById).orElseThrow();
+            userService.updateUserProfile(follower, request);
+            User afterUpdate = userStateCache.get(follower.getId(), userRepository::findById).orElseThrow();
+
+            //then
+            assertThat(beforeUpdate).isSameAs(cachedUser);
+            assertThat(afterUpdate).isNotSameAs(cachedUser);
+            assertThat(afterUpdate.getNickname()).isEqualTo("새닉네임");
+        }
     }
 
     @Nested
@@ -485,6 +519,22 @@ public class UserServiceTest extends ServiceTestSupport {
             assertThat(withdrawnUser.getDeletedAt()).isNotNull();
         }
 
+        @Test
+        void 회원_탈퇴_시_캐시된_게시물_상세도_무효화된다() {
+            // given
+            Post post = postRepository.save(FreePost.from(
+                    new PostCreateVo.Free(follower, "제목", "내용", PostStatus.PUBLISHED, List.of(), null, List.of())
+            ));
+            postQueryService.getPostById(post.getId(), null);
+
+            // when
+            userService.withdraw(follower.getId());
+
+            // then
+            assertThatThrownBy(() -> postQueryService.getPostById(post.getId(), null))
+                    .isInstanceOf(NotFoundException.class);
+        }
+
         @Test
         void 존재하지_않는_유저_탈퇴_시_예외가_발생한다() {
             assertThatThrownBy(() -> userService.withdraw(999L))
@@ -0,0 +1,97 @@
+package com.daramg.server.user.application;
+
+import com.daramg.server.user.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UserStateCacheTest {
+
+    private final UserStateCache cache = new UserStateCache();
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private User user(Long id, String email) {
+        User user = new User(email, "password", "name", LocalDate.now(), null, "닉네임" + id, null, null);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    private Optional<User> load(User user) {
+        loadCount.incrementAndGet();
+        return Optional.of(user);
+    }
+
+    @Test
+    @DisplayName("같은 유저는 TTL 동안 한 번만 조회한다")
+    void get_LoadsOnce() {
+        // given
+        User user = user(1L, "user@test.com");
+
+        // when
+        User first = cache.get(1L, id -> load(user)).orElseThrow();
+        User second = cache.get(1L, id -> load(user)).orElseThrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("무효화된 유저는 다시 조회한다")
+    void invalidate_ReloadsUser() {
+        // given
+        User user = user(1L, "old@test.com");
+        cache.get(1L, id -> load(user));
+        User changed = user(1L, "new@test.com");
+
+        // when
+        cache.invalidate(1L);
+        User reloaded = cache.get(1L, id -> load(changed)).orElseThrow();
+
+        // then
+        assertThat(reloaded).isSameAs(changed);
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화된 유저는 저장하지 않는다")
+    void get_DoesNotStoreUserInvalidatedWhileLoading() {
+        // given
+        User stale = user(1L, "user@test.com");
+        cache.get(1L, id -> {
+            cache.invalidate(1L);
+            return load(stale);
+        });
+
+        // when
+        User fresh = user(1L, "user@test.com");
+        User found = cache.get(1L, id -> load(fresh)).orElseThrow();
+
+        // then
+        assertThat(found).isSameAs(fresh);
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 유저는 저장하지 않는다")
+    void get_DoesNotStoreMissingUser() {
+        // when
+        cache.get(1L, id -> {
+            loadCount.incrementAndGet();
+            return Optional.empty();
+        });
+        cache.get(1L, id -> {
+            loadCount.incrementAndGet();
+            return Optional.empty();
+        });
+
+        // then
+        assertThat(loadCount).hasValue(2);
+    }
+}
@@ -0,0 +1,143 @@
+package com.daramg.server.user.application;
+
+import com.daramg.server.comment.application.CommentService;
+import com.daramg.server.comment.domain.Comment;
+import com.daramg.server.comment.repository.CommentLikeRepository;
+import com.daramg.server.comment.repository.CommentRepository;
+import com.daramg.server.post.application.PostService;
+import com.daramg.server.post.domain.FreePost;
+import com.daramg.server.post.domain.Post;
+import com.daramg.server.post.domain.PostStatus;
+import com.daramg.server.post.domain.vo.PostCreateVo;
+import com.daramg.server.post.dto.CommentCreateDto;
+import com.daramg.server.post.repository.PostLikeRepository;
+import com.daramg.server.post.repository.PostRepository;
+import com.daramg.server.testsupport.support.ServiceTestSupport;
+import com.daramg.server.user.domain.User;
+import com.daramg.server.user.repository.UserFollowRepository;
+import com.daramg.server.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UserWithdrawalCleanupServiceTest extends ServiceTestSupport {
+
+    @Autowired
+    private UserWithdrawalCleanupService userWithdrawalCleanupService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserFollowRepository userFollowRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
+    private User withdrawing;
+    private User other;
+    private Post otherPost;
+    private Comment otherComment;
+
+    @BeforeEach
+    void setUp() {
+        User admin = new User("admin@test.com", "password", "Admin", LocalDate.now(), null, "관리자", null, null);
+        userRepository.save(admin); // id=1 로 저장되어 withdraw 시 공지 이관 대상으로 사용됨
+
+        withdrawing = new User("withdraw@test.com", "password", "탈퇴", LocalDate.now(), null, "탈퇴닉네임", null, null);
+        other = new User("other@test.com", "password", "다른유저", LocalDate.now(), null, "다른닉네임", null, null);
+        userRepository.saveAll(List.of(withdrawing, other));
+
+        otherPost = postRepository.save(FreePost.from(
+                new PostCreateVo.Free(other, "제목", "내용", PostStatus.PUBLISHED, List.of(), null, List.of())
+        ));
+        otherComment = commentRepository.save(Comment.of(otherPost, other, "다른 유저 댓글", null));
+
+        commentService.createComment(otherPost.getId(), new CommentCreateDto("탈퇴할 유저 댓글"), withdrawing);
+        commentService.toggleCommentLike(otherComment.getId(), withdrawing);
+        postService.toggleLike(otherPost.getId(), withdrawing);
+        userService.follow(withdrawing, other.getId());
+        userService.follow(other, withdrawing.getId());
+
+        userService.withdraw(withdrawing.getId());
+    }
+
+    private void cleanUpAll(Long userId) {
+        while (userWithdrawalCleanupService.cleanUpNextChunk(userId)) {
+            // 남은 청크가 없을 때까지 반복
+        }
+    }
+
+    @Nested
+    @DisplayName("탈퇴 유저 데이터 정리")
+    class CleanUpTest {
+
+        @Test
+        @DisplayName("탈퇴 유저의 댓글, 좋아요, 팔로우를 정리하고 다른 유저의 카운터를 다시 계산한다")
+        void cleanUp_RemovesDataAndRecomputesCounters() {
+            // given
+            assertThat(userWithdrawalCleanupService.findPendingUserIds(10)).containsExactly(withdrawing.getId());
+
+            // when
+            cleanUpAll(withdrawing.getId());
+
+            // then
+            Post post = postRepository.findById(otherPost.getId()).orElseThrow();
+            assertThat(post.getLikeCount()).isZero();
+            assertThat(post.getCommentCount()).isZero();
+            assertThat(commentRepository.findById(otherComment.getId()).orElseThrow().getLikeCount()).isZero();
+            assertThat(postLikeRepository.count()).isZero();
+            assertThat(commentLikeRepository.count()).isZero();
+            assertThat(userFollowRepository.count()).isZero();
+
+            User otherUser = userRepository.findById(other.getId()).orElseThrow();
+            assertThat(otherUser.getFollowerCount()).isZero();
+            assertThat(otherUser.getFollowingCount()).isZero();
+            assertThat(userRepository.findById(withdrawing.getId()).orElseThrow().getWithdrawalCleanedAt()).isNotNull();
+            assertThat(userWithdrawalCleanupService.findPendingUserIds(10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("중간에 멈춰도 처리된 청크까지는 카운터가 맞고, 다시 호출하면 남은 단계부터 이어서 처리한다")
+        void cleanUp_IsResumable() {
+            // given - 첫 청크(댓글)만 처리된 뒤 중단
+            userWithdrawalCleanupService.cleanUpNextChunk(withdrawing.getId());
+            Post partiallyCleaned = postRepository.findById(otherPost.getId()).orElseThrow();
+            assertThat(partiallyCleaned.getCommentCount()).isZero();
+            assertThat(partiallyCleaned.getLikeCount()).isEqualTo(1);
+            assertThat(userWithdrawalCleanupService.findPendingUserIds(10)).containsExactly(withdrawing.getId());
+
+            // when
+            cleanUpAll(withdrawing.getId());
+
+            // then
+            assertThat(postRepository.findById(otherPost.getId()).orElseThrow().getLikeCount()).isZero();
+            assertThat(userWithdrawalCleanupService.findPendingUserIds(10)).isEmpty();
+        }
+    }
+}
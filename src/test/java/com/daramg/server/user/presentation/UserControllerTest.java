@@ -1,5 +1,6 @@
 package com.daramg.server.user.presentation;
 
+import com.daramg.server.user.application.UserActivityExportService;
 import com.daramg.server.user.application.UserService;
 import com.daramg.server.testsupport.support.ControllerTestSupport;
 import com.daramg.server.user.domain.User;
@@ -15,22 +16,34 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
 import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.springframework.restdocs.cookies.CookieDocumentation.cookieWithName;
 import static org.springframework.restdocs.cookies.CookieDocumentation.requestCookies;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = UserController.class)
@@ -39,6 +52,9 @@ public class UserControllerTest extends ControllerTestSupport {
     @MockitoBean
     private UserService userService;
 
+    @MockitoBean
+    private UserActivityExportService userActivityExportService;
+
     @Test
     void 닉네임_중복_확인_사용가능() throws Exception {
         // given
@@ -383,4 +399,47 @@ public class UserControllerTest extends ControllerTestSupport {
                         )
                 ));
     }
+
+    @Test
+    void 유저_활동_내역을_내보낸다() throws Exception {
+        // given
+        String lines = """
+                {"type":"POST","data":{"id":1,"type":"FREE","title":"제목"}}
+                {"type":"COMMENT","data":{"id":3,"postId":1,"parentCommentId":null,"content":"댓글"}}
+                """;
+        willAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write(lines.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(userActivityExportService).export(isNull(), any(OutputStream.class));
+
+        Cookie cookie = new Cookie(COOKIE_NAME, "access_token");
+
+        // when
+        MvcResult asyncResult = mockMvc.perform(get("/users/export")
+                        .cookie(cookie))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions result = mockMvc.perform(asyncDispatch(asyncResult));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(content().string(lines))
+                .andDo(restDocsHandler.document(
+                        resource(ResourceSnippetParameters.builder()
+                                .tag("User API")
+                                .summary("유저 활동 내역 내보내기")
+                                .description("현재 로그인한 유저의 게시물, 댓글, 스크랩, 게시물 좋아요, 댓글 좋아요를 NDJSON 으로 스트리밍합니다. "
+                                        + "한 줄에 하나의 항목이 {\"type\": POST | COMMENT | POST_SCRAP | POST_LIKE | COMMENT_LIKE, \"data\": {...}} 형태로 담깁니다.")
+                                .build()
+                        ),
+                        requestCookies(
+                                cookieWithName(COOKIE_NAME).description("유저의 토큰")
+                        ),
+                        responseHeaders(
+                                headerWithName("Content-Disposition").description("첨부 파일 이름 (activity.ndjson)")
+                        )
+                ));
+    }
 }